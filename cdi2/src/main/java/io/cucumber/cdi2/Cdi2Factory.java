@@ -1,39 +1,103 @@
 package io.cucumber.cdi2;
 
+import io.cucumber.core.backend.CucumberBackendException;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.options.CucumberProperties;
 import org.apiguardian.api.API;
 
+import javax.enterprise.context.Dependent;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.se.SeContainer;
 import javax.enterprise.inject.se.SeContainerInitializer;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.Unmanaged;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @API(status = API.Status.STABLE)
 public final class Cdi2Factory implements ObjectFactory {
 
+    static final String CDI2_REUSE_CONTAINER_KEY = "cdi2.reuse-container";
+
+    private final boolean reuseContainer;
+    private final ScenarioScopeExtension scenarioScope = new ScenarioScopeExtension();
     private SeContainerInitializer initializer;
     private SeContainer container;
     private final Map<Class<?>, Unmanaged.UnmanagedInstance<?>> standaloneInstances = new HashMap<>();
+    private final List<Runnable> dependentInstances = new ArrayList<>();
+
+    public Cdi2Factory() {
+        this(CucumberProperties.create());
+    }
+
+    Cdi2Factory(Map<String, String> properties) {
+        this.reuseContainer = Boolean.parseBoolean(properties.get(CDI2_REUSE_CONTAINER_KEY));
+    }
 
     @Override
     public void start() {
-        container = getInitializer().initialize();
+        if (container == null) {
+            SeContainerInitializer containerInitializer = getInitializer().addExtensions(scenarioScope);
+            if (reuseContainer) {
+                // Containers are reused by a single runner, runners must not share an id
+                setUniqueContainerId(containerInitializer);
+            }
+            container = containerInitializer.initialize();
+            if (reuseContainer) {
+                SeContainer reused = container;
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    if (reused.isRunning()) {
+                        reused.close();
+                    }
+                }));
+            }
+        }
+        scenarioScope.getContext().activate();
+    }
+
+    /**
+     * Weld refuses to start a container with the same id as a running
+     * container. CDI has no standard container id, so it is set
+     * reflectively when the implementation supports it.
+     */
+    private static void setUniqueContainerId(SeContainerInitializer initializer) {
+        Method containerId;
+        try {
+            containerId = initializer.getClass().getMethod("containerId", String.class);
+        } catch (NoSuchMethodException e) {
+            return;
+        }
+        try {
+            containerId.invoke(initializer, "cucumber-" + UUID.randomUUID());
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new CucumberBackendException("Could not set the container id of " + initializer, e);
+        }
     }
 
     @Override
     public void stop() {
-        if (container != null) {
-            container.close();
-            container = null;
-            initializer = null;
-        }
         for (final Unmanaged.UnmanagedInstance<?> unmanaged : standaloneInstances.values()) {
             unmanaged.preDestroy();
             unmanaged.dispose();
         }
         standaloneInstances.clear();
+        // A reused container outlives the scenario, its dependent instances don't
+        for (Runnable destroy : dependentInstances) {
+            destroy.run();
+        }
+        dependentInstances.clear();
+        scenarioScope.getContext().deactivate();
+        if (container != null && !reuseContainer) {
+            container.close();
+            container = null;
+            initializer = null;
+        }
     }
 
     @Override
@@ -57,7 +121,17 @@ public final class Cdi2Factory implements ObjectFactory {
             standaloneInstances.put(type, value);
             return value.get();
         }
-        return selected.get();
+        final T instance = selected.get();
+        if (reuseContainer && isDependent(type)) {
+            dependentInstances.add(() -> selected.destroy(instance));
+        }
+        return instance;
+    }
+
+    private boolean isDependent(Class<?> type) {
+        BeanManager beanManager = container.getBeanManager();
+        Bean<?> bean = beanManager.resolve(beanManager.getBeans(type));
+        return bean != null && Dependent.class.equals(bean.getScope());
     }
 
     private SeContainerInitializer getInitializer() {
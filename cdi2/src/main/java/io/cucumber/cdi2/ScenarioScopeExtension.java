@@ -0,0 +1,24 @@
+package io.cucumber.cdi2;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+
+/**
+ * Registers the {@link ScenarioContext} with the container.
+ * <p>
+ * Intentionally duplicated in the weld module.
+ */
+final class ScenarioScopeExtension implements Extension {
+
+    private final ScenarioContext context = new ScenarioContext();
+
+    void addScenarioContext(@Observes AfterBeanDiscovery event) {
+        event.addContext(context);
+    }
+
+    ScenarioContext getContext() {
+        return context;
+    }
+
+}
@@ -3,6 +3,8 @@ package io.cucumber.cdi2;
 import io.cucumber.core.backend.ObjectFactory;
 import org.junit.jupiter.api.Test;
 
+import static io.cucumber.cdi2.Cdi2Factory.CDI2_REUSE_CONTAINER_KEY;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -41,4 +43,54 @@ class Cdi2FactoryTest {
         );
     }
 
+    @Test
+    void shouldReuseContainerAndGiveUsNewScenarioScopedInstancesForEachScenario() {
+
+        final ObjectFactory factory = new Cdi2Factory(singletonMap(CDI2_REUSE_CONTAINER_KEY, "true"));
+        factory.addClass(CDIBellyStepdefs.class);
+        factory.addClass(ScenarioScopedBelly.class);
+
+        // Scenario 1
+        factory.start();
+        factory.getInstance(Belly.class).setCukes(4);
+        factory.getInstance(ScenarioScopedBelly.class).setCukes(12);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        final int applicationScopedCukes = factory.getInstance(Belly.class).getCukes();
+        final int scenarioScopedCukes = factory.getInstance(ScenarioScopedBelly.class).getCukes();
+        factory.stop();
+
+        assertAll("Checking reused container",
+            () -> assertThat(applicationScopedCukes, is(4)),
+            () -> assertThat(scenarioScopedCukes, is(0))
+        );
+    }
+
+    @Test
+    void shouldDestroyDependentInstancesForEachScenarioWhenReusingContainer() {
+
+        final ObjectFactory factory = new Cdi2Factory(singletonMap(CDI2_REUSE_CONTAINER_KEY, "true"));
+        factory.addClass(DependentBelly.class);
+        DependentBelly.destroyed = 0;
+
+        // Scenario 1
+        factory.start();
+        factory.getInstance(DependentBelly.class);
+        factory.stop();
+        final int destroyedAfterScenario1 = DependentBelly.destroyed;
+
+        // Scenario 2
+        factory.start();
+        factory.getInstance(DependentBelly.class);
+        factory.stop();
+        final int destroyedAfterScenario2 = DependentBelly.destroyed;
+
+        assertAll("Checking destroyed dependent instances",
+            () -> assertThat(destroyedAfterScenario1, is(1)),
+            () -> assertThat(destroyedAfterScenario2, is(2))
+        );
+    }
+
 }
@@ -0,0 +1,13 @@
+package io.cucumber.cdi2;
+
+import javax.annotation.PreDestroy;
+
+public class DependentBelly {
+
+    static int destroyed;
+
+    @PreDestroy
+    void destroy() {
+        destroyed++;
+    }
+}
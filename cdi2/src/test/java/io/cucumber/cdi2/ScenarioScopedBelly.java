@@ -0,0 +1,14 @@
+package io.cucumber.cdi2;
+
+@ScenarioScoped
+public class ScenarioScopedBelly {
+    private int cukes;
+
+    public void setCukes(int cukes) {
+        this.cukes = cukes;
+    }
+
+    public int getCukes() {
+        return cukes;
+    }
+}
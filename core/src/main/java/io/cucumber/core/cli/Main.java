@@ -5,7 +5,7 @@ import io.cucumber.core.options.Constants;
 import io.cucumber.core.options.CucumberProperties;
 import io.cucumber.core.options.CucumberPropertiesParser;
 import io.cucumber.core.options.RuntimeOptions;
-import io.cucumber.core.runtime.Runtime;
+import io.cucumber.core.runtime.RuntimeSession;
 import org.apiguardian.api.API;
 
 /**
@@ -36,6 +36,24 @@ public class Main {
      * @return 0 if execution was successful, 1 if it was not (test failures)
      */
     public static byte run(String[] argv, ClassLoader classLoader) {
+        try (RuntimeSession session = new RuntimeSession(() -> classLoader)) {
+            return run(argv, session);
+        }
+    }
+
+    /**
+     * Launches the Cucumber-JVM command line in an existing session.
+     * <p>
+     * Tools that run Cucumber repeatedly in the same JVM can reuse a session
+     * to avoid locating backends, scanning the classpath and parsing
+     * unchanged features on every run.
+     *
+     * @param argv    runtime options. See details in the {@code cucumber.api.cli.Usage.txt} resource.
+     * @param session session used to run Cucumber
+     * @return 0 if execution was successful, 1 if it was not (test failures)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public static byte run(String[] argv, RuntimeSession session) {
         RuntimeOptions propertiesFileOptions = new CucumberPropertiesParser()
             .parse(CucumberProperties.fromPropertiesFile())
             .build();
@@ -54,13 +72,6 @@ public class Main {
             .addDefaultSummaryPrinterIfAbsent()
             .build(systemOptions);
 
-
-        final Runtime runtime = Runtime.builder()
-            .withRuntimeOptions(runtimeOptions)
-            .withClassLoader(() -> classLoader)
-            .build();
-
-        runtime.run();
-        return runtime.exitStatus();
+        return session.run(runtimeOptions);
     }
 }
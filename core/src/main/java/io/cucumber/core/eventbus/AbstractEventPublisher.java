@@ -4,46 +4,70 @@ import io.cucumber.plugin.event.Event;
 import io.cucumber.plugin.event.EventHandler;
 import io.cucumber.plugin.event.EventPublisher;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public abstract class AbstractEventPublisher implements EventPublisher {
-    protected final Map<Class<? extends Event>, List<EventHandler>> handlers = new HashMap<>();
+    private static final EventHandler[] NO_HANDLERS = new EventHandler[0];
+
+    /**
+     * Handlers by event type. The arrays are never modified, they are
+     * replaced when a handler is added or removed. So events are dispatched
+     * without copying and handlers may be added or removed while an event is
+     * being dispatched.
+     */
+    private final Map<Class<? extends Event>, EventHandler[]> handlers = new HashMap<>();
 
     @Override
     public final <T extends Event> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
-        if (handlers.containsKey(eventType)) {
-            handlers.get(eventType).add(handler);
-        } else {
-            List<EventHandler> list = new ArrayList<>();
-            list.add(handler);
-            handlers.put(eventType, list);
-        }
+        EventHandler[] current = handlers.getOrDefault(eventType, NO_HANDLERS);
+        EventHandler[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = handler;
+        handlers.put(eventType, updated);
     }
 
     @Override
     public final <T extends Event> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
-        if (handlers.containsKey(eventType)) {
-            handlers.get(eventType).remove(handler);
+        EventHandler[] current = handlers.get(eventType);
+        if (current == null) {
+            return;
+        }
+        int index = indexOf(current, handler);
+        if (index < 0) {
+            return;
         }
+        if (current.length == 1) {
+            handlers.remove(eventType);
+            return;
+        }
+        EventHandler[] updated = new EventHandler[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 1, updated, index, updated.length - index);
+        handlers.put(eventType, updated);
     }
 
-
-    protected void send(Event event) {
-        if (handlers.containsKey(Event.class)) {
-            for (EventHandler handler : handlers.get(Event.class)) {
-                //noinspection unchecked: protected by registerHandlerFor
-                handler.receive(event);
+    private static int indexOf(EventHandler[] handlers, EventHandler handler) {
+        for (int i = 0; i < handlers.length; i++) {
+            if (handlers[i].equals(handler)) {
+                return i;
             }
         }
+        return -1;
+    }
 
-        if (handlers.containsKey(event.getClass())) {
-            for (EventHandler handler : handlers.get(event.getClass())) {
-                //noinspection unchecked: protected by registerHandlerFor
-                handler.receive(event);
-            }
+    protected void send(Event event) {
+        send(handlers.get(Event.class), event);
+        send(handlers.get(event.getClass()), event);
+    }
+
+    private static void send(EventHandler[] handlers, Event event) {
+        if (handlers == null) {
+            return;
+        }
+        for (EventHandler handler : handlers) {
+            //noinspection unchecked: protected by registerHandlerFor
+            handler.receive(event);
         }
     }
 
@@ -0,0 +1,45 @@
+package io.cucumber.core.feature;
+
+import io.cucumber.core.resource.Resource;
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parses features and keeps the parsed features for reuse.
+ * <p>
+ * A resource is always read. It is only parsed again when its source
+ * differs from the source of the feature that was parsed before.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class CachingFeatureParser implements Function<Resource, CucumberFeature> {
+
+    private final Map<URI, CucumberFeature> features = new ConcurrentHashMap<>();
+
+    @Override
+    public CucumberFeature apply(Resource resource) {
+        requireNonNull(resource);
+        URI uri = resource.getUri();
+        String source = FeatureParser.read(resource);
+        CucumberFeature cached = features.get(uri);
+        if (cached != null && cached.getSource().equals(source)) {
+            return cached;
+        }
+        CucumberFeature feature = FeatureParser.parseSource(uri, source);
+        features.put(uri, feature);
+        return feature;
+    }
+
+    /**
+     * Discards all parsed features.
+     */
+    public void clear() {
+        features.clear();
+    }
+
+}
@@ -4,7 +4,9 @@ import gherkin.ast.GherkinDocument;
 import gherkin.ast.ScenarioOutline;
 
 import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -12,6 +14,7 @@ import java.util.stream.Stream;
 public final class CucumberFeature implements Located, Named, Container<CucumberScenarioDefinition> {
     private final URI uri;
     private final List<CucumberPickle> pickles;
+    private final Map<CucumberLocation, CucumberPickle> picklesByLocation;
     private final GherkinDocument gherkinDocument;
     private final String gherkinSource;
 
@@ -20,6 +23,15 @@ public final class CucumberFeature implements Located, Named, Container<Cucumber
         this.uri = uri;
         this.gherkinSource = gherkinSource;
         this.pickles = pickles;
+        this.picklesByLocation = indexByLocation(pickles);
+    }
+
+    private static Map<CucumberLocation, CucumberPickle> indexByLocation(List<CucumberPickle> pickles) {
+        Map<CucumberLocation, CucumberPickle> picklesByLocation = new HashMap<>(pickles.size() * 2);
+        for (CucumberPickle pickle : pickles) {
+            picklesByLocation.putIfAbsent(pickle.getLocation(), pickle);
+        }
+        return picklesByLocation;
     }
 
     @Override
@@ -79,7 +91,7 @@ public final class CucumberFeature implements Located, Named, Container<Cucumber
     }
 
     public Optional<CucumberPickle> getPickleAt(CucumberLocation line) {
-        return pickles.stream().filter(cucumberPickle -> cucumberPickle.getLocation().equals(line)).findFirst();
+        return Optional.ofNullable(picklesByLocation.get(line));
     }
 
 }
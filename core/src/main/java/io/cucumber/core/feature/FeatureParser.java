@@ -26,22 +26,23 @@ public class FeatureParser {
 
     public static CucumberFeature parseResource(Resource resource) {
         requireNonNull(resource);
-        URI uri = resource.getUri();
-        String source = read(resource);
+        return parseSource(resource.getUri(), read(resource));
+    }
 
+    static CucumberFeature parseSource(URI uri, String source) {
         try {
             Parser<GherkinDocument> parser = new Parser<>(new AstBuilder());
             TokenMatcher matcher = new TokenMatcher();
             GherkinDocument gherkinDocument = parser.parse(source, matcher);
             GherkinDialectProvider dialectProvider = new GherkinDialectProvider();
-            List<CucumberPickle> pickles = compilePickles(gherkinDocument, dialectProvider, resource);
+            List<CucumberPickle> pickles = compilePickles(gherkinDocument, dialectProvider, uri);
             return new CucumberFeature(gherkinDocument, uri, source, pickles);
         } catch (ParserException e) {
             throw new CucumberException("Failed to parse resource at: " + uri.toString(), e);
         }
     }
 
-    private static String read(Resource resource) {
+    static String read(Resource resource) {
         try {
             return Encoding.readFile(resource);
         } catch (IOException e) {
@@ -50,7 +51,7 @@ public class FeatureParser {
     }
 
 
-    private static List<CucumberPickle> compilePickles(GherkinDocument document, GherkinDialectProvider dialectProvider, Resource resource) {
+    private static List<CucumberPickle> compilePickles(GherkinDocument document, GherkinDialectProvider dialectProvider, URI uri) {
         if (document.getFeature() == null) {
             return Collections.emptyList();
         }
@@ -58,7 +59,7 @@ public class FeatureParser {
         GherkinDialect dialect = dialectProvider.getDialect(language, null);
         return new Compiler().compile(document)
             .stream()
-            .map(pickle -> new CucumberPickle(pickle, resource.getUri(), document, dialect))
+            .map(pickle -> new CucumberPickle(pickle, uri, document, dialect))
             .collect(Collectors.toList());
     }
 }
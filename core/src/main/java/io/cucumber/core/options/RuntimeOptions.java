@@ -38,6 +38,7 @@ public final class RuntimeOptions implements
     private boolean wip = false;
     private SnippetType snippetType = SnippetType.UNDERSCORE;
     private int threads = 1;
+    private int forks = 1;
     private PickleOrder pickleOrder = StandardPickleOrders.lexicalUriOrder();
     private int count = 0;
 
@@ -193,6 +194,10 @@ public final class RuntimeOptions implements
         return threads;
     }
 
+    public int getForks() {
+        return forks;
+    }
+
     public PickleOrder getPickleOrder() {
         return pickleOrder;
     }
@@ -217,6 +222,10 @@ public final class RuntimeOptions implements
         this.threads = threads;
     }
 
+    void setForks(int forks) {
+        this.forks = forks;
+    }
+
     void setWip(boolean wip) {
         this.wip = wip;
     }
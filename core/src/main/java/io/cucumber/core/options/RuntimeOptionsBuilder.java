@@ -22,6 +22,7 @@ public final class RuntimeOptionsBuilder {
     private final ParsedPluginData parsedPluginData = new ParsedPluginData();
     private List<FeatureWithLines> parsedRerunPaths = null;
     private Integer parsedThreads = null;
+    private Integer parsedForks = null;
     private Boolean parsedDryRun = null;
     private Boolean parsedStrict = null;
     private Boolean parsedMonochrome = null;
@@ -75,6 +76,10 @@ public final class RuntimeOptionsBuilder {
             runtimeOptions.setThreads(this.parsedThreads);
         }
 
+        if (this.parsedForks != null) {
+            runtimeOptions.setForks(this.parsedForks);
+        }
+
         if (this.parsedDryRun != null) {
             runtimeOptions.setDryRun(this.parsedDryRun);
         }
@@ -190,6 +195,11 @@ public final class RuntimeOptionsBuilder {
         return this;
     }
 
+    public RuntimeOptionsBuilder setForks(int forks) {
+        this.parsedForks = forks;
+        return this;
+    }
+
     public RuntimeOptionsBuilder setWip(boolean wip) {
         this.parsedWip = wip;
         return this;
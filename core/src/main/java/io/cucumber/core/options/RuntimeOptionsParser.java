@@ -148,6 +148,8 @@ final class RuntimeOptionsParser {
     RuntimeOptionsBuilder parse(List<String> args) {
         args = new ArrayList<>(args);
         RuntimeOptionsBuilder parsedOptions = new RuntimeOptionsBuilder();
+        boolean threadsParsed = false;
+        boolean forksParsed = false;
 
         while (!args.isEmpty()) {
             String arg = args.remove(0).trim();
@@ -167,6 +169,14 @@ final class RuntimeOptionsParser {
                     throw new CucumberException("--threads must be > 0");
                 }
                 parsedOptions.setThreads(threads);
+                threadsParsed = true;
+            } else if (arg.equals("--forks")) {
+                int forks = Integer.parseInt(removeArgFor(arg, args));
+                if (forks < 1) {
+                    throw new CucumberException("--forks must be > 0");
+                }
+                parsedOptions.setForks(forks);
+                forksParsed = true;
             } else if (arg.equals("--glue") || arg.equals("-g")) {
                 String gluePath = removeArgFor(arg, args);
                 URI parse = GluePath.parse(gluePath);
@@ -214,6 +224,10 @@ final class RuntimeOptionsParser {
                 }
             }
         }
+        if (threadsParsed && forksParsed) {
+            // Forks run one scenario at a time each, threads would not be used
+            throw new CucumberException("--threads and --forks can not be used together");
+        }
         return parsedOptions;
     }
 
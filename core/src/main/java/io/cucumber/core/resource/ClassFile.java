@@ -0,0 +1,199 @@
+package io.cucumber.core.resource;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Minimal class file reader.
+ * <p>
+ * Reads just enough of a class file to decide if a class is a glue
+ * candidate without loading it. I.e. the names of the class and its direct
+ * super types and whether any of its methods carry runtime visible
+ * annotations.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se8/html/jvms-4.html">The class File Format</a>
+ */
+final class ClassFile {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELD_REF = 9;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private final String name;
+    private final String superName;
+    private final List<String> interfaceNames;
+    private final boolean annotatedMethods;
+
+    private ClassFile(String name, String superName, List<String> interfaceNames, boolean annotatedMethods) {
+        this.name = name;
+        this.superName = superName;
+        this.interfaceNames = interfaceNames;
+        this.annotatedMethods = annotatedMethods;
+    }
+
+    /**
+     * Reads a class file.
+     *
+     * @param inputStream the class file, not closed by this method
+     * @return the class file or empty if the stream was not a valid class
+     * file
+     * @throws IOException if the stream could not be read
+     */
+    static Optional<ClassFile> read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != MAGIC) {
+            return Optional.empty();
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8 = new String[constantPoolCount];
+        int[] classNameIndex = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    utf8[i] = in.readUTF();
+                    break;
+                case CONSTANT_CLASS:
+                    classNameIndex[i] = in.readUnsignedShort();
+                    break;
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    skipFully(in, 2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    skipFully(in, 3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELD_REF:
+                case CONSTANT_METHOD_REF:
+                case CONSTANT_INTERFACE_METHOD_REF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    skipFully(in, 4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    skipFully(in, 8);
+                    // Long and double take up two entries
+                    i++;
+                    break;
+                default:
+                    return Optional.empty();
+            }
+        }
+
+        in.readUnsignedShort(); // access flags
+        String name = utf8[classNameIndex[in.readUnsignedShort()]];
+        int superClass = in.readUnsignedShort();
+        String superName = superClass == 0 ? null : utf8[classNameIndex[superClass]];
+
+        int interfacesCount = in.readUnsignedShort();
+        List<String> interfaceNames = new ArrayList<>(interfacesCount);
+        for (int i = 0; i < interfacesCount; i++) {
+            interfaceNames.add(utf8[classNameIndex[in.readUnsignedShort()]]);
+        }
+
+        int fieldsCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldsCount; i++) {
+            skipFully(in, 6); // access flags, name and descriptor
+            skipAttributes(in);
+        }
+
+        boolean annotatedMethods = false;
+        int methodsCount = in.readUnsignedShort();
+        for (int i = 0; i < methodsCount && !annotatedMethods; i++) {
+            skipFully(in, 6); // access flags, name and descriptor
+            int attributesCount = in.readUnsignedShort();
+            for (int j = 0; j < attributesCount; j++) {
+                String attributeName = utf8[in.readUnsignedShort()];
+                if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                    annotatedMethods = true;
+                    break;
+                }
+                skipFully(in, in.readInt());
+            }
+        }
+
+        return Optional.of(new ClassFile(name, superName, Collections.unmodifiableList(interfaceNames), annotatedMethods));
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributesCount = in.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            in.readUnsignedShort(); // attribute name
+            skipFully(in, in.readInt());
+        }
+    }
+
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                // Skip bytes may stop early, read a byte to detect EOF
+                in.readByte();
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * @return the internal name of this class e.g. {@code com/example/Steps}
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return the internal names of the direct super class and interfaces
+     */
+    List<String> getSuperTypeNames() {
+        if (superName == null) {
+            return interfaceNames;
+        }
+        List<String> superTypeNames = new ArrayList<>(interfaceNames.size() + 1);
+        superTypeNames.add(superName);
+        superTypeNames.addAll(interfaceNames);
+        return superTypeNames;
+    }
+
+    /**
+     * @return true iff any method declared by this class has runtime visible
+     * annotations
+     */
+    boolean hasAnnotatedMethods() {
+        return annotatedMethods;
+    }
+
+}
@@ -0,0 +1,108 @@
+package io.cucumber.core.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static io.cucumber.core.resource.ClasspathSupport.PACKAGE_SEPARATOR_STRING;
+import static io.cucumber.core.resource.ClasspathSupport.RESOURCE_SEPARATOR_STRING;
+
+/**
+ * Walks the type hierarchy of class files without loading any classes.
+ * <p>
+ * Class files are read from the class loader and cached for the lifetime
+ * of this instance. Types in the {@code java} package and its sub packages
+ * are never inspected.
+ */
+final class ClassHierarchy {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String JAVA_PACKAGE_PREFIX = "java/";
+
+    private final Map<String, Optional<ClassFile>> classFiles = new ConcurrentHashMap<>();
+    private final ClassLoader classLoader;
+
+    ClassHierarchy(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    static String internalName(String className) {
+        return className.replace(PACKAGE_SEPARATOR_STRING, RESOURCE_SEPARATOR_STRING);
+    }
+
+    static boolean isJavaType(String internalName) {
+        return internalName.startsWith(JAVA_PACKAGE_PREFIX);
+    }
+
+    /**
+     * Reads a class file from the class loader.
+     *
+     * @param internalName the internal name of the class
+     * @return the class file or empty if it could not be read
+     */
+    Optional<ClassFile> read(String internalName) {
+        Optional<ClassFile> classFile = classFiles.get(internalName);
+        if (classFile != null) {
+            return classFile;
+        }
+        classFile = readFromClassLoader(internalName);
+        Optional<ClassFile> existing = classFiles.putIfAbsent(internalName, classFile);
+        return existing != null ? existing : classFile;
+    }
+
+    private Optional<ClassFile> readFromClassLoader(String internalName) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(internalName + CLASS_FILE_SUFFIX)) {
+            if (inputStream == null) {
+                return Optional.empty();
+            }
+            return ClassFile.read(inputStream);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Tests if the class or any of its non-java super types match the
+     * predicate.
+     * <p>
+     * When a super type can not be read this method errs on the side of
+     * caution and returns true.
+     *
+     * @param classFile the class file to test
+     * @param predicate the predicate to test with
+     * @return true if any type in the hierarchy matched or the hierarchy
+     * could not be read
+     */
+    boolean anyMatch(ClassFile classFile, Predicate<ClassFile> predicate) {
+        if (predicate.test(classFile)) {
+            return true;
+        }
+        for (String superTypeName : classFile.getSuperTypeNames()) {
+            if (isJavaType(superTypeName)) {
+                continue;
+            }
+            Optional<ClassFile> superType = read(superTypeName);
+            if (!superType.isPresent() || anyMatch(superType.get(), predicate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests if the class is a sub type of {@code parentInternalName}.
+     *
+     * @param classFile          the class file to test
+     * @param parentInternalName the internal name of the parent type, must
+     *                           not be a type in the {@code java} package
+     * @return true if the class is a subtype or the hierarchy could not be
+     * read
+     */
+    boolean isSubTypeOf(ClassFile classFile, String parentInternalName) {
+        return anyMatch(classFile, type -> type.getSuperTypeNames().contains(parentInternalName));
+    }
+
+}
@@ -0,0 +1,147 @@
+package io.cucumber.core.resource;
+
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Caches the result of scanning glue paths for glue.
+ * <p>
+ * Each combination of class loader and glue paths is scanned once, also
+ * when requested concurrently. A scan that fails is not cached and will be
+ * retried by the next request.
+ * <p>
+ * The cache holds on to the class loaders it scanned. It should be owned by
+ * an object with the same life time as the glue, e.g. a
+ * {@link io.cucumber.core.backend.BackendProviderService}.
+ *
+ * @param <T> the type of glue discovered
+ */
+@API(status = API.Status.INTERNAL)
+public final class ClasspathScanCache<T> {
+
+    private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+    private final ConcurrentMap<Key, CompletableFuture<List<T>>> scans = new ConcurrentHashMap<>();
+    private final BiFunction<ClassLoader, List<URI>, List<T>> scan;
+
+    /**
+     * @param scan scans the glue paths using the class loader
+     */
+    public ClasspathScanCache(BiFunction<ClassLoader, List<URI>, List<T>> scan) {
+        this.scan = scan;
+    }
+
+    public List<T> get(ClassLoader classLoader, List<URI> gluePaths) {
+        Key key = new Key(classLoader, gluePaths);
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        CompletableFuture<List<T>> existing = scans.putIfAbsent(key, future);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            future.complete(unmodifiableList(scan.apply(classLoader, gluePaths)));
+        } catch (RuntimeException | Error e) {
+            scans.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return join(future);
+    }
+
+    /**
+     * Applies the task to all inputs concurrently. The results are merged in
+     * the order of the inputs.
+     * <p>
+     * The tasks run on threads that use the class loader as their context
+     * class loader. Exceptions thrown by a task are rethrown unchanged.
+     *
+     * @param classLoader the class loader used to load glue
+     * @param inputs      the inputs for the task
+     * @param task        the task to apply
+     * @param <S>         the type of the inputs
+     * @param <R>         the type of the results
+     * @return the merged results of all tasks
+     */
+    public static <S, R> List<R> inParallel(ClassLoader classLoader, List<S> inputs, Function<S, List<R>> task) {
+        if (inputs.size() < 2) {
+            return inputs.stream()
+                .map(task)
+                .flatMap(Collection::stream)
+                .collect(toList());
+        }
+        int threads = Math.min(inputs.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cucumber-glue-scan-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<List<R>>> futures = inputs.stream()
+                .map(input -> CompletableFuture.supplyAsync(() -> task.apply(input), executor))
+                .collect(toList());
+            return futures.stream()
+                .map(ClasspathScanCache::join)
+                .flatMap(Collection::stream)
+                .collect(toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Key {
+
+        private final ClassLoader classLoader;
+        private final List<URI> gluePaths;
+
+        private Key(ClassLoader classLoader, List<URI> gluePaths) {
+            this.classLoader = classLoader;
+            this.gluePaths = new ArrayList<>(gluePaths);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return classLoader.equals(key.classLoader) && gluePaths.equals(key.gluePaths);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(classLoader, gluePaths);
+        }
+    }
+
+}
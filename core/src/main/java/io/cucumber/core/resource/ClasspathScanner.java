@@ -1,6 +1,9 @@
 package io.cucumber.core.resource;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -11,6 +14,8 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static io.cucumber.core.resource.ClassHierarchy.internalName;
+import static io.cucumber.core.resource.ClassHierarchy.isJavaType;
 import static io.cucumber.core.resource.ClasspathSupport.determineFullyQualifiedClassName;
 import static io.cucumber.core.resource.ClasspathSupport.getRootUrisForPackage;
 import static io.cucumber.core.resource.ClasspathSupport.requireValidPackageName;
@@ -23,6 +28,8 @@ public final class ClasspathScanner {
     private static final String PACKAGE_INFO_FILE_NAME = "package-info" + CLASS_FILE_SUFFIX;
     private static final String MODULE_INFO_FILE_NAME = "module-info" + CLASS_FILE_SUFFIX;
     private static final Predicate<Class<?>> NULL_FILTER = aClass -> true;
+    private static final Predicate<ClassFile> NULL_CLASS_FILE_PREDICATE = classFile -> true;
+    private static final Function<ClassHierarchy, Predicate<ClassFile>> NULL_CLASS_FILE_FILTER = hierarchy -> NULL_CLASS_FILE_PREDICATE;
 
     private final PathScanner pathScanner = new PathScanner();
 
@@ -48,48 +55,124 @@ public final class ClasspathScanner {
         return aClass -> !parentClass.equals(aClass) && parentClass.isAssignableFrom(aClass);
     }
 
+    private static <T> Function<ClassHierarchy, Predicate<ClassFile>> isSubTypeOf(Class<T> parentClass) {
+        String parentInternalName = internalName(parentClass.getName());
+        if (isJavaType(parentInternalName)) {
+            // The hierarchy of java types is not inspected
+            return NULL_CLASS_FILE_FILTER;
+        }
+        return hierarchy -> classFile -> hierarchy.isSubTypeOf(classFile, parentInternalName);
+    }
+
+    private static Function<ClassHierarchy, Predicate<ClassFile>> hasAnnotatedMethods() {
+        return hierarchy -> classFile -> hierarchy.anyMatch(classFile, ClassFile::hasAnnotatedMethods);
+    }
+
     public <T> List<Class<? extends T>> scanForSubClassesInPackage(String basePackageName, Class<T> parentClass) {
-        return scanForClassesInPackage(basePackageName, isSubClassOf(parentClass))
+        return scanForClassesInPackage(basePackageName, isSubTypeOf(parentClass), isSubClassOf(parentClass))
             .stream()
             .map(aClass -> (Class<? extends T>) aClass.asSubclass(parentClass))
             .collect(toList());
     }
 
     public List<Class<?>> scanForClassesInPackage(String basePackageName) {
-        return scanForClassesInPackage(basePackageName, NULL_FILTER);
+        return scanForClassesInPackage(basePackageName, NULL_CLASS_FILE_FILTER, NULL_FILTER);
     }
 
-    private List<Class<?>> scanForClassesInPackage(String basePackageName, Predicate<Class<?>> classFilter) {
+    /**
+     * Scans for classes that declare or inherit methods with runtime visible
+     * annotations.
+     * <p>
+     * The class files are inspected before loading a class. Classes without
+     * annotated methods are not loaded.
+     *
+     * @param basePackageName the package to scan
+     * @return classes with annotated methods
+     */
+    public List<Class<?>> scanForClassesWithAnnotatedMethodsInPackage(String basePackageName) {
+        return scanForClassesInPackage(basePackageName, hasAnnotatedMethods(), NULL_FILTER);
+    }
+
+    private List<Class<?>> scanForClassesInPackage(String basePackageName,
+                                                   Function<ClassHierarchy, Predicate<ClassFile>> classFileFilter,
+                                                   Predicate<Class<?>> classFilter) {
         requireValidPackageName(basePackageName);
+        requireNonNull(classFileFilter, "classFileFilter must not be null");
         requireNonNull(classFilter, "classFilter must not be null");
         basePackageName = basePackageName.trim();
         List<URI> rootUris = getRootUrisForPackage(getClassLoader(), basePackageName);
-        return findClassesForUris(rootUris, basePackageName, classFilter);
+        GlueIndex glueIndex = GlueIndex.load(getClassLoader());
+        ClassHierarchy hierarchy = new ClassHierarchy(getClassLoader());
+        Predicate<ClassFile> isCandidate = classFileFilter.apply(hierarchy);
+        return findClassesForUris(rootUris, basePackageName, glueIndex, hierarchy, isCandidate, classFilter);
     }
 
-    private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, Predicate<Class<?>> classFilter) {
+    private List<Class<?>> findClassesForUris(List<URI> baseUris,
+                                              String basePackageName,
+                                              GlueIndex glueIndex,
+                                              ClassHierarchy hierarchy,
+                                              Predicate<ClassFile> isCandidate,
+                                              Predicate<Class<?>> classFilter) {
         return baseUris.stream()
-            .map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter))
+            .map(baseUri -> glueIndex.findClassNamesInPackage(baseUri, basePackageName)
+                .map(classNames -> findClassesForClassNames(classNames, hierarchy, isCandidate, classFilter))
+                .orElseGet(() -> findClassesForUri(baseUri, basePackageName, isCandidate, classFilter)))
             .flatMap(Collection::stream)
             .distinct()
             .collect(toList());
     }
 
-    private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, Predicate<Class<?>> classFilter) {
+    private List<Class<?>> findClassesForClassNames(List<String> classNames,
+                                                    ClassHierarchy hierarchy,
+                                                    Predicate<ClassFile> isCandidate,
+                                                    Predicate<Class<?>> classFilter) {
+        List<Class<?>> classes = new ArrayList<>();
+        classNames.stream()
+            .filter(fqn -> hierarchy.read(internalName(fqn)).map(isCandidate::test).orElse(true))
+            .forEach(processClass(classFilter, classes::add));
+        return classes;
+    }
+
+    private List<Class<?>> findClassesForUri(URI baseUri,
+                                             String basePackageName,
+                                             Predicate<ClassFile> isCandidate,
+                                             Predicate<Class<?>> classFilter) {
         List<Class<?>> classes = new ArrayList<>();
         pathScanner.findResourcesForUri(
             baseUri,
             path -> isNotModuleInfo(path) && isNotPackageInfo(path) && isClassFile(path),
-            processClassFiles(basePackageName, classFilter, classes::add)
+            processClassFiles(basePackageName, isCandidate, classFilter, classes::add)
         );
         return classes;
     }
 
     private Function<Path, Consumer<Path>> processClassFiles(String basePackageName,
+                                                             Predicate<ClassFile> isCandidate,
                                                              Predicate<Class<?>> classFilter,
                                                              Consumer<Class<?>> classConsumer) {
         return baseDir -> classFile -> {
+            if (!isCandidate(classFile, isCandidate)) {
+                return;
+            }
             String fqn = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
+            processClass(classFilter, classConsumer).accept(fqn);
+        };
+    }
+
+    private static boolean isCandidate(Path classFile, Predicate<ClassFile> isCandidate) {
+        if (isCandidate == NULL_CLASS_FILE_PREDICATE) {
+            return true;
+        }
+        try (InputStream inputStream = Files.newInputStream(classFile)) {
+            // Err on the side of caution and load classes we can't read
+            return ClassFile.read(inputStream).map(isCandidate::test).orElse(true);
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private Consumer<String> processClass(Predicate<Class<?>> classFilter, Consumer<Class<?>> classConsumer) {
+        return fqn -> {
             try {
                 Optional.of(getClassLoader().loadClass(fqn))
                     .filter(classFilter)
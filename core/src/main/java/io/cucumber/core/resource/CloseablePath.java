@@ -20,7 +20,11 @@ class CloseablePath implements Closeable {
     }
 
     static CloseablePath open(URI uri) {
-        return CloseablePath.open(Paths.get(uri), NULL_CLOSEABLE);
+        return CloseablePath.open(Paths.get(uri));
+    }
+
+    static CloseablePath open(Path path) {
+        return CloseablePath.open(path, NULL_CLOSEABLE);
     }
 
     static CloseablePath open(Path path, Closeable o) {
@@ -0,0 +1,127 @@
+package io.cucumber.core.resource;
+
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import static io.cucumber.core.resource.ClasspathSupport.DEFAULT_PACKAGE_NAME;
+import static io.cucumber.core.resource.ClasspathSupport.PACKAGE_SEPARATOR_STRING;
+import static io.cucumber.core.resource.ClasspathSupport.RESOURCE_SEPARATOR_STRING;
+import static io.cucumber.core.resource.ClasspathSupport.getUrisForResource;
+import static io.cucumber.core.resource.ClasspathSupport.packagePath;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.synchronizedMap;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Pre-computed list of glue classes per classpath root.
+ * <p>
+ * Classpath roots that contain a {@value #GLUE_INDEX_RESOURCE} resource
+ * are not walked. Instead only the classes listed in the index are
+ * considered. The index is typically generated at build time by the
+ * {@link GlueIndexProcessor}.
+ * <p>
+ * The index is a UTF-8 text file with one binary class name per line. Blank
+ * lines and lines starting with {@code #} are ignored.
+ * <p>
+ * The indexes are read once per class loader. The class loader is weakly
+ * referenced so the cache does not keep it alive.
+ */
+final class GlueIndex {
+
+    static final String GLUE_INDEX_RESOURCE = "META-INF/cucumber/glue.idx";
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Logger log = LoggerFactory.getLogger(GlueIndex.class);
+    private static final Map<ClassLoader, GlueIndex> indexes = synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, List<String>> classNamesByRoot;
+
+    private GlueIndex(Map<String, List<String>> classNamesByRoot) {
+        this.classNamesByRoot = classNamesByRoot;
+    }
+
+    static GlueIndex load(ClassLoader classLoader) {
+        return indexes.computeIfAbsent(classLoader, GlueIndex::read);
+    }
+
+    private static GlueIndex read(ClassLoader classLoader) {
+        Map<String, List<String>> classNamesByRoot = new HashMap<>();
+        for (URI indexUri : getUrisForResource(classLoader, GLUE_INDEX_RESOURCE)) {
+            String uri = indexUri.toString();
+            String root = uri.substring(0, uri.length() - GLUE_INDEX_RESOURCE.length());
+            classNamesByRoot.put(root, readClassNames(indexUri));
+        }
+        return new GlueIndex(classNamesByRoot);
+    }
+
+    private static List<String> readClassNames(URI indexUri) {
+        List<String> classNames = new ArrayList<>();
+        try (InputStream inputStream = indexUri.toURL().openStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String className = line.trim();
+                if (!className.isEmpty() && !className.startsWith(COMMENT_PREFIX)) {
+                    classNames.add(className);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read glue index " + indexUri, e);
+        }
+        log.debug(() -> "Read " + classNames.size() + " glue classes from " + indexUri);
+        return classNames;
+    }
+
+    /**
+     * Returns the indexed classes in {@code basePackageName} and its sub
+     * packages for the classpath root that provided {@code packageUri}.
+     *
+     * @param packageUri      the location of the package in a classpath root
+     * @param basePackageName the name of the package
+     * @return the fully qualified names of the indexed classes or empty if
+     * the classpath root was not indexed
+     */
+    Optional<List<String>> findClassNamesInPackage(URI packageUri, String basePackageName) {
+        if (classNamesByRoot.isEmpty()) {
+            return Optional.empty();
+        }
+        return classpathRootOf(packageUri, packagePath(basePackageName))
+            .map(classNamesByRoot::get)
+            .map(classNames -> classNames.stream()
+                .filter(className -> isInPackage(className, basePackageName))
+                .collect(toList())
+            );
+    }
+
+    private static Optional<String> classpathRootOf(URI packageUri, String packagePath) {
+        String uri = packageUri.toString();
+        if (uri.endsWith(RESOURCE_SEPARATOR_STRING)) {
+            uri = uri.substring(0, uri.length() - 1);
+        }
+        if (packagePath.isEmpty()) {
+            return Optional.of(uri + RESOURCE_SEPARATOR_STRING);
+        }
+        if (!uri.endsWith(RESOURCE_SEPARATOR_STRING + packagePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(uri.substring(0, uri.length() - packagePath.length()));
+    }
+
+    private static boolean isInPackage(String className, String basePackageName) {
+        return DEFAULT_PACKAGE_NAME.equals(basePackageName)
+            || className.startsWith(basePackageName + PACKAGE_SEPARATOR_STRING);
+    }
+
+}
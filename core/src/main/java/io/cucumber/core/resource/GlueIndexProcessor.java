@@ -0,0 +1,135 @@
+package io.cucumber.core.resource;
+
+import org.apiguardian.api.API;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.cucumber.core.resource.GlueIndex.GLUE_INDEX_RESOURCE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Generates the {@value GlueIndex#GLUE_INDEX_RESOURCE} glue index at compile
+ * time.
+ * <p>
+ * The index lists all classes that declare or inherit methods annotated with
+ * {@code io.cucumber.java} annotations or implement {@code LambdaGlue} or
+ * {@code TypeRegistryConfigurer}. When present Cucumber will not walk the
+ * classpath root that contains the index but load the listed classes instead.
+ * <p>
+ * The processor is not registered as a service and must be enabled
+ * explicitly. E.g. using {@code -processor
+ * io.cucumber.core.resource.GlueIndexProcessor}. Because the index is
+ * written from the classes seen by the compiler, incremental compilation may
+ * produce an incomplete index. When in doubt run a full build.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+@SupportedAnnotationTypes("*")
+public final class GlueIndexProcessor extends AbstractProcessor {
+
+    private static final String JAVA_ANNOTATION_PACKAGE_PREFIX = "io.cucumber.java.";
+    private static final String LAMBDA_GLUE = "io.cucumber.java8.LambdaGlue";
+    private static final String TYPE_REGISTRY_CONFIGURER = "io.cucumber.core.api.TypeRegistryConfigurer";
+
+    private final Set<String> glueClassNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            collectGlueClasses(element);
+        }
+        return false;
+    }
+
+    private void collectGlueClasses(Element element) {
+        if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+            return;
+        }
+        TypeElement typeElement = (TypeElement) element;
+        if (hasAnnotatedMethods(typeElement) || isSubTypeOfGlueType(typeElement.asType())) {
+            glueClassNames.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+        }
+        for (Element enclosed : typeElement.getEnclosedElements()) {
+            collectGlueClasses(enclosed);
+        }
+    }
+
+    private boolean hasAnnotatedMethods(TypeElement typeElement) {
+        // Includes methods inherited from classes in other compilation units
+        for (Element member : processingEnv.getElementUtils().getAllMembers(typeElement)) {
+            if (member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            for (AnnotationMirror annotation : member.getAnnotationMirrors()) {
+                TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+                if (annotationType.getQualifiedName().toString().startsWith(JAVA_ANNOTATION_PACKAGE_PREFIX)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isSubTypeOfGlueType(TypeMirror type) {
+        for (TypeMirror superType : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (superType instanceof DeclaredType) {
+                TypeElement superElement = (TypeElement) ((DeclaredType) superType).asElement();
+                String name = superElement.getQualifiedName().toString();
+                if (LAMBDA_GLUE.equals(name) || TYPE_REGISTRY_CONFIGURER.equals(name)) {
+                    return true;
+                }
+            }
+            if (isSubTypeOfGlueType(superType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        if (glueClassNames.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject index = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", GLUE_INDEX_RESOURCE);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), UTF_8)) {
+                for (String glueClassName : glueClassNames) {
+                    writer.write(glueClassName);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "Could not write glue index " + GLUE_INDEX_RESOURCE + ": " + e.getMessage()
+            );
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package io.cucumber.core.resource;
+
+import io.cucumber.core.resource.JarUriFileSystemService.SharedFileSystem;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps jar file systems open between classpath scans.
+ * <p>
+ * Opening a jar reads its central directory. Without a scope each scan
+ * opens and closes the jars it scans. While a scope is open the jars
+ * scanned for features, glue and type registry configurers are opened once
+ * and shared. They are closed when the scope is closed. A jar that changed
+ * between scopes is read again.
+ * <p>
+ * Scopes may be open concurrently, e.g. one for each runner. A jar is
+ * closed once all scopes that retained it are closed.
+ */
+@API(status = API.Status.INTERNAL)
+public final class JarFileSystemScope implements AutoCloseable {
+
+    private final Set<SharedFileSystem> retained = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    private JarFileSystemScope() {
+
+    }
+
+    public static JarFileSystemScope open() {
+        JarFileSystemScope scope = new JarFileSystemScope();
+        JarUriFileSystemService.openScope(scope);
+        return scope;
+    }
+
+    /**
+     * @param fileSystem a file system with a reference held for this scope
+     * @return true if this scope now holds the reference, false if the
+     * caller should release it
+     */
+    boolean retain(SharedFileSystem fileSystem) {
+        if (!retained.add(fileSystem)) {
+            return false;
+        }
+        // Raced with close, which may not have seen this file system
+        return !closed || !retained.remove(fileSystem);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        JarUriFileSystemService.closeScope(this);
+        IOException exception = null;
+        for (SharedFileSystem fileSystem : retained) {
+            if (!retained.remove(fileSystem)) {
+                continue;
+            }
+            try {
+                fileSystem.release();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        if (exception != null) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
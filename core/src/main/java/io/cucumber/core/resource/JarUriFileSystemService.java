@@ -8,8 +8,12 @@ import java.net.URISyntaxException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -23,34 +27,151 @@ class JarUriFileSystemService {
     private static final String JAR_FILE_SUFFIX = ".jar";
     private static final String JAR_URI_SEPARATOR = "!";
 
-    private static final Map<URI, FileSystem> openFiles = new HashMap<>();
-    private static final Map<URI, AtomicInteger> referenceCount = new HashMap<>();
+    /**
+     * Jar file systems are opened once and shared by all scanners that use
+     * them at the same time. Each jar is opened by the first scanner that
+     * needs it, others wait for that scanner rather than for each other.
+     * Scanners that find the jar already open do not wait at all.
+     * <p>
+     * A file system is closed when it is no longer referenced. Open scopes
+     * hold a reference to each jar opened while they are open.
+     */
+    private static final ConcurrentMap<URI, SharedFileSystem> fileSystems = new ConcurrentHashMap<>();
+    private static final Set<JarFileSystemScope> scopes = ConcurrentHashMap.newKeySet();
 
     private static CloseablePath open(URI jarUri, Function<FileSystem, Path> pathProvider)
         throws IOException {
-        FileSystem fileSystem = openFileSystem(jarUri);
-        Path path = pathProvider.apply(fileSystem);
-        return CloseablePath.open(path, () -> closeFileSystem(jarUri));
+        return open(jarUri, () -> FileSystems.newFileSystem(jarUri, emptyMap()), pathProvider);
     }
 
-    private synchronized static void closeFileSystem(URI jarUri) throws IOException {
-        int referents = referenceCount.get(jarUri).decrementAndGet();
-        if (referents == 0) {
-            openFiles.remove(jarUri).close();
-            referenceCount.remove(jarUri);
+    private static CloseablePath open(URI jarUri, FileSystemOpener opener, Function<FileSystem, Path> pathProvider)
+        throws IOException {
+        SharedFileSystem fileSystem = retain(jarUri, opener);
+        try {
+            Path path = pathProvider.apply(fileSystem.get());
+            // Open scopes keep the file system open until they are closed
+            for (JarFileSystemScope scope : scopes) {
+                fileSystem.retainAgain();
+                if (!scope.retain(fileSystem)) {
+                    fileSystem.release();
+                }
+            }
+            return CloseablePath.open(path, fileSystem::release);
+        } catch (IOException | RuntimeException e) {
+            fileSystem.release();
+            throw e;
+        }
+    }
+
+    private static SharedFileSystem retain(URI jarUri, FileSystemOpener opener) throws IOException {
+        while (true) {
+            SharedFileSystem fileSystem = fileSystems.get(jarUri);
+            if (fileSystem == null) {
+                fileSystem = fileSystems.computeIfAbsent(jarUri, SharedFileSystem::new);
+            }
+            if (fileSystem.retain()) {
+                try {
+                    fileSystem.open(opener);
+                    return fileSystem;
+                } catch (IOException | RuntimeException e) {
+                    fileSystem.release();
+                    throw e;
+                }
+            }
+            // Being closed, the jar can only be opened again once closed
+            fileSystem.awaitClosed();
         }
     }
 
-    private synchronized static FileSystem openFileSystem(URI jarUri) throws IOException {
-        FileSystem existing = openFiles.get(jarUri);
-        if (existing != null) {
-            referenceCount.get(jarUri).getAndIncrement();
-            return existing;
+    static void openScope(JarFileSystemScope scope) {
+        scopes.add(scope);
+    }
+
+    static void closeScope(JarFileSystemScope scope) {
+        scopes.remove(scope);
+    }
+
+    /**
+     * A reference counted file system. Once the last reference is released
+     * the file system is closed and can not be retained again.
+     */
+    static final class SharedFileSystem {
+
+        private static final int CLOSED = -1;
+
+        private final URI jarUri;
+        private final AtomicInteger references = new AtomicInteger();
+        private final AtomicBoolean opening = new AtomicBoolean();
+        private final CompletableFuture<FileSystem> fileSystem = new CompletableFuture<>();
+        private final CompletableFuture<Void> closed = new CompletableFuture<>();
+
+        private SharedFileSystem(URI jarUri) {
+            this.jarUri = jarUri;
+        }
+
+        private boolean retain() {
+            while (true) {
+                int current = references.get();
+                if (current == CLOSED) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Adds a reference for a caller that already holds one.
+         */
+        private void retainAgain() {
+            references.incrementAndGet();
+        }
+
+        private void open(FileSystemOpener opener) throws IOException {
+            if (opening.compareAndSet(false, true)) {
+                try {
+                    fileSystem.complete(opener.open());
+                } catch (IOException | RuntimeException e) {
+                    fileSystem.completeExceptionally(e);
+                }
+            }
+            get();
+        }
+
+        private FileSystem get() throws IOException {
+            try {
+                return fileSystem.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw e;
+            }
+        }
+
+        void release() throws IOException {
+            if (references.decrementAndGet() != 0 || !references.compareAndSet(0, CLOSED)) {
+                return;
+            }
+            // Remains mapped until closed, a jar can not be opened twice
+            try {
+                if (fileSystem.isDone() && !fileSystem.isCompletedExceptionally()) {
+                    fileSystem.join().close();
+                }
+            } finally {
+                fileSystems.remove(jarUri, this);
+                closed.complete(null);
+            }
+        }
+
+        private void awaitClosed() {
+            closed.join();
         }
-        FileSystem fileSystem = FileSystems.newFileSystem(jarUri, emptyMap());
-        openFiles.put(jarUri, fileSystem);
-        referenceCount.put(jarUri, new AtomicInteger(1));
-        return fileSystem;
     }
 
     static boolean supports(URI uri) {
@@ -85,24 +206,34 @@ class JarUriFileSystemService {
         String jarUri = parts[0];
         String jarEntry = parts[1];
         String subEntry = parts[2];
-        if (jarEntry.endsWith(JAR_FILE_SUFFIX)) {
+        if (parts.length > 3) {
             throw nestedJarEntriesAreUnsupported(uri);
         }
+        if (jarEntry.endsWith(JAR_FILE_SUFFIX)) {
+            URI nestedJarUri = new URI(jarUri + JAR_URI_SEPARATOR + jarEntry);
+            return open(nestedJarUri, () -> NestedJarFileSystem.open(nestedJarUri), fileSystem -> fileSystem.getPath(subEntry));
+        }
         return open(new URI(jarUri), fileSystem -> fileSystem.getPath(jarEntry + subEntry));
     }
 
     private static CucumberException nestedJarEntriesAreUnsupported(URI uri) {
         return new CucumberException("" +
-            "The resource " + uri + " is located in a nested jar.\n" +
+            "The resource " + uri + " is located in a jar nested more than one level deep.\n" +
             "\n" +
-            "This typically happens when trying to run Cucumber inside a Spring Boot Executable Jar.\n" +
-            "Cucumber currently doesn't support classpath scanning in nested jars.\n" +
+            "Cucumber currently only supports classpath scanning in jars nested in another jar.\n" +
             "Feel free to send a pull request to make this possible!\n" +
             "\n" +
             "You can avoid this error by unpacking your application before executing."
         );
     }
 
+    @FunctionalInterface
+    private interface FileSystemOpener {
+
+        FileSystem open() throws IOException;
+
+    }
+
     private static boolean hasFileUriSchemeWithJarExtension(URI uri) {
         return FILE_URI_SCHEME.equals(uri.getScheme()) && uri.getPath().endsWith(JAR_FILE_SUFFIX);
     }
@@ -0,0 +1,522 @@
+package io.cucumber.core.resource;
+
+import io.cucumber.core.resource.ZipCentralDirectory.Entry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.AccessMode;
+import java.nio.file.ClosedFileSystemException;
+import java.nio.file.CopyOption;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileStore;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.ProviderMismatchException;
+import java.nio.file.ReadOnlyFileSystemException;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.FileAttributeView;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.UserPrincipalLookupService;
+import java.nio.file.spi.FileSystemProvider;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.ZipException;
+
+import static io.cucumber.core.resource.ClasspathSupport.RESOURCE_SEPARATOR_CHAR;
+import static io.cucumber.core.resource.ClasspathSupport.RESOURCE_SEPARATOR_STRING;
+
+/**
+ * Read only file system for a jar nested in another jar. E.g. the libraries
+ * in the {@code BOOT-INF/lib} directory of a Spring Boot executable jar.
+ * <p>
+ * The central directory of the outer jar is read once and cached until the
+ * outer jar changes. Nested jars are typically stored without compression.
+ * These are mapped directly from the outer jar without extracting them.
+ * Compressed nested jars are inflated into memory.
+ * <p>
+ * Each file system opens its own channel to the outer jar. The channel is
+ * closed when the file system is closed.
+ */
+final class NestedJarFileSystem extends FileSystem {
+
+    private static final String JAR_URI_SCHEME_PREFIX = "jar:";
+    private static final String JAR_URI_SEPARATOR = "!";
+    private static final Provider PROVIDER = new Provider();
+    private static final ConcurrentMap<Path, OuterJar> outerJars = new ConcurrentHashMap<>();
+
+    private final URI jarUri;
+    private final FileChannel channel;
+    private final ZipCentralDirectory directory;
+    private final Map<String, Set<String>> children = new HashMap<>();
+    private final Map<String, Entry> files = new HashMap<>();
+    private final NestedJarPath root = new NestedJarPath(this, RESOURCE_SEPARATOR_STRING);
+    private volatile boolean open = true;
+
+    private NestedJarFileSystem(URI jarUri, FileChannel channel, ZipCentralDirectory directory) {
+        this.jarUri = jarUri;
+        this.channel = channel;
+        this.directory = directory;
+        index();
+    }
+
+    /**
+     * Opens a nested jar.
+     *
+     * @param jarUri uri of the nested jar, e.g. {@code
+     *               jar:file:/app.jar!/BOOT-INF/lib/steps.jar}
+     * @return the file system of the nested jar
+     * @throws IOException when the jar could not be read
+     */
+    static NestedJarFileSystem open(URI jarUri) throws IOException {
+        String uri = jarUri.toString();
+        int separator = uri.indexOf(JAR_URI_SEPARATOR);
+        if (!uri.startsWith(JAR_URI_SCHEME_PREFIX) || separator < 0) {
+            throw new IllegalArgumentException("Not a nested jar uri " + jarUri);
+        }
+        Path outerJarPath = Paths.get(URI.create(uri.substring(JAR_URI_SCHEME_PREFIX.length(), separator)));
+        String nestedJarEntry = uri.substring(separator + 1);
+        if (nestedJarEntry.startsWith(RESOURCE_SEPARATOR_STRING)) {
+            nestedJarEntry = nestedJarEntry.substring(1);
+        }
+
+        FileChannel channel = FileChannel.open(outerJarPath, StandardOpenOption.READ);
+        try {
+            Entry entry = indexOuterJar(outerJarPath, channel).get(nestedJarEntry);
+            if (entry == null) {
+                throw new NoSuchFileException(jarUri.toString());
+            }
+            return new NestedJarFileSystem(jarUri, channel, ZipCentralDirectory.read(readNestedJar(channel, entry)));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static Map<String, Entry> indexOuterJar(Path outerJarPath, FileChannel channel) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(outerJarPath);
+        long size = channel.size();
+        try {
+            // Nested jars of the same outer jar wait for a single read
+            return outerJars.compute(outerJarPath, (path, outerJar) -> {
+                if (outerJar != null && outerJar.isCurrent(lastModified, size)) {
+                    return outerJar;
+                }
+                try {
+                    return new OuterJar(lastModified, size, ZipCentralDirectory.readEntries(channel));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).entries;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static ByteBuffer readNestedJar(FileChannel channel, Entry entry) throws IOException {
+        ByteBuffer rawData = ZipCentralDirectory.mapRawData(channel, entry);
+        if (entry.isStored()) {
+            return rawData;
+        }
+        byte[] bytes = new byte[entry.getSize()];
+        try (InputStream inputStream = ZipCentralDirectory.newInputStream(entry, rawData)) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                int read = inputStream.read(bytes, offset, bytes.length - offset);
+                if (read < 0) {
+                    throw new ZipException("Unexpected end of " + entry.getName());
+                }
+                offset += read;
+            }
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private void index() {
+        children.put(RESOURCE_SEPARATOR_STRING, new TreeSet<>());
+        for (Entry entry : directory.getEntries()) {
+            String path = RESOURCE_SEPARATOR_STRING + entry.getName();
+            if (entry.isDirectory()) {
+                path = path.substring(0, path.length() - 1);
+                children.computeIfAbsent(path, p -> new TreeSet<>());
+            } else {
+                files.put(path, entry);
+            }
+            addToParents(path);
+        }
+    }
+
+    private void addToParents(String path) {
+        int separator = path.lastIndexOf(RESOURCE_SEPARATOR_CHAR);
+        while (separator >= 0 && path.length() > 1) {
+            String parent = separator == 0 ? RESOURCE_SEPARATOR_STRING : path.substring(0, separator);
+            children.computeIfAbsent(parent, p -> new TreeSet<>()).add(path.substring(separator + 1));
+            path = parent;
+            separator = path.lastIndexOf(RESOURCE_SEPARATOR_CHAR);
+        }
+    }
+
+    URI getJarUri() {
+        return jarUri;
+    }
+
+    @Override
+    public FileSystemProvider provider() {
+        return PROVIDER;
+    }
+
+    @Override
+    public void close() throws IOException {
+        open = false;
+        channel.close();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String getSeparator() {
+        return RESOURCE_SEPARATOR_STRING;
+    }
+
+    @Override
+    public Iterable<Path> getRootDirectories() {
+        return Collections.singletonList(root);
+    }
+
+    @Override
+    public Iterable<FileStore> getFileStores() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Set<String> supportedFileAttributeViews() {
+        return Collections.singleton("basic");
+    }
+
+    @Override
+    public Path getPath(String first, String... more) {
+        StringBuilder path = new StringBuilder(first);
+        for (String segment : more) {
+            if (!segment.isEmpty()) {
+                if (path.length() > 0) {
+                    path.append(RESOURCE_SEPARATOR_CHAR);
+                }
+                path.append(segment);
+            }
+        }
+        return new NestedJarPath(this, path.toString());
+    }
+
+    @Override
+    public PathMatcher getPathMatcher(String syntaxAndPattern) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public UserPrincipalLookupService getUserPrincipalLookupService() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public WatchService newWatchService() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void ensureOpen() {
+        if (!open) {
+            throw new ClosedFileSystemException();
+        }
+    }
+
+    private String absolutePathOf(Path path) {
+        ensureOpen();
+        return ((NestedJarPath) path).toAbsolutePath().normalize().toString();
+    }
+
+    private Attributes readAttributes(Path path) throws NoSuchFileException {
+        String absolutePath = absolutePathOf(path);
+        Entry entry = files.get(absolutePath);
+        if (entry != null) {
+            return new Attributes(false, entry.getSize());
+        }
+        if (children.containsKey(absolutePath)) {
+            return new Attributes(true, 0);
+        }
+        throw new NoSuchFileException(path.toString());
+    }
+
+    private InputStream newInputStream(Path path) throws IOException {
+        Entry entry = files.get(absolutePathOf(path));
+        if (entry == null) {
+            throw new NoSuchFileException(path.toString());
+        }
+        return directory.newInputStream(entry);
+    }
+
+    private DirectoryStream<Path> newDirectoryStream(Path dir, DirectoryStream.Filter<? super Path> filter) throws IOException {
+        String absolutePath = absolutePathOf(dir);
+        Set<String> names = children.get(absolutePath);
+        if (names == null) {
+            if (files.containsKey(absolutePath)) {
+                throw new NotDirectoryException(dir.toString());
+            }
+            throw new NoSuchFileException(dir.toString());
+        }
+        List<Path> entries = new ArrayList<>(names.size());
+        for (String name : names) {
+            Path entry = dir.resolve(name);
+            if (filter.accept(entry)) {
+                entries.add(entry);
+            }
+        }
+        return new DirectoryStream<Path>() {
+            @Override
+            public Iterator<Path> iterator() {
+                return entries.iterator();
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+    }
+
+    private static final class OuterJar {
+
+        private final FileTime lastModified;
+        private final long size;
+        private final Map<String, Entry> entries;
+
+        private OuterJar(FileTime lastModified, long size, Map<String, Entry> entries) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.entries = entries;
+        }
+
+        private boolean isCurrent(FileTime lastModified, long size) {
+            return this.lastModified.equals(lastModified) && this.size == size;
+        }
+    }
+
+    private static final class Attributes implements BasicFileAttributes {
+
+        private static final FileTime EPOCH = FileTime.fromMillis(0);
+
+        private final boolean directory;
+        private final long size;
+
+        private Attributes(boolean directory, long size) {
+            this.directory = directory;
+            this.size = size;
+        }
+
+        @Override
+        public FileTime lastModifiedTime() {
+            return EPOCH;
+        }
+
+        @Override
+        public FileTime lastAccessTime() {
+            return EPOCH;
+        }
+
+        @Override
+        public FileTime creationTime() {
+            return EPOCH;
+        }
+
+        @Override
+        public boolean isRegularFile() {
+            return !directory;
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return directory;
+        }
+
+        @Override
+        public boolean isSymbolicLink() {
+            return false;
+        }
+
+        @Override
+        public boolean isOther() {
+            return false;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public Object fileKey() {
+            return null;
+        }
+    }
+
+    private static final class Provider extends FileSystemProvider {
+
+        private static NestedJarFileSystem fileSystemOf(Path path) {
+            if (!(path instanceof NestedJarPath)) {
+                throw new ProviderMismatchException();
+            }
+            return (NestedJarFileSystem) path.getFileSystem();
+        }
+
+        @Override
+        public String getScheme() {
+            return "jar";
+        }
+
+        @Override
+        public FileSystem newFileSystem(URI uri, Map<String, ?> env) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileSystem getFileSystem(URI uri) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Path getPath(URI uri) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InputStream newInputStream(Path path, OpenOption... options) throws IOException {
+            return fileSystemOf(path).newInputStream(path);
+        }
+
+        @Override
+        public SeekableByteChannel newByteChannel(Path path, Set<? extends OpenOption> options, FileAttribute<?>... attrs) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DirectoryStream<Path> newDirectoryStream(Path dir, DirectoryStream.Filter<? super Path> filter) throws IOException {
+            return fileSystemOf(dir).newDirectoryStream(dir, filter);
+        }
+
+        @Override
+        public void createDirectory(Path dir, FileAttribute<?>... attrs) {
+            throw new ReadOnlyFileSystemException();
+        }
+
+        @Override
+        public void delete(Path path) {
+            throw new ReadOnlyFileSystemException();
+        }
+
+        @Override
+        public void copy(Path source, Path target, CopyOption... options) {
+            throw new ReadOnlyFileSystemException();
+        }
+
+        @Override
+        public void move(Path source, Path target, CopyOption... options) {
+            throw new ReadOnlyFileSystemException();
+        }
+
+        @Override
+        public boolean isSameFile(Path path, Path path2) {
+            return path.toAbsolutePath().normalize().equals(path2.toAbsolutePath().normalize());
+        }
+
+        @Override
+        public boolean isHidden(Path path) {
+            return false;
+        }
+
+        @Override
+        public FileStore getFileStore(Path path) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void checkAccess(Path path, AccessMode... modes) throws IOException {
+            for (AccessMode mode : modes) {
+                if (mode != AccessMode.READ) {
+                    throw new ReadOnlyFileSystemException();
+                }
+            }
+            fileSystemOf(path).readAttributes(path);
+        }
+
+        @Override
+        public <V extends FileAttributeView> V getFileAttributeView(Path path, Class<V> type, LinkOption... options) {
+            if (type != BasicFileAttributeView.class) {
+                return null;
+            }
+            return type.cast(new BasicFileAttributeView() {
+                @Override
+                public String name() {
+                    return "basic";
+                }
+
+                @Override
+                public BasicFileAttributes readAttributes() throws IOException {
+                    return fileSystemOf(path).readAttributes(path);
+                }
+
+                @Override
+                public void setTimes(FileTime lastModifiedTime, FileTime lastAccessTime, FileTime createTime) {
+                    throw new ReadOnlyFileSystemException();
+                }
+            });
+        }
+
+        @Override
+        public <A extends BasicFileAttributes> A readAttributes(Path path, Class<A> type, LinkOption... options) throws IOException {
+            if (type != BasicFileAttributes.class) {
+                throw new UnsupportedOperationException("Only basic file attributes are supported");
+            }
+            return type.cast(fileSystemOf(path).readAttributes(path));
+        }
+
+        @Override
+        public Map<String, Object> readAttributes(Path path, String attributes, LinkOption... options) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setAttribute(Path path, String attribute, Object value, LinkOption... options) {
+            throw new ReadOnlyFileSystemException();
+        }
+    }
+
+}
@@ -0,0 +1,275 @@
+package io.cucumber.core.resource;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystem;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.ProviderMismatchException;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static io.cucumber.core.resource.ClasspathSupport.RESOURCE_SEPARATOR_STRING;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Path in a {@link NestedJarFileSystem}.
+ */
+final class NestedJarPath implements Path {
+
+    private static final Pattern SEPARATORS = Pattern.compile("/+");
+    private static final String CURRENT_DIRECTORY = ".";
+    private static final String PARENT_DIRECTORY = "..";
+
+    private final NestedJarFileSystem fileSystem;
+    private final boolean absolute;
+    private final List<String> names;
+
+    NestedJarPath(NestedJarFileSystem fileSystem, String path) {
+        this(fileSystem, path.startsWith(RESOURCE_SEPARATOR_STRING), split(path));
+    }
+
+    private NestedJarPath(NestedJarFileSystem fileSystem, boolean absolute, List<String> names) {
+        this.fileSystem = fileSystem;
+        this.absolute = absolute;
+        this.names = names;
+    }
+
+    private static List<String> split(String path) {
+        return Arrays.stream(SEPARATORS.split(path))
+            .filter(name -> !name.isEmpty())
+            .collect(toList());
+    }
+
+    private NestedJarPath of(boolean absolute, List<String> names) {
+        return new NestedJarPath(fileSystem, absolute, names);
+    }
+
+    private NestedJarPath checkPath(Path path) {
+        if (!(path instanceof NestedJarPath) || path.getFileSystem() != fileSystem) {
+            throw new ProviderMismatchException();
+        }
+        return (NestedJarPath) path;
+    }
+
+    @Override
+    public FileSystem getFileSystem() {
+        return fileSystem;
+    }
+
+    @Override
+    public boolean isAbsolute() {
+        return absolute;
+    }
+
+    @Override
+    public Path getRoot() {
+        return absolute ? of(true, new ArrayList<>()) : null;
+    }
+
+    @Override
+    public Path getFileName() {
+        if (names.isEmpty()) {
+            return null;
+        }
+        return of(false, names.subList(names.size() - 1, names.size()));
+    }
+
+    @Override
+    public Path getParent() {
+        if (names.isEmpty() || (names.size() == 1 && !absolute)) {
+            return null;
+        }
+        return of(absolute, names.subList(0, names.size() - 1));
+    }
+
+    @Override
+    public int getNameCount() {
+        return names.size();
+    }
+
+    @Override
+    public Path getName(int index) {
+        return subpath(index, index + 1);
+    }
+
+    @Override
+    public Path subpath(int beginIndex, int endIndex) {
+        if (beginIndex < 0 || endIndex > names.size() || beginIndex >= endIndex) {
+            throw new IllegalArgumentException();
+        }
+        return of(false, names.subList(beginIndex, endIndex));
+    }
+
+    @Override
+    public boolean startsWith(Path other) {
+        NestedJarPath that = checkPath(other);
+        return absolute == that.absolute
+            && names.size() >= that.names.size()
+            && names.subList(0, that.names.size()).equals(that.names);
+    }
+
+    @Override
+    public boolean startsWith(String other) {
+        return startsWith(fileSystem.getPath(other));
+    }
+
+    @Override
+    public boolean endsWith(Path other) {
+        NestedJarPath that = checkPath(other);
+        if (that.absolute) {
+            return equals(that);
+        }
+        return names.size() >= that.names.size()
+            && names.subList(names.size() - that.names.size(), names.size()).equals(that.names);
+    }
+
+    @Override
+    public boolean endsWith(String other) {
+        return endsWith(fileSystem.getPath(other));
+    }
+
+    @Override
+    public Path normalize() {
+        List<String> normalized = new ArrayList<>(names.size());
+        for (String name : names) {
+            if (CURRENT_DIRECTORY.equals(name)) {
+                continue;
+            }
+            if (PARENT_DIRECTORY.equals(name) && !normalized.isEmpty()
+                && !PARENT_DIRECTORY.equals(normalized.get(normalized.size() - 1))) {
+                normalized.remove(normalized.size() - 1);
+                continue;
+            }
+            if (PARENT_DIRECTORY.equals(name) && absolute) {
+                continue;
+            }
+            normalized.add(name);
+        }
+        return of(absolute, normalized);
+    }
+
+    @Override
+    public Path resolve(Path other) {
+        NestedJarPath that = checkPath(other);
+        if (that.absolute) {
+            return that;
+        }
+        List<String> resolved = new ArrayList<>(names);
+        resolved.addAll(that.names);
+        return of(absolute, resolved);
+    }
+
+    @Override
+    public Path resolve(String other) {
+        return resolve(fileSystem.getPath(other));
+    }
+
+    @Override
+    public Path resolveSibling(Path other) {
+        Path parent = getParent();
+        return parent == null ? other : parent.resolve(other);
+    }
+
+    @Override
+    public Path resolveSibling(String other) {
+        return resolveSibling(fileSystem.getPath(other));
+    }
+
+    @Override
+    public Path relativize(Path other) {
+        NestedJarPath that = checkPath(other);
+        if (absolute != that.absolute) {
+            throw new IllegalArgumentException("'other' is different type of Path");
+        }
+        int common = 0;
+        int max = Math.min(names.size(), that.names.size());
+        while (common < max && names.get(common).equals(that.names.get(common))) {
+            common++;
+        }
+        List<String> relative = new ArrayList<>();
+        for (int i = common; i < names.size(); i++) {
+            relative.add(PARENT_DIRECTORY);
+        }
+        relative.addAll(that.names.subList(common, that.names.size()));
+        return of(false, relative);
+    }
+
+    @Override
+    public URI toUri() {
+        try {
+            String path = new URI(null, null, toAbsolutePath().toString(), null).getRawPath();
+            return new URI(fileSystem.getJarUri() + "!" + path);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public Path toAbsolutePath() {
+        if (absolute) {
+            return this;
+        }
+        return of(true, names);
+    }
+
+    @Override
+    public Path toRealPath(LinkOption... options) {
+        return toAbsolutePath().normalize();
+    }
+
+    @Override
+    public File toFile() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public WatchKey register(WatchService watcher, WatchEvent.Kind<?>[] events, WatchEvent.Modifier... modifiers) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public WatchKey register(WatchService watcher, WatchEvent.Kind<?>... events) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<Path> iterator() {
+        List<Path> paths = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            paths.add(getName(i));
+        }
+        return paths.iterator();
+    }
+
+    @Override
+    public int compareTo(Path other) {
+        return toString().compareTo(checkPath(other).toString());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NestedJarPath that = (NestedJarPath) o;
+        return fileSystem == that.fileSystem && absolute == that.absolute && names.equals(that.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        String path = String.join(RESOURCE_SEPARATOR_STRING, names);
+        return absolute ? RESOURCE_SEPARATOR_STRING + path : path;
+    }
+}
@@ -0,0 +1,298 @@
+package io.cucumber.core.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableCollection;
+
+/**
+ * Index of the entries in a zip file that is held in a byte buffer.
+ * <p>
+ * Only reads the central directory. Entry data is read from the buffer on
+ * demand without copying stored entries.
+ * <p>
+ * The entries of a zip file on disk can be read from a file channel
+ * without reading the whole file. Their raw data can then be mapped from
+ * the channel.
+ *
+ * @see <a href="https://pkware.cachefly.net/webdocs/casestudies/APPNOTE.TXT">ZIP File Format Specification</a>
+ */
+final class ZipCentralDirectory {
+
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private final ByteBuffer zip;
+    private final Map<String, Entry> entries;
+
+    private ZipCentralDirectory(ByteBuffer zip, Map<String, Entry> entries) {
+        this.zip = zip;
+        this.entries = entries;
+    }
+
+    static ZipCentralDirectory read(ByteBuffer buffer) throws IOException {
+        ByteBuffer zip = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int endOfCentralDirectory = findEndOfCentralDirectory(zip);
+        int entryCount = zip.getShort(endOfCentralDirectory + 10) & 0xFFFF;
+        long centralDirectoryOffset = readCentralDirectoryOffset(zip, endOfCentralDirectory);
+        return new ZipCentralDirectory(zip, readEntries(zip, (int) centralDirectoryOffset, entryCount));
+    }
+
+    /**
+     * Reads the entries of a zip file. Only the end of the file and the
+     * central directory are read.
+     *
+     * @param channel the zip file
+     * @return the entries of the zip file by name
+     * @throws IOException when the central directory could not be read
+     */
+    static Map<String, Entry> readEntries(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int tailSize = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE);
+        ByteBuffer tail = read(channel, size - tailSize, tailSize);
+        int endOfCentralDirectory = findEndOfCentralDirectory(tail);
+        int entryCount = tail.getShort(endOfCentralDirectory + 10) & 0xFFFF;
+        long centralDirectorySize = tail.getInt(endOfCentralDirectory + 12) & ZIP64_MAGIC;
+        long centralDirectoryOffset = readCentralDirectoryOffset(tail, endOfCentralDirectory);
+        ByteBuffer centralDirectory = read(channel, centralDirectoryOffset, (int) centralDirectorySize);
+        return readEntries(centralDirectory, 0, entryCount);
+    }
+
+    private static long readCentralDirectoryOffset(ByteBuffer zip, int endOfCentralDirectory) throws ZipException {
+        long centralDirectoryOffset = zip.getInt(endOfCentralDirectory + 16) & ZIP64_MAGIC;
+        if (centralDirectoryOffset == ZIP64_MAGIC) {
+            throw new ZipException("Zip64 files are not supported");
+        }
+        return centralDirectoryOffset;
+    }
+
+    private static Map<String, Entry> readEntries(ByteBuffer zip, int position, int entryCount) throws ZipException {
+        Map<String, Entry> entries = new LinkedHashMap<>(entryCount * 2);
+        for (int i = 0; i < entryCount; i++) {
+            if (zip.getInt(position) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header at " + position);
+            }
+            int method = zip.getShort(position + 10) & 0xFFFF;
+            long compressedSize = zip.getInt(position + 20) & ZIP64_MAGIC;
+            long size = zip.getInt(position + 24) & ZIP64_MAGIC;
+            int nameLength = zip.getShort(position + 28) & 0xFFFF;
+            int extraLength = zip.getShort(position + 30) & 0xFFFF;
+            int commentLength = zip.getShort(position + 32) & 0xFFFF;
+            long localHeaderOffset = zip.getInt(position + 42) & ZIP64_MAGIC;
+            if (compressedSize == ZIP64_MAGIC || size == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+                throw new ZipException("Zip64 entries are not supported");
+            }
+            String name = readName(zip, position + CENTRAL_DIRECTORY_HEADER_SIZE, nameLength);
+            entries.put(name, new Entry(name, method, (int) compressedSize, (int) size, localHeaderOffset));
+            position += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new ZipException("Unexpected end of zip file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer zip) throws ZipException {
+        int last = zip.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+        int first = Math.max(0, last - MAX_COMMENT_SIZE);
+        for (int position = last; position >= first; position--) {
+            if (zip.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return position;
+            }
+        }
+        throw new ZipException("End of central directory not found");
+    }
+
+    private static String readName(ByteBuffer zip, int position, int length) {
+        byte[] name = new byte[length];
+        ByteBuffer slice = zip.duplicate();
+        slice.position(position);
+        slice.get(name);
+        return new String(name, UTF_8);
+    }
+
+    Optional<Entry> getEntry(String name) {
+        return Optional.ofNullable(entries.get(name));
+    }
+
+    Collection<Entry> getEntries() {
+        return unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Returns the raw, possibly compressed, data of an entry. The returned
+     * buffer shares its content with the zip file.
+     *
+     * @param entry the entry to read
+     * @return the raw data of the entry
+     * @throws ZipException when the local file header is invalid
+     */
+    ByteBuffer getRawData(Entry entry) throws ZipException {
+        int localHeader = (int) entry.localHeaderOffset;
+        if (zip.getInt(localHeader) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new ZipException("Invalid local file header for " + entry.name);
+        }
+        int nameLength = zip.getShort(localHeader + 26) & 0xFFFF;
+        int extraLength = zip.getShort(localHeader + 28) & 0xFFFF;
+        int dataOffset = localHeader + LOCAL_FILE_HEADER_SIZE + nameLength + extraLength;
+        ByteBuffer data = zip.duplicate();
+        data.position(dataOffset);
+        data.limit(dataOffset + entry.compressedSize);
+        return data.slice();
+    }
+
+    /**
+     * Maps the raw, possibly compressed, data of an entry of a zip file.
+     * The mapping remains valid after the channel is closed.
+     *
+     * @param channel the zip file
+     * @param entry   the entry to map
+     * @return the raw data of the entry
+     * @throws IOException when the local file header is invalid
+     */
+    static ByteBuffer mapRawData(FileChannel channel, Entry entry) throws IOException {
+        ByteBuffer localHeader = read(channel, entry.localHeaderOffset, LOCAL_FILE_HEADER_SIZE);
+        if (localHeader.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new ZipException("Invalid local file header for " + entry.name);
+        }
+        int nameLength = localHeader.getShort(26) & 0xFFFF;
+        int extraLength = localHeader.getShort(28) & 0xFFFF;
+        long dataOffset = entry.localHeaderOffset + LOCAL_FILE_HEADER_SIZE + nameLength + extraLength;
+        return channel.map(FileChannel.MapMode.READ_ONLY, dataOffset, entry.compressedSize);
+    }
+
+    InputStream newInputStream(Entry entry) throws IOException {
+        return newInputStream(entry, getRawData(entry));
+    }
+
+    static InputStream newInputStream(Entry entry, ByteBuffer rawData) throws ZipException {
+        switch (entry.method) {
+            case STORED:
+                return new ByteBufferInputStream(rawData);
+            case DEFLATED:
+                return new EntryInflaterInputStream(rawData);
+            default:
+                throw new ZipException("Unsupported compression method " + entry.method + " for " + entry.name);
+        }
+    }
+
+    static final class Entry {
+
+        private final String name;
+        private final int method;
+        private final int compressedSize;
+        private final int size;
+        private final long localHeaderOffset;
+
+        private Entry(String name, int method, int compressedSize, int size, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getSize() {
+            return size;
+        }
+
+        boolean isStored() {
+            return method == STORED;
+        }
+
+        boolean isDirectory() {
+            return name.endsWith("/");
+        }
+    }
+
+    private static final class EntryInflaterInputStream extends InflaterInputStream {
+
+        private EntryInflaterInputStream(ByteBuffer data) {
+            // Inflater in nowrap mode may need an extra dummy byte
+            super(new SequenceInputStream(
+                new ByteBufferInputStream(data),
+                new ByteArrayInputStream(new byte[1])
+            ), new Inflater(true));
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            inf.end();
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+}
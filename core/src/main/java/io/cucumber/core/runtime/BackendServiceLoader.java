@@ -14,20 +14,30 @@ import java.util.function.Supplier;
 /**
  * Supplies instances of {@link Backend} created by using a {@link ServiceLoader}
  * to locate instance of {@link BackendSupplier}.
+ * <p>
+ * The service providers are located once and reused for every call to
+ * {@link #get()}. This allows providers to share expensive state such as
+ * discovered glue between the backends of different runners.
  */
 public final class BackendServiceLoader implements BackendSupplier {
 
     private final Supplier<ClassLoader> classLoaderSupplier;
     private final ObjectFactorySupplier objectFactorySupplier;
+    private final BackendProviderServices backendProviderServices;
 
     public BackendServiceLoader(Supplier<ClassLoader> classLoaderSupplier, ObjectFactorySupplier objectFactorySupplier) {
+        this(classLoaderSupplier, objectFactorySupplier, new BackendProviderServices());
+    }
+
+    BackendServiceLoader(Supplier<ClassLoader> classLoaderSupplier, ObjectFactorySupplier objectFactorySupplier, BackendProviderServices backendProviderServices) {
         this.classLoaderSupplier = classLoaderSupplier;
         this.objectFactorySupplier = objectFactorySupplier;
+        this.backendProviderServices = backendProviderServices;
     }
 
     @Override
     public Collection<? extends Backend> get() {
-        return get(ServiceLoader.load(BackendProviderService.class));
+        return get(backendProviderServices.get());
     }
 
     Collection<? extends Backend> get(Iterable<BackendProviderService> serviceLoader) {
@@ -47,5 +57,30 @@ public final class BackendServiceLoader implements BackendSupplier {
         return backends;
     }
 
+    /**
+     * Locates the service providers once. May be shared by several
+     * {@link BackendServiceLoader}s.
+     */
+    static final class BackendProviderServices implements Supplier<List<BackendProviderService>> {
+
+        private List<BackendProviderService> backendProviderServices;
+
+        @Override
+        public synchronized List<BackendProviderService> get() {
+            if (backendProviderServices == null) {
+                List<BackendProviderService> services = new ArrayList<>();
+                ServiceLoader.load(BackendProviderService.class).forEach(services::add);
+                backendProviderServices = services;
+            }
+            return backendProviderServices;
+        }
+
+        /**
+         * Discards the located services and with them anything they cached.
+         */
+        synchronized void clear() {
+            backendProviderServices = null;
+        }
+    }
 
 }
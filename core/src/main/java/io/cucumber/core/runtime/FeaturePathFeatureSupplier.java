@@ -2,9 +2,11 @@ package io.cucumber.core.runtime;
 
 import io.cucumber.core.feature.CucumberFeature;
 import io.cucumber.core.feature.FeatureIdentifier;
+import io.cucumber.core.feature.FeatureParser;
 import io.cucumber.core.feature.Options;
 import io.cucumber.core.logging.Logger;
 import io.cucumber.core.logging.LoggerFactory;
+import io.cucumber.core.resource.Resource;
 import io.cucumber.core.resource.ResourceScanner;
 
 import java.net.URI;
@@ -12,10 +14,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static io.cucumber.core.feature.FeatureIdentifier.isFeature;
-import static io.cucumber.core.feature.FeatureParser.parseResource;
 import static java.util.Comparator.comparing;
 import static java.util.Optional.of;
 import static java.util.stream.Collectors.joining;
@@ -32,11 +34,15 @@ public final class FeaturePathFeatureSupplier implements FeatureSupplier {
     private final Options featureOptions;
 
     public FeaturePathFeatureSupplier(Supplier<ClassLoader> classLoader, Options featureOptions) {
+        this(classLoader, featureOptions, FeatureParser::parseResource);
+    }
+
+    public FeaturePathFeatureSupplier(Supplier<ClassLoader> classLoader, Options featureOptions, Function<Resource, CucumberFeature> featureParser) {
         this.featureOptions = featureOptions;
         this.featureScanner = new ResourceScanner<>(
             classLoader,
             FeatureIdentifier::isFeature,
-            resource -> of(parseResource(resource))
+            resource -> of(featureParser.apply(resource))
         );
     }
 
@@ -0,0 +1,269 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.exception.CucumberException;
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.feature.CucumberPickle;
+import io.cucumber.core.options.CommandlineOptionsParser;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.resource.ClassLoaders;
+import io.cucumber.plugin.event.Argument;
+import io.cucumber.plugin.event.EmbedEvent;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.SnippetsSuggestedEvent;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import io.cucumber.plugin.event.WriteEvent;
+import org.apiguardian.api.API;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static io.cucumber.core.runtime.ForkProtocol.EMBED;
+import static io.cucumber.core.runtime.ForkProtocol.HOOK_TEST_STEP;
+import static io.cucumber.core.runtime.ForkProtocol.PICKLE_FAILED;
+import static io.cucumber.core.runtime.ForkProtocol.PICKLE_FINISHED;
+import static io.cucumber.core.runtime.ForkProtocol.PICKLE_STEP_TEST_STEP;
+import static io.cucumber.core.runtime.ForkProtocol.RUN_PICKLE;
+import static io.cucumber.core.runtime.ForkProtocol.SNIPPETS_SUGGESTED;
+import static io.cucumber.core.runtime.ForkProtocol.TEST_CASE_FINISHED;
+import static io.cucumber.core.runtime.ForkProtocol.TEST_CASE_STARTED;
+import static io.cucumber.core.runtime.ForkProtocol.TEST_STEP_FINISHED;
+import static io.cucumber.core.runtime.ForkProtocol.TEST_STEP_STARTED;
+import static io.cucumber.core.runtime.ForkProtocol.writeBytes;
+import static io.cucumber.core.runtime.ForkProtocol.writeError;
+import static io.cucumber.core.runtime.ForkProtocol.writeInstant;
+import static io.cucumber.core.runtime.ForkProtocol.writeResult;
+import static io.cucumber.core.runtime.ForkProtocol.writeString;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Entry point of a fork started by Cucumber when using {@code --forks}.
+ * <p>
+ * Connects to Cucumber on the given port and sends the given token to prove
+ * it is the fork Cucumber started. Then runs the pickles it is asked to run
+ * one at a time and sends the events of each pickle back.
+ */
+@API(status = API.Status.INTERNAL)
+public final class ForkMain {
+
+    private final RuntimeOptions runtimeOptions;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final Supplier<ClassLoader> classLoader = ClassLoaders::getDefaultClassLoader;
+    private final Map<URI, CucumberFeature> features = new HashMap<>();
+    private CucumberPickle pickle;
+    private List<TestStep> testSteps;
+
+    private ForkMain(RuntimeOptions runtimeOptions, DataInputStream in, DataOutputStream out) {
+        this.runtimeOptions = runtimeOptions;
+        this.in = in;
+        this.out = out;
+    }
+
+    /**
+     * @param args the port to connect to and the token to send followed by
+     *             the command line options for the runner
+     */
+    public static void main(String... args) throws IOException {
+        int port = Integer.parseInt(args[0]);
+        String token = args[1];
+        RuntimeOptions runtimeOptions = new CommandlineOptionsParser()
+            .parse(asList(args).subList(2, args.length))
+            .build();
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            writeString(out, token);
+            out.flush();
+            new ForkMain(runtimeOptions, in, out).run();
+        }
+        // Glue may have started non-daemon threads
+        System.exit(0);
+    }
+
+    private void run() throws IOException {
+        EventBus bus = new TimeServiceEventBus(Clock.systemUTC());
+        bus.registerHandlerFor(TestCaseStarted.class, this::send);
+        bus.registerHandlerFor(TestStepStarted.class, this::send);
+        bus.registerHandlerFor(TestStepFinished.class, this::send);
+        bus.registerHandlerFor(TestCaseFinished.class, this::send);
+        bus.registerHandlerFor(WriteEvent.class, this::send);
+        bus.registerHandlerFor(EmbedEvent.class, this::send);
+        bus.registerHandlerFor(SnippetsSuggestedEvent.class, this::send);
+
+        ObjectFactorySupplier objectFactorySupplier = new SingletonObjectFactorySupplier(new ObjectFactoryServiceLoader(runtimeOptions));
+        RunnerSupplier runnerSupplier = new SingletonRunnerSupplier(
+            runtimeOptions,
+            bus,
+            new BackendServiceLoader(classLoader, objectFactorySupplier),
+            objectFactorySupplier,
+            new ScanningTypeRegistryConfigurerSupplier(classLoader, runtimeOptions)
+        );
+
+        // Runs pickles until asked to exit
+        while (in.readByte() == RUN_PICKLE) {
+            URI uri = URI.create(ForkProtocol.readString(in));
+            int line = in.readInt();
+            try {
+                pickle = getPickle(uri, line);
+                runnerSupplier.get().runPickle(pickle);
+                out.writeByte(PICKLE_FINISHED);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (Throwable t) {
+                out.writeByte(PICKLE_FAILED);
+                writeError(out, t);
+            }
+            out.flush();
+        }
+    }
+
+    private CucumberPickle getPickle(URI uri, int line) {
+        CucumberFeature feature = features.computeIfAbsent(uri, this::loadFeature);
+        return feature.getPickles().stream()
+            .filter(pickle -> pickle.getLocation().getLine() == line)
+            .findFirst()
+            .orElseThrow(() -> new CucumberException("Pickle not found: " + uri + ":" + line));
+    }
+
+    private CucumberFeature loadFeature(URI uri) {
+        List<CucumberFeature> loaded = new FeaturePathFeatureSupplier(classLoader, () -> singletonList(uri)).get();
+        if (loaded.isEmpty()) {
+            throw new CucumberException("Feature not found: " + uri);
+        }
+        return loaded.get(0);
+    }
+
+    private void send(TestCaseStarted event) {
+        testSteps = event.getTestCase().getTestSteps();
+        write(() -> {
+            out.writeByte(TEST_CASE_STARTED);
+            writeInstant(out, event.getInstant());
+            out.writeInt(testSteps.size());
+            for (TestStep testStep : testSteps) {
+                writeTestStep(testStep);
+            }
+        });
+    }
+
+    private void writeTestStep(TestStep testStep) throws IOException {
+        if (testStep instanceof HookTestStep) {
+            HookTestStep hookTestStep = (HookTestStep) testStep;
+            out.writeByte(HOOK_TEST_STEP);
+            writeString(out, hookTestStep.getHookType().name());
+            writeString(out, hookTestStep.getCodeLocation());
+            return;
+        }
+        PickleStepTestStep pickleStepTestStep = (PickleStepTestStep) testStep;
+        out.writeByte(PICKLE_STEP_TEST_STEP);
+        out.writeInt(indexOf(pickle.getSteps(), pickleStepTestStep.getStep()));
+        writeString(out, pickleStepTestStep.getCodeLocation());
+        writeString(out, pickleStepTestStep.getPattern());
+        List<Argument> arguments = pickleStepTestStep.getDefinitionArgument();
+        out.writeInt(arguments.size());
+        for (Argument argument : arguments) {
+            writeString(out, argument.getValue());
+            out.writeInt(argument.getStart());
+            out.writeInt(argument.getEnd());
+        }
+    }
+
+    private static int indexOf(List<?> list, Object element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == element) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Step is not part of the pickle");
+    }
+
+    private void send(TestStepStarted event) {
+        write(() -> {
+            out.writeByte(TEST_STEP_STARTED);
+            writeInstant(out, event.getInstant());
+            out.writeInt(indexOf(testSteps, event.getTestStep()));
+        });
+    }
+
+    private void send(TestStepFinished event) {
+        write(() -> {
+            out.writeByte(TEST_STEP_FINISHED);
+            writeInstant(out, event.getInstant());
+            out.writeInt(indexOf(testSteps, event.getTestStep()));
+            writeResult(out, event.getResult());
+        });
+    }
+
+    private void send(TestCaseFinished event) {
+        write(() -> {
+            out.writeByte(TEST_CASE_FINISHED);
+            writeInstant(out, event.getInstant());
+            writeResult(out, event.getResult());
+        });
+    }
+
+    private void send(WriteEvent event) {
+        write(() -> {
+            out.writeByte(ForkProtocol.WRITE);
+            writeInstant(out, event.getInstant());
+            writeString(out, event.getText());
+        });
+    }
+
+    private void send(EmbedEvent event) {
+        write(() -> {
+            out.writeByte(EMBED);
+            writeInstant(out, event.getInstant());
+            writeBytes(out, event.getData());
+            writeString(out, event.getMediaType());
+            writeString(out, event.getName());
+        });
+    }
+
+    private void send(SnippetsSuggestedEvent event) {
+        write(() -> {
+            out.writeByte(SNIPPETS_SUGGESTED);
+            writeInstant(out, event.getInstant());
+            writeString(out, event.getUri().toString());
+            out.writeInt(event.getStepLine());
+            List<String> snippets = event.getSnippets();
+            out.writeInt(snippets.size());
+            for (String snippet : snippets) {
+                writeString(out, snippet);
+            }
+        });
+    }
+
+    private static void write(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+}
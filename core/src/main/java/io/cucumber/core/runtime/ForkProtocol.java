@@ -0,0 +1,150 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.Instant;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The messages exchanged between Cucumber and its forks.
+ * <p>
+ * Each message starts with a single byte identifying the message followed
+ * by its fields. Strings are written as their length in bytes followed by
+ * their UTF-8 encoding. A length of {@code -1} represents {@code null}.
+ * <p>
+ * Before any message the fork sends the token it was started with as a
+ * string.
+ */
+final class ForkProtocol {
+
+    // Sent to the fork
+    static final byte RUN_PICKLE = 1;
+    static final byte EXIT = 2;
+
+    // Sent by the fork
+    static final byte TEST_CASE_STARTED = 10;
+    static final byte TEST_STEP_STARTED = 11;
+    static final byte TEST_STEP_FINISHED = 12;
+    static final byte TEST_CASE_FINISHED = 13;
+    static final byte WRITE = 14;
+    static final byte EMBED = 15;
+    static final byte SNIPPETS_SUGGESTED = 16;
+    static final byte PICKLE_FINISHED = 17;
+    static final byte PICKLE_FAILED = 18;
+
+    // Kinds of test steps
+    static final byte HOOK_TEST_STEP = 1;
+    static final byte PICKLE_STEP_TEST_STEP = 2;
+
+    private ForkProtocol() {
+
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        writeBytes(out, value.getBytes(UTF_8));
+    }
+
+    static String readString(DataInput in) throws IOException {
+        byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, UTF_8);
+    }
+
+    static void writeBytes(DataOutput out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    static byte[] readBytes(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    static void writeInstant(DataOutput out, Instant instant) throws IOException {
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    static Instant readInstant(DataInput in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+
+    static void writeResult(DataOutput out, Result result) throws IOException {
+        writeString(out, result.getStatus().name());
+        out.writeLong(result.getDuration().toNanos());
+        writeError(out, result.getError());
+    }
+
+    static Result readResult(DataInput in) throws IOException {
+        Status status = Status.valueOf(readString(in));
+        Duration duration = Duration.ofNanos(in.readLong());
+        return new Result(status, duration, readError(in));
+    }
+
+    static void writeError(DataOutput out, Throwable error) throws IOException {
+        out.writeBoolean(error != null);
+        if (error == null) {
+            return;
+        }
+        StringWriter stackTrace = new StringWriter();
+        error.printStackTrace(new PrintWriter(stackTrace));
+        writeString(out, error.toString());
+        writeString(out, stackTrace.toString());
+    }
+
+    static Throwable readError(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new ForkedException(readString(in), readString(in));
+    }
+
+    /**
+     * An exception thrown in a fork. Prints the stack trace as it was in
+     * the fork.
+     */
+    static final class ForkedException extends RuntimeException {
+
+        private final String description;
+        private final String stackTrace;
+
+        ForkedException(String description, String stackTrace) {
+            super(description, null, false, false);
+            this.description = description;
+            this.stackTrace = stackTrace;
+        }
+
+        @Override
+        public void printStackTrace(PrintStream s) {
+            s.print(stackTrace);
+        }
+
+        @Override
+        public void printStackTrace(PrintWriter s) {
+            s.print(stackTrace);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+}
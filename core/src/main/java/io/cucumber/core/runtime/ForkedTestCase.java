@@ -0,0 +1,166 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.feature.CucumberPickle;
+import io.cucumber.core.feature.CucumberStep;
+import io.cucumber.plugin.event.Argument;
+import io.cucumber.plugin.event.HookType;
+import io.cucumber.plugin.event.StepArgument;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestStep;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * A test case executed by a fork.
+ * <p>
+ * Recreated from the pickle and the test steps described by the fork so
+ * that plugins can not tell the difference from a local test case.
+ */
+final class ForkedTestCase implements TestCase {
+
+    private final CucumberPickle pickle;
+    private final List<TestStep> testSteps;
+
+    ForkedTestCase(CucumberPickle pickle, List<TestStep> testSteps) {
+        this.pickle = pickle;
+        this.testSteps = testSteps;
+    }
+
+    @Override
+    public Integer getLine() {
+        return pickle.getLocation().getLine();
+    }
+
+    @Override
+    public String getName() {
+        return pickle.getName();
+    }
+
+    @Override
+    public String getScenarioDesignation() {
+        return pickle.getUri().getSchemeSpecificPart() + ":" + getLine() + " # " + getName();
+    }
+
+    @Override
+    public List<String> getTags() {
+        return pickle.getTags();
+    }
+
+    @Override
+    public List<TestStep> getTestSteps() {
+        return testSteps;
+    }
+
+    @Override
+    public URI getUri() {
+        return pickle.getUri();
+    }
+
+    static final class ForkedHookTestStep implements io.cucumber.plugin.event.HookTestStep {
+
+        private final HookType hookType;
+        private final String codeLocation;
+
+        ForkedHookTestStep(HookType hookType, String codeLocation) {
+            this.hookType = hookType;
+            this.codeLocation = codeLocation;
+        }
+
+        @Override
+        public HookType getHookType() {
+            return hookType;
+        }
+
+        @Override
+        public String getCodeLocation() {
+            return codeLocation;
+        }
+    }
+
+    static final class ForkedPickleStepTestStep implements io.cucumber.plugin.event.PickleStepTestStep {
+
+        private final URI uri;
+        private final CucumberStep step;
+        private final String codeLocation;
+        private final String pattern;
+        private final List<Argument> definitionArgument;
+
+        ForkedPickleStepTestStep(URI uri, CucumberStep step, String codeLocation, String pattern, List<Argument> definitionArgument) {
+            this.uri = uri;
+            this.step = step;
+            this.codeLocation = codeLocation;
+            this.pattern = pattern;
+            this.definitionArgument = definitionArgument;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public CucumberStep getStep() {
+            return step;
+        }
+
+        @Override
+        public List<Argument> getDefinitionArgument() {
+            return definitionArgument;
+        }
+
+        @Override
+        public StepArgument getStepArgument() {
+            return step.getArgument();
+        }
+
+        @Override
+        public int getStepLine() {
+            return step.getStepLine();
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public String getStepText() {
+            return step.getText();
+        }
+
+        @Override
+        public String getCodeLocation() {
+            return codeLocation;
+        }
+    }
+
+    static final class ForkedArgument implements Argument {
+
+        private final String value;
+        private final int start;
+        private final int end;
+
+        ForkedArgument(String value, int start, int end) {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+    }
+
+}
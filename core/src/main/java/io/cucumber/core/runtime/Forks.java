@@ -0,0 +1,413 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.exception.CucumberException;
+import io.cucumber.core.feature.CucumberPickle;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.runtime.ForkedTestCase.ForkedArgument;
+import io.cucumber.core.runtime.ForkedTestCase.ForkedHookTestStep;
+import io.cucumber.core.runtime.ForkedTestCase.ForkedPickleStepTestStep;
+import io.cucumber.plugin.event.Argument;
+import io.cucumber.plugin.event.EmbedEvent;
+import io.cucumber.plugin.event.Event;
+import io.cucumber.plugin.event.HookType;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.SnippetsSuggestedEvent;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import io.cucumber.plugin.event.WriteEvent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.cucumber.core.runtime.ForkProtocol.EMBED;
+import static io.cucumber.core.runtime.ForkProtocol.EXIT;
+import static io.cucumber.core.runtime.ForkProtocol.HOOK_TEST_STEP;
+import static io.cucumber.core.runtime.ForkProtocol.PICKLE_FAILED;
+import static io.cucumber.core.runtime.ForkProtocol.PICKLE_FINISHED;
+import static io.cucumber.core.runtime.ForkProtocol.RUN_PICKLE;
+import static io.cucumber.core.runtime.ForkProtocol.SNIPPETS_SUGGESTED;
+import static io.cucumber.core.runtime.ForkProtocol.TEST_CASE_FINISHED;
+import static io.cucumber.core.runtime.ForkProtocol.TEST_CASE_STARTED;
+import static io.cucumber.core.runtime.ForkProtocol.TEST_STEP_FINISHED;
+import static io.cucumber.core.runtime.ForkProtocol.TEST_STEP_STARTED;
+import static io.cucumber.core.runtime.ForkProtocol.WRITE;
+import static io.cucumber.core.runtime.ForkProtocol.readBytes;
+import static io.cucumber.core.runtime.ForkProtocol.readError;
+import static io.cucumber.core.runtime.ForkProtocol.readInstant;
+import static io.cucumber.core.runtime.ForkProtocol.readResult;
+import static io.cucumber.core.runtime.ForkProtocol.readString;
+import static io.cucumber.core.runtime.ForkProtocol.writeString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static java.util.Locale.ROOT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Runs pickles in child JVMs.
+ * <p>
+ * Each thread that runs pickles gets its own fork, which runs one pickle at
+ * a time. So forks that finish early pick up the remaining pickles. The
+ * events of a pickle are sent back to this JVM and published on the event
+ * bus as if the pickle was executed here.
+ * <p>
+ * A fork that exits unexpectedly fails the pickle it was running. The test
+ * step and test case in flight are finished with a failed result so the run
+ * continues and fails as a whole. The fork is replaced when the thread runs
+ * its next pickle.
+ * <p>
+ * Any local process can connect to the port a fork is started with. So each
+ * fork is given a random token which it must send before anything else.
+ * Connections without the token are closed.
+ * <p>
+ * When closed, forks are asked to exit. A fork that does not exit in time
+ * is destroyed.
+ *
+ * @see ForkMain
+ */
+final class Forks implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(Forks.class);
+    private static final int CONNECT_TIMEOUT_MILLIS = 60_000;
+    private static final int EXIT_TIMEOUT_MILLIS = 10_000;
+    private static final SecureRandom random = new SecureRandom();
+
+    private final EventBus bus;
+    private final List<String> javaCommand;
+    private final List<String> arguments;
+    private final ThreadLocal<Fork> forks = new ThreadLocal<>();
+    private final List<Fork> started = new CopyOnWriteArrayList<>();
+
+    Forks(RuntimeOptions runtimeOptions, EventBus bus) {
+        this.bus = bus;
+        this.javaCommand = createJavaCommand();
+        this.arguments = createArguments(runtimeOptions);
+    }
+
+    private static List<String> createJavaCommand() {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        // Forks use the same memory settings, system properties and agents.
+        // Except for the debugger which would compete for the same port.
+        ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+            .filter(argument -> !argument.startsWith("-agentlib:jdwp") && !argument.startsWith("-Xrunjdwp"))
+            .forEach(command::add);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ForkMain.class.getName());
+        return command;
+    }
+
+    private static List<String> createArguments(RuntimeOptions runtimeOptions) {
+        // Pickles are selected by this JVM so forks only need the options
+        // to execute them.
+        List<String> arguments = new ArrayList<>();
+        for (URI glue : runtimeOptions.getGlue()) {
+            arguments.add("--glue");
+            arguments.add(glue.toString());
+        }
+        if (runtimeOptions.getObjectFactoryClass() != null) {
+            arguments.add("--object-factory");
+            arguments.add(runtimeOptions.getObjectFactoryClass().getName());
+        }
+        if (runtimeOptions.isDryRun()) {
+            arguments.add("--dry-run");
+        }
+        arguments.add("--snippets");
+        arguments.add(runtimeOptions.getSnippetType().name().toLowerCase(ROOT));
+        return arguments;
+    }
+
+    void runPickle(CucumberPickle pickle) {
+        Fork fork = forks.get();
+        if (fork == null || !fork.isAlive()) {
+            fork = startFork();
+            forks.set(fork);
+            started.add(fork);
+        }
+        fork.runPickle(pickle);
+    }
+
+    private Fork startFork() {
+        String token = createToken();
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+            List<String> command = new ArrayList<>(javaCommand);
+            command.add(Integer.toString(serverSocket.getLocalPort()));
+            command.add(token);
+            command.addAll(arguments);
+            log.debug(() -> "Starting fork: " + String.join(" ", command));
+            Process process = new ProcessBuilder(command).inheritIO().start();
+            try {
+                return new Fork(process, acceptFork(serverSocket, token));
+            } catch (IOException e) {
+                process.destroy();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new CucumberException("Failed to start fork", e);
+        }
+    }
+
+    private static String createToken() {
+        byte[] token = new byte[16];
+        random.nextBytes(token);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    static Socket acceptFork(ServerSocket serverSocket, String token) throws IOException {
+        while (true) {
+            Socket socket = serverSocket.accept();
+            try {
+                socket.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+                if (hasToken(socket, token)) {
+                    socket.setSoTimeout(0);
+                    return socket;
+                }
+            } catch (IOException e) {
+                log.debug(e, () -> "Failed to read the token of " + socket.getRemoteSocketAddress());
+            }
+            log.warn(() -> "Rejected a connection from " + socket.getRemoteSocketAddress() + " that did not send the fork's token");
+            socket.close();
+        }
+    }
+
+    private static boolean hasToken(Socket socket, String token) throws IOException {
+        // Not buffered, the fork reads the remaining messages
+        DataInputStream in = new DataInputStream(socket.getInputStream());
+        byte[] expected = token.getBytes(UTF_8);
+        if (in.readInt() != expected.length) {
+            return false;
+        }
+        byte[] actual = new byte[expected.length];
+        in.readFully(actual);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    @Override
+    public void close() {
+        started.forEach(Fork::close);
+        started.clear();
+    }
+
+    private final class Fork {
+
+        private final Process process;
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private boolean broken;
+        private ForkedTestCase testCase;
+        private Instant testCaseStarted;
+        private TestStep testStep;
+        private Instant testStepStarted;
+        private boolean testCaseFinished;
+
+        Fork(Process process, Socket socket) throws IOException {
+            this.process = process;
+            this.socket = socket;
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        boolean isAlive() {
+            return !broken && process.isAlive();
+        }
+
+        void runPickle(CucumberPickle pickle) {
+            testCase = null;
+            testStep = null;
+            testCaseFinished = false;
+            try {
+                out.writeByte(RUN_PICKLE);
+                writeString(out, pickle.getUri().toString());
+                out.writeInt(pickle.getLocation().getLine());
+                out.flush();
+                receiveEvents(pickle);
+            } catch (IOException e) {
+                broken = true;
+                process.destroyForcibly();
+                String location = pickle.getUri() + ":" + pickle.getLocation().getLine();
+                log.error(e, () -> "Fork exited while running " + location);
+                failPickle(pickle, new CucumberException("Fork exited while running " + location, e));
+            }
+        }
+
+        private void receiveEvents(CucumberPickle pickle) throws IOException {
+            while (true) {
+                byte message = in.readByte();
+                switch (message) {
+                    case TEST_CASE_STARTED: {
+                        Instant instant = readInstant(in);
+                        testCase = new ForkedTestCase(pickle, readTestSteps(pickle));
+                        testCaseStarted = instant;
+                        send(new TestCaseStarted(instant, testCase));
+                        break;
+                    }
+                    case TEST_STEP_STARTED: {
+                        Instant instant = readInstant(in);
+                        testStep = testCase.getTestSteps().get(in.readInt());
+                        testStepStarted = instant;
+                        send(new TestStepStarted(instant, testCase, testStep));
+                        break;
+                    }
+                    case TEST_STEP_FINISHED: {
+                        Instant instant = readInstant(in);
+                        TestStep testStep = testCase.getTestSteps().get(in.readInt());
+                        Result result = readResult(in);
+                        this.testStep = null;
+                        send(new TestStepFinished(instant, testCase, testStep, result));
+                        break;
+                    }
+                    case TEST_CASE_FINISHED: {
+                        Instant instant = readInstant(in);
+                        Result result = readResult(in);
+                        testCaseFinished = true;
+                        send(new TestCaseFinished(instant, testCase, result));
+                        break;
+                    }
+                    case WRITE: {
+                        Instant instant = readInstant(in);
+                        send(new WriteEvent(instant, testCase, readString(in)));
+                        break;
+                    }
+                    case EMBED: {
+                        Instant instant = readInstant(in);
+                        byte[] data = readBytes(in);
+                        String mediaType = readString(in);
+                        send(new EmbedEvent(instant, testCase, data, mediaType, readString(in)));
+                        break;
+                    }
+                    case SNIPPETS_SUGGESTED: {
+                        Instant instant = readInstant(in);
+                        URI uri = URI.create(readString(in));
+                        int stepLine = in.readInt();
+                        List<String> snippets = new ArrayList<>();
+                        for (int i = in.readInt(); i > 0; i--) {
+                            snippets.add(readString(in));
+                        }
+                        send(new SnippetsSuggestedEvent(instant, uri, stepLine, snippets));
+                        break;
+                    }
+                    case PICKLE_FINISHED:
+                        return;
+                    case PICKLE_FAILED:
+                        throw (RuntimeException) readError(in);
+                    default:
+                        throw new IOException("Unknown message from fork: " + message);
+                }
+            }
+        }
+
+        private void failPickle(CucumberPickle pickle, CucumberException error) {
+            if (testCaseFinished) {
+                // The fork exited after the pickle was done
+                return;
+            }
+            // Plugins expect every started test step and test case to finish.
+            // A pickle that did not start yet is reported as a test case
+            // without steps.
+            Instant instant = bus.getInstant();
+            if (testCase == null) {
+                testCase = new ForkedTestCase(pickle, emptyList());
+                testCaseStarted = instant;
+                send(new TestCaseStarted(instant, testCase));
+            }
+            if (testStep != null) {
+                Duration duration = Duration.between(testStepStarted, instant);
+                send(new TestStepFinished(instant, testCase, testStep, new Result(Status.FAILED, duration, error)));
+                testStep = null;
+            }
+            Duration duration = Duration.between(testCaseStarted, instant);
+            send(new TestCaseFinished(instant, testCase, new Result(Status.FAILED, duration, error)));
+            testCaseFinished = true;
+        }
+
+        private List<TestStep> readTestSteps(CucumberPickle pickle) throws IOException {
+            List<TestStep> testSteps = new ArrayList<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                if (in.readByte() == HOOK_TEST_STEP) {
+                    HookType hookType = HookType.valueOf(readString(in));
+                    testSteps.add(new ForkedHookTestStep(hookType, readString(in)));
+                } else {
+                    int stepIndex = in.readInt();
+                    String codeLocation = readString(in);
+                    String pattern = readString(in);
+                    testSteps.add(new ForkedPickleStepTestStep(
+                        pickle.getUri(),
+                        pickle.getSteps().get(stepIndex),
+                        codeLocation,
+                        pattern,
+                        readArguments()
+                    ));
+                }
+            }
+            return testSteps;
+        }
+
+        private List<Argument> readArguments() throws IOException {
+            List<Argument> arguments = new ArrayList<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                String value = readString(in);
+                int start = in.readInt();
+                arguments.add(new ForkedArgument(value, start, in.readInt()));
+            }
+            return arguments;
+        }
+
+        private void send(Event event) {
+            // Forks publish their events concurrently
+            synchronized (bus) {
+                bus.send(event);
+            }
+        }
+
+        void close() {
+            try {
+                if (isAlive()) {
+                    out.writeByte(EXIT);
+                    out.flush();
+                }
+                if (!process.waitFor(EXIT_TIMEOUT_MILLIS, MILLISECONDS)) {
+                    log.warn(() -> "Fork did not exit within " + EXIT_TIMEOUT_MILLIS + " ms and was destroyed");
+                    process.destroyForcibly().waitFor(EXIT_TIMEOUT_MILLIS, MILLISECONDS);
+                }
+            } catch (IOException e) {
+                process.destroyForcibly();
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            } finally {
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                    // The fork has exited
+                }
+            }
+        }
+    }
+
+}
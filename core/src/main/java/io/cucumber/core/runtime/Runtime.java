@@ -13,6 +13,7 @@ import io.cucumber.core.order.PickleOrder;
 import io.cucumber.core.plugin.PluginFactory;
 import io.cucumber.core.plugin.Plugins;
 import io.cucumber.core.resource.ClassLoaders;
+import io.cucumber.core.resource.JarFileSystemScope;
 import io.cucumber.plugin.ConcurrentEventListener;
 import io.cucumber.plugin.Plugin;
 import io.cucumber.plugin.event.EventHandler;
@@ -63,6 +64,7 @@ public final class Runtime {
     private final FeatureSupplier featureSupplier;
     private final ExecutorService executor;
     private final PickleOrder pickleOrder;
+    private final Forks forks;
 
     private Runtime(final ExitStatus exitStatus,
                     final EventBus bus,
@@ -71,7 +73,8 @@ public final class Runtime {
                     final RunnerSupplier runnerSupplier,
                     final FeatureSupplier featureSupplier,
                     final ExecutorService executor,
-                    final PickleOrder pickleOrder) {
+                    final PickleOrder pickleOrder,
+                    final Forks forks) {
         this.bus = bus;
         this.filter = filter;
         this.limit = limit;
@@ -80,9 +83,18 @@ public final class Runtime {
         this.executor = executor;
         this.exitStatus = exitStatus;
         this.pickleOrder = pickleOrder;
+        this.forks = forks;
     }
 
     public void run() {
+        // Jars are scanned for features, glue and type registry configurers.
+        // Keep them open until the run is done.
+        try (JarFileSystemScope ignored = JarFileSystemScope.open()) {
+            runFeatures();
+        }
+    }
+
+    private void runFeatures() {
         final List<CucumberFeature> features = featureSupplier.get();
         bus.send(new TestRunStarted(bus.getInstant()));
         for (CucumberFeature feature : features) {
@@ -95,21 +107,27 @@ public final class Runtime {
             .collect(collectingAndThen(toList(),
                 list -> pickleOrder.orderPickles(list).stream()))
             .limit(limit > 0 ? limit : Integer.MAX_VALUE)
-            .map(pickle -> executor.submit(() -> runnerSupplier.get().runPickle(pickle)))
+            .map(pickle -> executor.submit(() -> runPickle(pickle)))
             .collect(toList());
 
         executor.shutdown();
 
         List<Throwable> thrown = new ArrayList<>();
-        for (Future executingPickle : executingPickles) {
-            try {
-                executingPickle.get();
-            } catch (ExecutionException e) {
-                log.error(e, () -> "Exception while executing pickle");
-                thrown.add(e.getCause());
-            } catch (InterruptedException e) {
-                executor.shutdownNow();
-                throw new CucumberException(e);
+        try {
+            for (Future executingPickle : executingPickles) {
+                try {
+                    executingPickle.get();
+                } catch (ExecutionException e) {
+                    log.error(e, () -> "Exception while executing pickle");
+                    thrown.add(e.getCause());
+                } catch (InterruptedException e) {
+                    executor.shutdownNow();
+                    throw new CucumberException(e);
+                }
+            }
+        } finally {
+            if (forks != null) {
+                forks.close();
             }
         }
         if (thrown.size() == 1) {
@@ -121,6 +139,14 @@ public final class Runtime {
         bus.send(new TestRunFinished(bus.getInstant()));
     }
 
+    private void runPickle(CucumberPickle pickle) {
+        if (forks != null) {
+            forks.runPickle(pickle);
+        } else {
+            runnerSupplier.get().runPickle(pickle);
+        }
+    }
+
     public byte exitStatus() {
         return exitStatus.exitStatus();
     }
@@ -137,6 +163,7 @@ public final class Runtime {
         private BackendSupplier backendSupplier;
         private FeatureSupplier featureSupplier;
         private List<Plugin> additionalPlugins = emptyList();
+        private RuntimeSession session;
 
         private Builder() {
         }
@@ -171,7 +198,24 @@ public final class Runtime {
             return this;
         }
 
+        /**
+         * Reuses the backend providers, classpath scans and parsed features
+         * of a session. The class loader of the session is used instead of
+         * the class loader of this builder.
+         *
+         * @param session the session to reuse
+         * @return this builder
+         */
+        public Builder withSession(final RuntimeSession session) {
+            this.session = session;
+            return this;
+        }
+
         public Runtime build() {
+            final RuntimeSession session = this.session != null
+                ? this.session
+                : new RuntimeSession(classLoader);
+
             final ObjectFactoryServiceLoader objectFactoryServiceLoader = new ObjectFactoryServiceLoader(runtimeOptions);
 
             final ObjectFactorySupplier objectFactorySupplier = runtimeOptions.isMultiThreaded()
@@ -180,7 +224,7 @@ public final class Runtime {
 
             final BackendSupplier backendSupplier = this.backendSupplier != null
                 ? this.backendSupplier
-                : new BackendServiceLoader(this.classLoader, objectFactorySupplier);
+                : session.createBackendSupplier(objectFactorySupplier);
 
             final Plugins plugins = new Plugins(new PluginFactory(), runtimeOptions);
             for (final Plugin plugin : additionalPlugins) {
@@ -188,31 +232,39 @@ public final class Runtime {
             }
             final ExitStatus exitStatus = new ExitStatus(runtimeOptions);
             plugins.addPlugin(exitStatus);
-            if (runtimeOptions.isMultiThreaded()) {
+            // The default of 1 runs in this jvm, so does an explicit --forks 1
+            final boolean forked = runtimeOptions.getForks() > 1;
+            if (runtimeOptions.isMultiThreaded() || forked) {
                 plugins.setSerialEventBusOnEventListenerPlugins(eventBus);
             } else {
                 plugins.setEventBusOnEventListenerPlugins(eventBus);
             }
 
-            final TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier = new ScanningTypeRegistryConfigurerSupplier(classLoader, runtimeOptions);
+            final TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier = session.createTypeRegistryConfigurerSupplier(runtimeOptions);
 
             final RunnerSupplier runnerSupplier = runtimeOptions.isMultiThreaded()
                 ? new ThreadLocalRunnerSupplier(runtimeOptions, eventBus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier)
                 : new SingletonRunnerSupplier(runtimeOptions, eventBus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier);
 
-            final ExecutorService executor = runtimeOptions.isMultiThreaded()
-                ? Executors.newFixedThreadPool(runtimeOptions.getThreads(), new CucumberThreadFactory())
-                : new SameThreadExecutorService();
+            final ExecutorService executor;
+            if (forked) {
+                executor = Executors.newFixedThreadPool(runtimeOptions.getForks(), new CucumberThreadFactory());
+            } else if (runtimeOptions.isMultiThreaded()) {
+                executor = Executors.newFixedThreadPool(runtimeOptions.getThreads(), new CucumberThreadFactory());
+            } else {
+                executor = new SameThreadExecutorService();
+            }
+            final Forks forks = forked ? new Forks(runtimeOptions, eventBus) : null;
 
             final FeatureSupplier featureSupplier = this.featureSupplier != null
                 ? this.featureSupplier
-                : new FeaturePathFeatureSupplier(classLoader, runtimeOptions);
+                : session.createFeatureSupplier(runtimeOptions);
 
             final Predicate<CucumberPickle> filter = new Filters(runtimeOptions);
             final int limit = runtimeOptions.getLimitCount();
             final PickleOrder pickleOrder = runtimeOptions.getPickleOrder();
 
-            return new Runtime(exitStatus, eventBus, filter, limit, runnerSupplier, featureSupplier, executor, pickleOrder);
+            return new Runtime(exitStatus, eventBus, filter, limit, runnerSupplier, featureSupplier, executor, pickleOrder, forks);
         }
     }
 
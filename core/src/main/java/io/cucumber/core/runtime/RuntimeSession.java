@@ -0,0 +1,95 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.feature.CachingFeatureParser;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.resource.ClasspathScanner;
+import io.cucumber.core.runtime.BackendServiceLoader.BackendProviderServices;
+import io.cucumber.core.runtime.ScanningTypeRegistryConfigurerSupplier.Reflections;
+import org.apiguardian.api.API;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps the expensive parts of bootstrapping Cucumber warm between runs in
+ * the same JVM.
+ * <p>
+ * A session keeps the instances of the backend provider services, the
+ * classes found when scanning for a
+ * {@link io.cucumber.core.api.TypeRegistryConfigurer} and the parsed
+ * features. The Java backend providers cache the glue they discover in the
+ * provider instance, so their glue is kept as long as the session. Features
+ * are read on every run and parsed again when their source changed.
+ * Plugins, object factories and runners are created for each run.
+ * <p>
+ * Other caches do not outlive a run or the class loader. Jar file systems
+ * are only shared for the duration of a run and shared Guice injectors are
+ * held weakly by the class of their injector source.
+ * <p>
+ * A session is bound to its class loader. When glue classes change a new
+ * session with a new class loader should be created. Closing a session
+ * discards everything it keeps, after which it can not be used again.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class RuntimeSession implements AutoCloseable {
+
+    private final Supplier<ClassLoader> classLoader;
+    private final BackendProviderServices backendProviderServices = new BackendProviderServices();
+    private final Reflections reflections;
+    private final CachingFeatureParser featureParser = new CachingFeatureParser();
+    private volatile boolean closed;
+
+    public RuntimeSession(Supplier<ClassLoader> classLoader) {
+        this.classLoader = classLoader;
+        this.reflections = new Reflections(new ClasspathScanner(classLoader));
+    }
+
+    /**
+     * Runs Cucumber with the given options.
+     *
+     * @param runtimeOptions the options for this run, e.g. the features and
+     *                       filters to use
+     * @return 0 if execution was successful, 1 if it was not (test failures)
+     */
+    public byte run(RuntimeOptions runtimeOptions) {
+        Runtime runtime = Runtime.builder()
+            .withRuntimeOptions(runtimeOptions)
+            .withSession(this)
+            .build();
+        runtime.run();
+        return runtime.exitStatus();
+    }
+
+    /**
+     * Discards the backend provider services, classpath scans and parsed
+     * features kept by this session.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        backendProviderServices.clear();
+        reflections.clear();
+        featureParser.clear();
+    }
+
+    BackendSupplier createBackendSupplier(ObjectFactorySupplier objectFactorySupplier) {
+        checkNotClosed();
+        return new BackendServiceLoader(classLoader, objectFactorySupplier, backendProviderServices);
+    }
+
+    TypeRegistryConfigurerSupplier createTypeRegistryConfigurerSupplier(RuntimeOptions runtimeOptions) {
+        checkNotClosed();
+        return new ScanningTypeRegistryConfigurerSupplier(reflections, runtimeOptions);
+    }
+
+    FeatureSupplier createFeatureSupplier(RuntimeOptions runtimeOptions) {
+        checkNotClosed();
+        return new FeaturePathFeatureSupplier(classLoader, runtimeOptions, featureParser);
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The runtime session is closed");
+        }
+    }
+
+}
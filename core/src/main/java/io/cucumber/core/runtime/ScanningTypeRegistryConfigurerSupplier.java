@@ -9,13 +9,17 @@ import io.cucumber.core.runner.Options;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import static io.cucumber.core.resource.ClasspathSupport.CLASSPATH_SCHEME;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 public final class ScanningTypeRegistryConfigurerSupplier implements TypeRegistryConfigurerSupplier {
@@ -24,8 +28,12 @@ public final class ScanningTypeRegistryConfigurerSupplier implements TypeRegistr
     private final Options options;
 
     public ScanningTypeRegistryConfigurerSupplier(Supplier<ClassLoader> classLoader, Options options) {
+        this(new Reflections(new ClasspathScanner(classLoader)), options);
+    }
+
+    ScanningTypeRegistryConfigurerSupplier(Reflections reflections, Options options) {
         this.options = options;
-        this.reflections = new Reflections(new ClasspathScanner(classLoader));
+        this.reflections = reflections;
     }
 
     @Override
@@ -53,11 +61,16 @@ public final class ScanningTypeRegistryConfigurerSupplier implements TypeRegistr
 
     static final class Reflections {
         private final ClasspathScanner classFinder;
+        private final Map<SubclassesKey, List<? extends Class<?>>> subclasses = new ConcurrentHashMap<>();
 
         Reflections(ClasspathScanner classFinder) {
             this.classFinder = classFinder;
         }
 
+        void clear() {
+            subclasses.clear();
+        }
+
         static boolean isInstantiable(Class<?> clazz) {
             boolean isNonStaticInnerClass = !Modifier.isStatic(clazz.getModifiers()) && clazz.getEnclosingClass() != null;
             return Modifier.isPublic(clazz.getModifiers()) && !Modifier.isAbstract(clazz.getModifiers()) && !isNonStaticInnerClass;
@@ -78,6 +91,20 @@ public final class ScanningTypeRegistryConfigurerSupplier implements TypeRegistr
         }
 
         private <T> Collection<? extends T> instantiateSubclasses(Class<T> parentType, List<URI> packageNames) {
+            return findSubclasses(parentType, packageNames)
+                .stream()
+                .map(Reflections::newInstance)
+                .collect(toSet());
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> List<Class<? extends T>> findSubclasses(Class<T> parentType, List<URI> packageNames) {
+            // Scanned once and shared by all runners
+            SubclassesKey key = new SubclassesKey(parentType, packageNames);
+            return (List<Class<? extends T>>) subclasses.computeIfAbsent(key, k -> scanForSubclasses(parentType, packageNames));
+        }
+
+        private <T> List<Class<? extends T>> scanForSubclasses(Class<T> parentType, List<URI> packageNames) {
             return packageNames
                 .stream()
                 .filter(gluePath -> CLASSPATH_SCHEME.equals(gluePath.getScheme()))
@@ -86,8 +113,31 @@ public final class ScanningTypeRegistryConfigurerSupplier implements TypeRegistr
                 .map(basePackageName -> classFinder.scanForSubClassesInPackage(basePackageName, parentType))
                 .flatMap(Collection::stream)
                 .filter(Reflections::isInstantiable)
-                .map(Reflections::newInstance)
-                .collect(toSet());
+                .collect(toList());
+        }
+
+        private static final class SubclassesKey {
+
+            private final Class<?> parentType;
+            private final List<URI> packageNames;
+
+            private SubclassesKey(Class<?> parentType, List<URI> packageNames) {
+                this.parentType = parentType;
+                this.packageNames = new ArrayList<>(packageNames);
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) return true;
+                if (o == null || getClass() != o.getClass()) return false;
+                SubclassesKey that = (SubclassesKey) o;
+                return parentType.equals(that.parentType) && packageNames.equals(that.packageNames);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(parentType, packageNames);
+            }
         }
 
         private static <T> T newInstance(Class<? extends T> clazz) {
@@ -1,5 +1,6 @@
 package io.cucumber.core.backend;
 
+import io.cucumber.core.runtime.StubStepDefinition;
 import io.cucumber.core.snippets.TestSnippet;
 
 import java.net.URI;
@@ -8,6 +9,12 @@ import java.util.function.Supplier;
 
 public class StubBackendProviderService implements BackendProviderService {
 
+    /**
+     * Glue for the forks started by {@code ForksTest}. Forks discover
+     * backends through the service loader, so the glue is provided here.
+     */
+    public static final URI FORKS_GLUE = URI.create("classpath:io/cucumber/core/runtime/forks");
+
     @Override
     public Backend create(Lookup lookup, Container container, Supplier<ClassLoader> classLoader) {
         return new StubBackend();
@@ -17,7 +24,15 @@ public class StubBackendProviderService implements BackendProviderService {
 
         @Override
         public void loadGlue(Glue glue, List<URI> gluePaths) {
-
+            if (gluePaths.contains(FORKS_GLUE)) {
+                glue.addStepDefinition(new StubStepDefinition("a passing step"));
+                glue.addStepDefinition(new StubStepDefinition("the fork is killed") {
+                    @Override
+                    public void execute(Object[] args) {
+                        Runtime.getRuntime().halt(137);
+                    }
+                });
+            }
         }
 
         @Override
@@ -0,0 +1,60 @@
+package io.cucumber.core.feature;
+
+import io.cucumber.core.resource.Resource;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+class CachingFeatureParserTest {
+
+    private final CachingFeatureParser parser = new CachingFeatureParser();
+
+    @Test
+    void reuses_feature_with_unchanged_source() {
+        CucumberFeature first = parser.apply(resource("classpath:com/example.feature", "Feature: Example\n"));
+        CucumberFeature second = parser.apply(resource("classpath:com/example.feature", "Feature: Example\n"));
+
+        assertThat(second, is(sameInstance(first)));
+    }
+
+    @Test
+    void parses_feature_with_changed_source() {
+        CucumberFeature first = parser.apply(resource("classpath:com/example.feature", "Feature: Example\n"));
+        CucumberFeature second = parser.apply(resource("classpath:com/example.feature", "Feature: Changed\n"));
+
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(second.getName(), is("Changed"));
+    }
+
+    @Test
+    void parses_features_with_same_source_at_different_uris() {
+        CucumberFeature first = parser.apply(resource("classpath:com/example.feature", "Feature: Example\n"));
+        CucumberFeature second = parser.apply(resource("classpath:com/other.feature", "Feature: Example\n"));
+
+        assertThat(second.getUri(), is(URI.create("classpath:com/other.feature")));
+        assertThat(second, is(not(sameInstance(first))));
+    }
+
+    private static Resource resource(String uri, String source) {
+        return new Resource() {
+            @Override
+            public URI getUri() {
+                return URI.create(uri);
+            }
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(source.getBytes(UTF_8));
+            }
+        };
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.cucumber.core.feature;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+class CucumberFeatureTest {
+
+    private final CucumberFeature feature = TestFeatureParser.parse("" +
+        "Feature: Pickles\n" +
+        "\n" +
+        "  Scenario: A scenario\n" +
+        "    Given a step\n" +
+        "\n" +
+        "  Scenario Outline: An outline\n" +
+        "    Given a <thing>\n" +
+        "\n" +
+        "    Examples:\n" +
+        "      | thing |\n" +
+        "      | step  |\n" +
+        "      | cuke  |\n"
+    );
+
+    @Test
+    void finds_pickles_by_location() {
+        List<CucumberLocation> locations = feature.getPickles().stream()
+            .map(CucumberPickle::getLocation)
+            .collect(toList());
+
+        List<CucumberPickle> found = locations.stream()
+            .map(feature::getPickleAt)
+            .map(Optional::get)
+            .collect(toList());
+
+        assertThat(found, is(equalTo(feature.getPickles())));
+        assertThat(locations.stream().map(CucumberLocation::getLine).collect(toList()), is(equalTo(asList(3, 11, 12))));
+    }
+
+    @Test
+    void finds_no_pickle_at_other_locations() {
+        CucumberLocation outlineLocation = feature.children()
+            .filter(CucumberScenarioOutline.class::isInstance)
+            .findFirst()
+            .get()
+            .getLocation();
+
+        assertThat(feature.getPickleAt(outlineLocation), is(Optional.empty()));
+    }
+
+}
@@ -606,6 +606,40 @@ class RuntimeOptionsTest {
         assertThat(actualThrown.getMessage(), is(equalTo("--threads must be > 0")));
     }
 
+    @Test
+    void forks_default_1() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse(Collections.emptyList())
+            .build();
+        assertThat(options.getForks(), is(1));
+    }
+
+    @Test
+    void ensure_forks_param_is_used() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--forks", "4")
+            .build();
+        assertThat(options.getForks(), is(4));
+    }
+
+    @Test
+    void ensure_less_than_1_fork_is_not_allowed() {
+        Executable testMethod = () -> new CommandlineOptionsParser()
+            .parse("--forks", "0")
+            .build();
+        CucumberException actualThrown = assertThrows(CucumberException.class, testMethod);
+        assertThat(actualThrown.getMessage(), is(equalTo("--forks must be > 0")));
+    }
+
+    @Test
+    void ensure_threads_and_forks_are_not_used_together() {
+        Executable testMethod = () -> new CommandlineOptionsParser()
+            .parse("--threads", "2", "--forks", "2")
+            .build();
+        CucumberException actualThrown = assertThrows(CucumberException.class, testMethod);
+        assertThat(actualThrown.getMessage(), is(equalTo("--threads and --forks can not be used together")));
+    }
+
     @Test
     void set_monochrome_on_color_aware_formatters() {
         RuntimeOptions options = new CommandlineOptionsParser()
@@ -0,0 +1,62 @@
+package io.cucumber.core.resource;
+
+import io.cucumber.core.resource.test.AnnotatedMethodClass;
+import io.cucumber.core.resource.test.ExampleClass;
+import io.cucumber.core.resource.test.ExampleInterface;
+import io.cucumber.core.resource.test.OtherClass;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import static io.cucumber.core.resource.ClassHierarchy.internalName;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+class ClassFileTest {
+
+    private final ClassHierarchy hierarchy = new ClassHierarchy(ClassFileTest.class.getClassLoader());
+
+    private static ClassFile read(Class<?> aClass) throws IOException {
+        String resourceName = internalName(aClass.getName()) + ".class";
+        try (InputStream inputStream = aClass.getClassLoader().getResourceAsStream(resourceName)) {
+            return ClassFile.read(inputStream).orElseThrow(IllegalStateException::new);
+        }
+    }
+
+    @Test
+    void readsNameAndSuperTypes() throws IOException {
+        ClassFile classFile = read(ExampleClass.class);
+
+        assertThat(classFile.getName(), is("io/cucumber/core/resource/test/ExampleClass"));
+        assertThat(classFile.getSuperTypeNames(), contains(
+            "java/lang/Object",
+            "io/cucumber/core/resource/test/ExampleInterface"
+        ));
+    }
+
+    @Test
+    void readsAnnotatedMethods() throws IOException {
+        assertThat(read(AnnotatedMethodClass.class).hasAnnotatedMethods(), is(true));
+        assertThat(read(OtherClass.class).hasAnnotatedMethods(), is(false));
+    }
+
+    @Test
+    void rejectsNonClassFiles() throws IOException {
+        Optional<ClassFile> classFile = ClassFile.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}));
+
+        assertThat(classFile.isPresent(), is(false));
+    }
+
+    @Test
+    void findsSubTypes() throws IOException {
+        String parent = internalName(ExampleInterface.class.getName());
+
+        assertThat(hierarchy.isSubTypeOf(read(ExampleClass.class), parent), is(true));
+        assertThat(hierarchy.isSubTypeOf(read(OtherClass.class), parent), is(false));
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.cucumber.core.resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClasspathScanCacheTest {
+
+    private final ClassLoader classLoader = ClasspathScanCacheTest.class.getClassLoader();
+    private final List<URI> gluePaths = singletonList(URI.create("classpath:com/example"));
+
+    @Test
+    void scans_once_per_class_loader_and_glue_paths() {
+        AtomicInteger scans = new AtomicInteger();
+        ClasspathScanCache<String> cache = new ClasspathScanCache<>((classLoader, gluePaths) -> {
+            scans.incrementAndGet();
+            return singletonList("glue");
+        });
+
+        List<String> first = cache.get(classLoader, gluePaths);
+        List<String> second = cache.get(classLoader, gluePaths);
+        cache.get(classLoader, singletonList(URI.create("classpath:com/other")));
+
+        assertThat(first, is(sameInstance(second)));
+        assertThat(scans.get(), is(2));
+    }
+
+    @Test
+    void retries_failed_scans() {
+        AtomicInteger scans = new AtomicInteger();
+        ClasspathScanCache<String> cache = new ClasspathScanCache<>((classLoader, gluePaths) -> {
+            if (scans.incrementAndGet() == 1) {
+                throw new IllegalStateException("first scan fails");
+            }
+            return singletonList("glue");
+        });
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> cache.get(classLoader, gluePaths));
+
+        assertThat(exception.getMessage(), is("first scan fails"));
+        assertThat(cache.get(classLoader, gluePaths), contains("glue"));
+    }
+
+    @Test
+    void runs_tasks_in_parallel_with_the_class_loader_as_context_class_loader() {
+        ClassLoader glueClassLoader = new URLClassLoader(new URL[0], classLoader);
+
+        List<ClassLoader> contextClassLoaders = ClasspathScanCache.inParallel(
+            glueClassLoader,
+            asList("a", "b", "c"),
+            input -> singletonList(Thread.currentThread().getContextClassLoader())
+        );
+
+        assertThat(contextClassLoaders, contains(glueClassLoader, glueClassLoader, glueClassLoader));
+    }
+
+    @Test
+    void merges_parallel_results_in_input_order() {
+        List<String> results = ClasspathScanCache.inParallel(
+            classLoader,
+            asList("a", "b", "c"),
+            input -> asList(input + 1, input + 2)
+        );
+
+        assertThat(results, contains("a1", "a2", "b1", "b2", "c1", "c2"));
+    }
+
+    @Test
+    void rethrows_exceptions_of_parallel_tasks() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> ClasspathScanCache.inParallel(
+            classLoader,
+            asList("a", "b"),
+            input -> {
+                throw new IllegalArgumentException(input);
+            }
+        ));
+
+        assertThat(exception.getMessage(), is("a"));
+    }
+
+}
@@ -1,12 +1,35 @@
 package io.cucumber.core.resource;
 
+import io.cucumber.core.resource.test.AnnotatedMethodClass;
+import io.cucumber.core.resource.test.ExampleAnnotation;
 import io.cucumber.core.resource.test.ExampleClass;
 import io.cucumber.core.resource.test.ExampleInterface;
 import io.cucumber.core.resource.test.OtherClass;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
+import static io.cucumber.core.resource.GlueIndexProcessorTest.GIVEN;
+import static java.util.Collections.emptyEnumeration;
+import static java.util.Collections.enumeration;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
@@ -39,6 +62,8 @@ class ClasspathScannerTest {
             scanForClassesInPackage("io.cucumber.core.resource.test");
 
         assertThat(classes, containsInAnyOrder(
+            AnnotatedMethodClass.class,
+            ExampleAnnotation.class,
             ExampleClass.class,
             ExampleInterface.class,
             OtherClass.class
@@ -46,6 +71,14 @@ class ClasspathScannerTest {
 
     }
 
+    @Test
+    void scanForClassesWithAnnotatedMethodsInPackage() {
+        List<Class<?>> classes = scanner.
+            scanForClassesWithAnnotatedMethodsInPackage("io.cucumber.core.resource.test");
+
+        assertThat(classes, contains(AnnotatedMethodClass.class));
+    }
+
     @Test
     void scanForClassesInNonExistingPackage() {
         List<Class<?>> classes = scanner.
@@ -53,4 +86,143 @@ class ClasspathScannerTest {
         assertThat(classes, empty());
     }
 
-}
\ No newline at end of file
+    @Test
+    void scanForClassesInIndexedRoot(@TempDir Path glue) throws IOException {
+        Map<String, String> sources = new HashMap<>();
+        sources.put("io.cucumber.java.en.Given", GIVEN);
+        sources.put("com.example.Steps", "" +
+            "package com.example;\n" +
+            "public class Steps {\n" +
+            "    @io.cucumber.java.en.Given(\"a step\")\n" +
+            "    public void step() {}\n" +
+            "}\n");
+        sources.put("com.example.NotGlue", "" +
+            "package com.example;\n" +
+            "public class NotGlue {}\n");
+        Path classes = GlueIndexCompiler.compile(glue, sources);
+
+        ClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null);
+        List<Class<?>> found = new ClasspathScanner(() -> classLoader)
+            .scanForClassesInPackage("com.example");
+
+        assertThat(classNames(found), contains("com.example.Steps"));
+    }
+
+    @Test
+    void scanForClassesInIndexedRootWithInheritedGlue(@TempDir Path base, @TempDir Path glue) throws IOException {
+        Map<String, String> baseSources = new HashMap<>();
+        baseSources.put("io.cucumber.java.en.Given", GIVEN);
+        baseSources.put("com.base.BaseSteps", "" +
+            "package com.base;\n" +
+            "public class BaseSteps {\n" +
+            "    @io.cucumber.java.en.Given(\"a step\")\n" +
+            "    public void step() {}\n" +
+            "}\n");
+        Path baseClasses = GlueIndexCompiler.compile(base, baseSources);
+        Map<String, String> sources = new HashMap<>();
+        sources.put("com.example.InheritingSteps", "" +
+            "package com.example;\n" +
+            "public class InheritingSteps extends com.base.BaseSteps {}\n");
+        Path classes = GlueIndexCompiler.compile(glue, sources, baseClasses);
+
+        ClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL(), baseClasses.toUri().toURL()}, null);
+        List<Class<?>> found = new ClasspathScanner(() -> classLoader)
+            .scanForClassesWithAnnotatedMethodsInPackage("com.example");
+
+        assertThat(classNames(found), contains("com.example.InheritingSteps"));
+    }
+
+    @Test
+    void scanForClassesWithAnnotatedMethodsInNestedJar(@TempDir Path glue) throws IOException {
+        Map<String, String> sources = new HashMap<>();
+        sources.put("io.cucumber.java.en.Given", GIVEN);
+        sources.put("com.example.Steps", "" +
+            "package com.example;\n" +
+            "public class Steps {\n" +
+            "    @io.cucumber.java.en.Given(\"a step\")\n" +
+            "    public void step() {}\n" +
+            "}\n");
+        sources.put("com.example.NotGlue", "" +
+            "package com.example;\n" +
+            "public class NotGlue {}\n");
+        Path classes = GlueIndexCompiler.compile(glue, sources);
+        Map<String, byte[]> classFiles = readClassFiles(classes);
+        Path outerJar = glue.resolve("spring-boot.jar");
+        try (ZipOutputStream outer = new ZipOutputStream(Files.newOutputStream(outerJar))) {
+            outer.putNextEntry(new ZipEntry("BOOT-INF/lib/glue.jar"));
+            writeJar(outer, classFiles);
+            outer.closeEntry();
+        }
+
+        String nestedJar = "jar:" + outerJar.toUri() + "!/BOOT-INF/lib/glue.jar!/";
+        ClassLoader classLoader = new NestedJarClassLoader(nestedJar, classFiles);
+        List<Class<?>> found = new ClasspathScanner(() -> classLoader)
+            .scanForClassesWithAnnotatedMethodsInPackage("com.example");
+
+        assertThat(classNames(found), contains("com.example.Steps"));
+    }
+
+    private static Map<String, byte[]> readClassFiles(Path classes) throws IOException {
+        Map<String, byte[]> classFiles = new HashMap<>();
+        try (Stream<Path> files = Files.walk(classes)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".class")).collect(toList())) {
+                classFiles.put(classes.relativize(file).toString().replace('\\', '/'), Files.readAllBytes(file));
+            }
+        }
+        return classFiles;
+    }
+
+    private static void writeJar(OutputStream out, Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream jar = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(jar)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        jar.writeTo(out);
+    }
+
+    /**
+     * Loads classes from a jar nested in another jar, like the class loader
+     * of a Spring Boot executable jar.
+     */
+    private static final class NestedJarClassLoader extends ClassLoader {
+
+        private final String nestedJar;
+        private final Map<String, byte[]> classFiles;
+
+        NestedJarClassLoader(String nestedJar, Map<String, byte[]> classFiles) {
+            super(null);
+            this.nestedJar = nestedJar;
+            this.classFiles = classFiles;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] classFile = classFiles.get(name.replace('.', '/') + ".class");
+            if (classFile == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            byte[] classFile = classFiles.get(name);
+            return classFile == null ? super.getResourceAsStream(name) : new ByteArrayInputStream(classFile);
+        }
+
+        @Override
+        protected Enumeration<URL> findResources(String name) throws IOException {
+            boolean isPackage = classFiles.keySet().stream().anyMatch(classFile -> classFile.startsWith(name + "/"));
+            return isPackage ? enumeration(singletonList(new URL(nestedJar + name))) : emptyEnumeration();
+        }
+    }
+
+    private static List<String> classNames(List<Class<?>> classes) {
+        return classes.stream().map(Class::getName).collect(toList());
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.cucumber.core.resource;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Compiles java sources with the {@link GlueIndexProcessor} enabled.
+ */
+final class GlueIndexCompiler {
+
+    private GlueIndexCompiler() {
+
+    }
+
+    /**
+     * @param root      directory to write the sources, class files and index to
+     * @param sources   source code by fully qualified class name
+     * @param classPath additional class path entries
+     * @return the directory containing the class files and index
+     */
+    static Path compile(Path root, Map<String, String> sources, Path... classPath) throws IOException {
+        Path sourceDir = root.resolve("sources");
+        Path output = root.resolve("classes");
+        List<File> sourceFiles = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path sourceFile = sourceDir.resolve(source.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(sourceFile.getParent());
+            Files.write(sourceFile, source.getValue().getBytes(UTF_8));
+            sourceFiles.add(sourceFile.toFile());
+        }
+        Files.createDirectories(output);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, UTF_8)) {
+            List<String> options = new ArrayList<>(asList("-d", output.toString()));
+            if (classPath.length > 0) {
+                options.add("-classpath");
+                options.add(asList(classPath).stream().map(Path::toString).collect(joining(File.pathSeparator)));
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                options,
+                null,
+                fileManager.getJavaFileObjectsFromFiles(sourceFiles)
+            );
+            task.setProcessors(singletonList(new GlueIndexProcessor()));
+            if (!task.call()) {
+                throw new IllegalStateException(diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(Object::toString)
+                    .collect(joining("\n")));
+            }
+        }
+        return output;
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.cucumber.core.resource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+class GlueIndexProcessorTest {
+
+    static final String GIVEN = "" +
+        "package io.cucumber.java.en;\n" +
+        "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n" +
+        "public @interface Given {\n" +
+        "    String value();\n" +
+        "}\n";
+
+    @TempDir
+    Path base;
+
+    @TempDir
+    Path glue;
+
+    @Test
+    void indexes_classes_with_annotated_methods_and_glue_types() throws IOException {
+        Map<String, String> sources = new HashMap<>();
+        sources.put("io.cucumber.java.en.Given", GIVEN);
+        sources.put("io.cucumber.java8.LambdaGlue", "" +
+            "package io.cucumber.java8;\n" +
+            "public interface LambdaGlue {}\n");
+        sources.put("io.cucumber.core.api.TypeRegistryConfigurer", "" +
+            "package io.cucumber.core.api;\n" +
+            "public interface TypeRegistryConfigurer {}\n");
+        sources.put("com.example.Steps", "" +
+            "package com.example;\n" +
+            "public class Steps {\n" +
+            "    @io.cucumber.java.en.Given(\"a step\")\n" +
+            "    public void step() {}\n" +
+            "    public static class Nested {\n" +
+            "        @io.cucumber.java.en.Given(\"a nested step\")\n" +
+            "        public void step() {}\n" +
+            "    }\n" +
+            "}\n");
+        sources.put("com.example.LambdaSteps", "" +
+            "package com.example;\n" +
+            "public class LambdaSteps implements io.cucumber.java8.LambdaGlue {}\n");
+        sources.put("com.example.Configurer", "" +
+            "package com.example;\n" +
+            "public class Configurer implements io.cucumber.core.api.TypeRegistryConfigurer {}\n");
+        sources.put("com.example.Plain", "" +
+            "package com.example;\n" +
+            "public class Plain {\n" +
+            "    @Deprecated\n" +
+            "    public void method() {}\n" +
+            "}\n");
+
+        Path classes = GlueIndexCompiler.compile(glue, sources);
+
+        assertThat(readIndex(classes), contains(
+            "com.example.Configurer",
+            "com.example.LambdaSteps",
+            "com.example.Steps",
+            "com.example.Steps$Nested"
+        ));
+    }
+
+    @Test
+    void indexes_classes_that_inherit_annotated_methods_from_other_compilation_units() throws IOException {
+        Map<String, String> baseSources = new HashMap<>();
+        baseSources.put("io.cucumber.java.en.Given", GIVEN);
+        baseSources.put("com.base.BaseSteps", "" +
+            "package com.base;\n" +
+            "public class BaseSteps {\n" +
+            "    @io.cucumber.java.en.Given(\"a step\")\n" +
+            "    public void step() {}\n" +
+            "}\n");
+        Path baseClasses = GlueIndexCompiler.compile(base, baseSources);
+
+        Map<String, String> sources = new HashMap<>();
+        sources.put("com.example.InheritingSteps", "" +
+            "package com.example;\n" +
+            "public class InheritingSteps extends com.base.BaseSteps {}\n");
+        Path classes = GlueIndexCompiler.compile(glue, sources, baseClasses);
+
+        assertThat(readIndex(classes), contains("com.example.InheritingSteps"));
+    }
+
+    @Test
+    void does_not_write_an_index_without_glue() throws IOException {
+        Map<String, String> sources = new HashMap<>();
+        sources.put("com.example.Plain", "" +
+            "package com.example;\n" +
+            "public class Plain {}\n");
+
+        Path classes = GlueIndexCompiler.compile(glue, sources);
+
+        assertThat(Files.exists(classes.resolve(GlueIndex.GLUE_INDEX_RESOURCE)), is(false));
+    }
+
+    private static List<String> readIndex(Path classes) throws IOException {
+        return Files.readAllLines(classes.resolve(GlueIndex.GLUE_INDEX_RESOURCE), UTF_8);
+    }
+
+}
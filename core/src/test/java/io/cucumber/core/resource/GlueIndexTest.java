@@ -0,0 +1,64 @@
+package io.cucumber.core.resource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static io.cucumber.core.resource.ClasspathSupport.getRootUrisForPackage;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+class GlueIndexTest {
+
+    @TempDir
+    Path indexed;
+
+    @TempDir
+    Path notIndexed;
+
+    @Test
+    void findsIndexedClassesInPackage() throws IOException {
+        Files.createDirectories(indexed.resolve("com/example/sub"));
+        Path index = indexed.resolve(GlueIndex.GLUE_INDEX_RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, asList(
+            "# generated",
+            "com.example.Steps",
+            "com.example.sub.Hooks",
+            "",
+            "com.other.Steps"
+        ), UTF_8);
+
+        ClassLoader classLoader = new URLClassLoader(new URL[]{indexed.toUri().toURL()}, null);
+        GlueIndex glueIndex = GlueIndex.load(classLoader);
+        URI packageUri = getRootUrisForPackage(classLoader, "com.example").get(0);
+
+        Optional<List<String>> classNames = glueIndex.findClassNamesInPackage(packageUri, "com.example");
+
+        assertThat(classNames.isPresent(), is(true));
+        assertThat(classNames.get(), contains("com.example.Steps", "com.example.sub.Hooks"));
+    }
+
+    @Test
+    void doesNotFindClassesInRootsWithoutIndex() throws IOException {
+        Files.createDirectories(notIndexed.resolve("com/example"));
+
+        ClassLoader classLoader = new URLClassLoader(new URL[]{notIndexed.toUri().toURL()}, null);
+        GlueIndex glueIndex = GlueIndex.load(classLoader);
+        URI packageUri = getRootUrisForPackage(classLoader, "com.example").get(0);
+
+        assertThat(glueIndex.findClassNamesInPackage(packageUri, "com.example").isPresent(), is(false));
+    }
+
+}
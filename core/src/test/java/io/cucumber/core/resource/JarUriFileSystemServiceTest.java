@@ -10,6 +10,7 @@ import java.nio.file.FileSystem;
 import static io.cucumber.core.resource.ClasspathSupport.getRootUrisForPackage;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -23,11 +24,7 @@ class JarUriFileSystemServiceTest {
 
     @Test
     void canOpenMultipleConcurrently() throws IOException, URISyntaxException {
-        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-        URI first = getRootUrisForPackage(classLoader, "io.cucumber").stream()
-            .filter(JarUriFileSystemService::supports)
-            .findFirst()
-            .orElseThrow(IllegalStateException::new);
+        URI first = firstJarUri();
 
         CloseablePath path1 = JarUriFileSystemService.open(first);
         FileSystem fileSystem1 = path1.getPath().getFileSystem();
@@ -46,5 +43,54 @@ class JarUriFileSystemServiceTest {
         assertFalse(fileSystem2.isOpen());
     }
 
+    @Test
+    void keepsFileSystemsOpenUntilTheScopeIsClosed() throws IOException, URISyntaxException {
+        URI first = firstJarUri();
+
+        JarFileSystemScope scope = JarFileSystemScope.open();
+        CloseablePath path1 = JarUriFileSystemService.open(first);
+        FileSystem fileSystem1 = path1.getPath().getFileSystem();
+        path1.close();
+        assertTrue(fileSystem1.isOpen());
+
+        CloseablePath path2 = JarUriFileSystemService.open(first);
+        FileSystem fileSystem2 = path2.getPath().getFileSystem();
+        path2.close();
+        assertThat(fileSystem1, is(fileSystem2));
+
+        scope.close();
+        assertFalse(fileSystem1.isOpen());
+    }
+
+    @Test
+    void reopensFileSystemsInTheNextScope() throws IOException, URISyntaxException {
+        URI first = firstJarUri();
+
+        FileSystem fileSystem1;
+        try (JarFileSystemScope ignored = JarFileSystemScope.open()) {
+            CloseablePath path = JarUriFileSystemService.open(first);
+            fileSystem1 = path.getPath().getFileSystem();
+            path.close();
+        }
+
+        FileSystem fileSystem2;
+        try (JarFileSystemScope ignored = JarFileSystemScope.open()) {
+            CloseablePath path = JarUriFileSystemService.open(first);
+            fileSystem2 = path.getPath().getFileSystem();
+            path.close();
+            assertTrue(fileSystem2.isOpen());
+        }
+
+        assertThat(fileSystem1, is(not(fileSystem2)));
+        assertFalse(fileSystem2.isOpen());
+    }
+
+    private static URI firstJarUri() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return getRootUrisForPackage(classLoader, "io.cucumber").stream()
+            .filter(JarUriFileSystemService::supports)
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+    }
 
-}
\ No newline at end of file
+}
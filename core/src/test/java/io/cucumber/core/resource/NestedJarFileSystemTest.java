@@ -0,0 +1,124 @@
+package io.cucumber.core.resource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.ClosedFileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Scanner;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NestedJarFileSystemTest {
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void reads_stored_nested_jars() throws IOException {
+        Path outerJar = writeOuterJar("stored.jar", ZipEntry.STORED, "stored");
+
+        try (NestedJarFileSystem fileSystem = NestedJarFileSystem.open(nestedJarUri(outerJar, "stored.jar"))) {
+            assertThat(read(fileSystem.getPath("/com/example/resource.txt")), is("stored"));
+        }
+    }
+
+    @Test
+    void reads_compressed_nested_jars() throws IOException {
+        Path outerJar = writeOuterJar("deflated.jar", ZipEntry.DEFLATED, "deflated");
+
+        try (NestedJarFileSystem fileSystem = NestedJarFileSystem.open(nestedJarUri(outerJar, "deflated.jar"))) {
+            assertThat(read(fileSystem.getPath("/com/example/resource.txt")), is("deflated"));
+        }
+    }
+
+    @Test
+    void reads_the_outer_jar_again_when_it_changed() throws IOException {
+        Path outerJar = writeOuterJar("steps.jar", ZipEntry.STORED, "before");
+        try (NestedJarFileSystem fileSystem = NestedJarFileSystem.open(nestedJarUri(outerJar, "steps.jar"))) {
+            assertThat(read(fileSystem.getPath("/com/example/resource.txt")), is("before"));
+        }
+
+        writeOuterJar("steps.jar", ZipEntry.STORED, "after, with a different length");
+        Files.setLastModifiedTime(outerJar, FileTime.fromMillis(0));
+
+        try (NestedJarFileSystem fileSystem = NestedJarFileSystem.open(nestedJarUri(outerJar, "steps.jar"))) {
+            assertThat(read(fileSystem.getPath("/com/example/resource.txt")), is("after, with a different length"));
+        }
+    }
+
+    @Test
+    void throws_for_missing_nested_jars() throws IOException {
+        Path outerJar = writeOuterJar("steps.jar", ZipEntry.STORED, "content");
+        URI missing = nestedJarUri(outerJar, "missing.jar");
+
+        NoSuchFileException exception = assertThrows(NoSuchFileException.class, () -> NestedJarFileSystem.open(missing));
+
+        assertThat(exception.getMessage(), is(missing.toString()));
+    }
+
+    @Test
+    void can_not_be_used_after_closing() throws IOException {
+        Path outerJar = writeOuterJar("steps.jar", ZipEntry.STORED, "content");
+        NestedJarFileSystem fileSystem = NestedJarFileSystem.open(nestedJarUri(outerJar, "steps.jar"));
+        Path resource = fileSystem.getPath("/com/example/resource.txt");
+
+        fileSystem.close();
+
+        assertThat(fileSystem.isOpen(), is(false));
+        assertThrows(ClosedFileSystemException.class, () -> Files.newInputStream(resource));
+    }
+
+    private Path writeOuterJar(String nestedJarName, int method, String content) throws IOException {
+        byte[] nestedJar = createJar(content);
+        Path outerJar = temp.resolve("app.jar");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(outerJar))) {
+            ZipEntry entry = new ZipEntry("BOOT-INF/lib/" + nestedJarName);
+            entry.setMethod(method);
+            if (method == ZipEntry.STORED) {
+                CRC32 crc = new CRC32();
+                crc.update(nestedJar);
+                entry.setSize(nestedJar.length);
+                entry.setCrc(crc.getValue());
+            }
+            zip.putNextEntry(entry);
+            zip.write(nestedJar);
+            zip.closeEntry();
+        }
+        return outerJar;
+    }
+
+    private static byte[] createJar(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("com/example/resource.txt"));
+            zip.write(content.getBytes(UTF_8));
+            zip.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static URI nestedJarUri(Path outerJar, String nestedJarName) {
+        return URI.create("jar:" + outerJar.toUri() + "!/BOOT-INF/lib/" + nestedJarName);
+    }
+
+    private static String read(Path path) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return new Scanner(inputStream, "UTF-8").nextLine();
+        }
+    }
+
+}
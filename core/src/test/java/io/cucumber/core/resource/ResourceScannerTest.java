@@ -127,12 +127,33 @@ class ResourceScannerTest {
         URI jarFileUri = new File("src/test/resources/io/cucumber/core/resource/test/spring-resource.jar").toURI();
         URI resourceUri = URI.create("jar:file://" + jarFileUri.getSchemeSpecificPart() + "!/BOOT-INF/lib/jar-resource.jar!/com/example/package-jar-resource.txt");
 
+        List<URI> resources = resourceScanner.scanForResourcesUri(resourceUri);
+        assertThat(resources, contains(resourceUri));
+    }
+
+    @Test
+    void scanForResourcesNestedJarPackageUri() {
+        URI jarFileUri = new File("src/test/resources/io/cucumber/core/resource/test/spring-resource.jar").toURI();
+        String nestedJar = "jar:file://" + jarFileUri.getSchemeSpecificPart() + "!/BOOT-INF/lib/jar-resource.jar!";
+        URI resourceUri = URI.create(nestedJar + "/");
+
+        List<URI> resources = resourceScanner.scanForResourcesUri(resourceUri);
+        assertThat(resources, containsInAnyOrder(
+            URI.create(nestedJar + "/jar-resource.txt"),
+            URI.create(nestedJar + "/com/example/package-jar-resource.txt")
+        ));
+    }
+
+    @Test
+    void scanForResourcesDoublyNestedJarUri() {
+        URI jarFileUri = new File("src/test/resources/io/cucumber/core/resource/test/spring-resource.jar").toURI();
+        URI resourceUri = URI.create("jar:file://" + jarFileUri.getSchemeSpecificPart() + "!/BOOT-INF/lib/jar-resource.jar!/lib/other.jar!/com/example");
+
         CucumberException exception = assertThrows(
             CucumberException.class,
             () -> resourceScanner.scanForResourcesUri(resourceUri)
         );
-        assertThat(exception.getMessage(), containsString("Cucumber currently doesn't support classpath scanning in nested jars."));
-
+        assertThat(exception.getMessage(), containsString("nested more than one level deep"));
     }
 
     @Test
@@ -0,0 +1,10 @@
+package io.cucumber.core.resource.test;
+
+public class AnnotatedMethodClass {
+
+    @ExampleAnnotation
+    public void annotated() {
+
+    }
+
+}
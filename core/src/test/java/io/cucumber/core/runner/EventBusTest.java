@@ -55,4 +55,45 @@ class EventBusTest {
         verify(handler, never()).receive(event);
     }
 
+    @Test
+    void removed_handlers_do_not_receive_events() {
+        EventHandler<TestStepFinished> removed = mock(EventHandler.class);
+        EventHandler<TestStepFinished> retained = mock(EventHandler.class);
+        PickleStepTestStep testStep = mock(PickleStepTestStep.class);
+        Result result = new Result(Status.PASSED, ZERO, null);
+        TestCase testCase = mock(TestCase.class);
+        TestStepFinished event = new TestStepFinished(EPOCH, testCase, testStep, result);
+
+        EventBus bus = new TimeServiceEventBus(Clock.fixed(Instant.EPOCH, ZoneId.of("UTC")));
+        bus.registerHandlerFor(TestStepFinished.class, removed);
+        bus.registerHandlerFor(TestStepFinished.class, retained);
+        bus.removeHandlerFor(TestStepFinished.class, removed);
+        bus.send(event);
+
+        verify(removed, never()).receive(event);
+        verify(retained).receive(event);
+    }
+
+    @Test
+    void handlers_can_be_removed_while_receiving_events() {
+        EventBus bus = new TimeServiceEventBus(Clock.fixed(Instant.EPOCH, ZoneId.of("UTC")));
+        EventHandler<TestStepFinished> next = mock(EventHandler.class);
+        EventHandler<TestStepFinished> removing = new EventHandler<TestStepFinished>() {
+            @Override
+            public void receive(TestStepFinished event) {
+                bus.removeHandlerFor(TestStepFinished.class, this);
+            }
+        };
+        PickleStepTestStep testStep = mock(PickleStepTestStep.class);
+        Result result = new Result(Status.PASSED, ZERO, null);
+        TestCase testCase = mock(TestCase.class);
+        TestStepFinished event = new TestStepFinished(EPOCH, testCase, testStep, result);
+
+        bus.registerHandlerFor(TestStepFinished.class, removing);
+        bus.registerHandlerFor(TestStepFinished.class, next);
+        bus.send(event);
+
+        verify(next).receive(event);
+    }
+
 }
@@ -0,0 +1,75 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+class ForkProtocolTest {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+
+    private DataInputStream in() {
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    @Test
+    void writes_and_reads_strings() throws IOException {
+        ForkProtocol.writeString(out, "Scenario: \u00fcn\u00efc\u00f6d\u00e9");
+        ForkProtocol.writeString(out, null);
+        ForkProtocol.writeString(out, "");
+
+        DataInputStream in = in();
+        assertThat(ForkProtocol.readString(in), is("Scenario: \u00fcn\u00efc\u00f6d\u00e9"));
+        assertThat(ForkProtocol.readString(in), is(nullValue()));
+        assertThat(ForkProtocol.readString(in), is(""));
+    }
+
+    @Test
+    void writes_and_reads_instants() throws IOException {
+        Instant instant = Instant.ofEpochSecond(1571443200, 123456789);
+        ForkProtocol.writeInstant(out, instant);
+
+        assertThat(ForkProtocol.readInstant(in()), is(instant));
+    }
+
+    @Test
+    void writes_and_reads_results() throws IOException {
+        Result result = new Result(Status.PASSED, Duration.ofMillis(1250), null);
+        ForkProtocol.writeResult(out, result);
+
+        assertThat(ForkProtocol.readResult(in()), is(result));
+    }
+
+    @Test
+    void writes_and_reads_errors_with_the_stack_trace_of_the_fork() throws IOException {
+        IllegalStateException error = new IllegalStateException("Oops");
+        ForkProtocol.writeResult(out, new Result(Status.FAILED, Duration.ZERO, error));
+
+        Throwable forkedError = ForkProtocol.readResult(in()).getError();
+
+        assertThat(forkedError.toString(), is(error.toString()));
+        assertThat(stackTrace(forkedError), is(stackTrace(error)));
+    }
+
+    private static String stackTrace(Throwable error) {
+        StringWriter stackTrace = new StringWriter();
+        error.printStackTrace(new PrintWriter(stackTrace));
+        return stackTrace.toString();
+    }
+
+}
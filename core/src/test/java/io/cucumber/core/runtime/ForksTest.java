@@ -0,0 +1,120 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.backend.StubBackendProviderService;
+import io.cucumber.core.options.CommandlineOptionsParser;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.cucumber.core.runtime.ForkProtocol.writeString;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+class ForksTest {
+
+    private static final URI FEATURE = URI.create("classpath:io/cucumber/core/runtime/forks.feature");
+
+    private final Map<String, TestCase> startedTestCases = new HashMap<>();
+    private final Map<String, Result> testCaseResults = new HashMap<>();
+    private final Map<String, List<TestStepFinished>> testStepsFinished = new HashMap<>();
+    private final List<TestRunFinished> testRunsFinished = new ArrayList<>();
+
+    private final ConcurrentEventListener listener = publisher -> {
+        publisher.registerHandlerFor(TestCaseStarted.class, event ->
+            startedTestCases.put(event.getTestCase().getName(), event.getTestCase()));
+        publisher.registerHandlerFor(TestStepFinished.class, event ->
+            testStepsFinished.computeIfAbsent(event.getTestCase().getName(), name -> new ArrayList<>()).add(event));
+        publisher.registerHandlerFor(TestCaseFinished.class, event ->
+            testCaseResults.put(event.getTestCase().getName(), event.getResult()));
+        publisher.registerHandlerFor(TestRunFinished.class, testRunsFinished::add);
+    };
+
+    @Test
+    void runs_pickles_in_forks_and_fails_the_pickle_of_a_killed_fork() {
+        Runtime runtime = Runtime.builder()
+            .withRuntimeOptions(new CommandlineOptionsParser()
+                .parse(
+                    "--forks", "2",
+                    "--glue", StubBackendProviderService.FORKS_GLUE.toString(),
+                    FEATURE.toString())
+                .build())
+            .withAdditionalPlugins(listener)
+            .build();
+
+        runtime.run();
+
+        TestCase passing = startedTestCases.get("Passing");
+        assertThat(passing.getUri(), is(FEATURE));
+        assertThat(passing.getLine(), is(3));
+        assertThat(stepTexts(passing), contains("a passing step", "a passing step"));
+        assertThat(testCaseResults.get("Passing").getStatus(), is(Status.PASSED));
+        assertThat(statuses("Passing"), contains(Status.PASSED, Status.PASSED));
+
+        TestCase killed = startedTestCases.get("Killed");
+        assertThat(stepTexts(killed), contains("a passing step", "the fork is killed", "a passing step"));
+        Result killedResult = testCaseResults.get("Killed");
+        assertThat(killedResult.getStatus(), is(Status.FAILED));
+        assertThat(killedResult.getError().getMessage(), is("Fork exited while running " + FEATURE + ":7"));
+        assertThat(statuses("Killed"), contains(Status.PASSED, Status.FAILED));
+        assertThat(testStepsFinished.get("Killed").get(1).getTestStep(), is(killed.getTestSteps().get(1)));
+
+        assertThat(testCaseResults.get("After the fork was killed").getStatus(), is(Status.PASSED));
+        assertThat(testRunsFinished.size(), is(1));
+        assertThat(runtime.exitStatus(), is((byte) 0x1));
+    }
+
+    @Test
+    void rejects_connections_without_the_token_of_the_fork() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 2, InetAddress.getLoopbackAddress());
+             Socket intruder = connect(serverSocket, "guessed");
+             Socket fork = connect(serverSocket, "secret")) {
+
+            try (Socket accepted = Forks.acceptFork(serverSocket, "secret")) {
+                assertThat(accepted.getPort(), is(fork.getLocalPort()));
+            }
+            assertThat(intruder.getInputStream().read(), is(-1));
+        }
+    }
+
+    private static Socket connect(ServerSocket serverSocket, String token) throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        writeString(out, token);
+        out.flush();
+        return socket;
+    }
+
+    private static List<String> stepTexts(TestCase testCase) {
+        return testCase.getTestSteps().stream()
+            .map(PickleStepTestStep.class::cast)
+            .map(testStep -> testStep.getStep().getText())
+            .collect(toList());
+    }
+
+    private List<Status> statuses(String testCaseName) {
+        return testStepsFinished.get(testCaseName).stream()
+            .map(event -> event.getResult().getStatus())
+            .collect(toList());
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.options.CommandlineOptionsParser;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.TestCaseFinished;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RuntimeSessionTest {
+
+    private final RuntimeOptions runtimeOptions = new CommandlineOptionsParser()
+        .parse("classpath:io/cucumber/core/plugin/JUnitFormatterTest_1.feature")
+        .build();
+    private final RuntimeSession session = new RuntimeSession(RuntimeSessionTest.class::getClassLoader);
+
+    @Test
+    void reuses_parsed_features_between_runs() {
+        List<CucumberFeature> first = session.createFeatureSupplier(runtimeOptions).get();
+        List<CucumberFeature> second = session.createFeatureSupplier(runtimeOptions).get();
+
+        assertThat(second.get(0), is(sameInstance(first.get(0))));
+    }
+
+    @Test
+    void runs_features_repeatedly() {
+        assertThat(session.run(runtimeOptions), is((byte) 0));
+        assertThat(session.run(runtimeOptions), is((byte) 0));
+    }
+
+    @Test
+    void runtime_uses_the_session() {
+        AtomicInteger testCases = new AtomicInteger();
+        ConcurrentEventListener listener = publisher -> publisher.registerHandlerFor(
+            TestCaseFinished.class,
+            event -> testCases.incrementAndGet()
+        );
+
+        for (int i = 0; i < 2; i++) {
+            Runtime.builder()
+                .withRuntimeOptions(runtimeOptions)
+                .withClassLoader(() -> {
+                    throw new IllegalStateException("The class loader of the session should be used");
+                })
+                .withSession(session)
+                .withAdditionalPlugins(listener)
+                .build()
+                .run();
+        }
+
+        assertThat(testCases.get(), is(4));
+    }
+
+    @Test
+    void closed_session_can_not_be_used() {
+        session.close();
+
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> session.run(runtimeOptions)
+        );
+        assertThat(exception.getMessage(), is("The runtime session is closed"));
+    }
+
+}
@@ -28,12 +28,22 @@ import io.cucumber.plugin.event.StepDefinedEvent;
 import io.cucumber.plugin.event.StepDefinition;
 import io.cucumber.plugin.event.TestCase;
 import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
 import io.cucumber.plugin.event.TestStepFinished;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
+import java.io.IOException;
 import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -43,8 +53,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import static io.cucumber.core.runner.TestHelper.result;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.Duration.ZERO;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -53,6 +66,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -567,6 +581,42 @@ class RuntimeTest {
         assertThat(stepDefinedEvents.size(), is(4));
     }
 
+    @Test
+    void opens_jars_once_per_run(@TempDir Path temp) throws IOException {
+        Path jar = temp.resolve("features.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("com/example/jarred.feature"));
+            out.write(("" +
+                "Feature: feature in a jar\n" +
+                "  Scenario: scenario name\n" +
+                "    Given first step\n").getBytes(UTF_8));
+            out.closeEntry();
+        }
+        URI jarUri = URI.create("jar:" + jar.toUri());
+        ClassLoader classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, RuntimeTest.class.getClassLoader());
+
+        // The jar is read for features before the run starts and scanned
+        // for glue after. When kept open it is the same file system.
+        List<FileSystem> fileSystems = new ArrayList<>();
+        ConcurrentEventListener listener = publisher -> {
+            publisher.registerHandlerFor(TestRunStarted.class, event -> fileSystems.add(FileSystems.getFileSystem(jarUri)));
+            publisher.registerHandlerFor(TestRunFinished.class, event -> fileSystems.add(FileSystems.getFileSystem(jarUri)));
+        };
+
+        Runtime.builder()
+            .withClassLoader(() -> classLoader)
+            .withRuntimeOptions(new CommandlineOptionsParser()
+                .parse("--glue", "com.example", "classpath:com/example/jarred.feature")
+                .build())
+            .withAdditionalPlugins(listener)
+            .build()
+            .run();
+
+        assertThat(fileSystems.size(), is(2));
+        assertThat(fileSystems.get(1), is(sameInstance(fileSystems.get(0))));
+        assertThat(fileSystems.get(0).isOpen(), is(false));
+    }
+
     private String runFeatureWithFormatterSpy(CucumberFeature feature, Map<String, Result> stepsToResult) {
         FormatterSpy formatterSpy = new FormatterSpy();
 
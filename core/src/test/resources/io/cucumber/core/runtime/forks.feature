@@ -0,0 +1,13 @@
+Feature: Forks
+
+  Scenario: Passing
+    Given a passing step
+    Then a passing step
+
+  Scenario: Killed
+    Given a passing step
+    When the fork is killed
+    Then a passing step
+
+  Scenario: After the fork was killed
+    Given a passing step
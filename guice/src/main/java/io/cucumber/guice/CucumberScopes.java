@@ -33,11 +33,15 @@ public final class CucumberScopes {
 
     /**
      * Creates a new instance of a ScenarioScope.
+     * <p>
+     * The scope is confined to the thread executing the scenario. So an
+     * injector using this scope can be shared by scenarios executing in
+     * parallel.
      *
      * @return a new instance of a ScenarioScope.
      */
     public static ScenarioScope createScenarioScope() {
-        return new SequentialScenarioScope();
+        return new ThreadLocalScenarioScope();
     }
 
 }
@@ -5,16 +5,36 @@ import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.options.CucumberProperties;
 import org.apiguardian.api.API;
 
+import java.util.Map;
+
 /**
  * Guice implementation of the <code>io.cucumber.core.backend.ObjectFactory</code>.
  */
 @API(status = API.Status.STABLE)
 public final class GuiceFactory implements ObjectFactory {
 
+    static final String GUICE_SHARE_INJECTOR_KEY = "guice.share-injector";
+    /**
+     * Shared injectors by injector source class. A class value does not keep
+     * the class, and with it the class loader, from being collected. So a
+     * new class loader gets a new injector.
+     */
+    private static final ClassValue<SharedInjector> sharedInjectors = new ClassValue<SharedInjector>() {
+        @Override
+        protected SharedInjector computeValue(Class<?> injectorSourceClass) {
+            return new SharedInjector();
+        }
+    };
+
     private final Injector injector;
+    private ScenarioScope scenarioScope;
 
     public GuiceFactory() {
-        this(new InjectorSourceFactory(CucumberProperties.create()).create().getInjector());
+        this(CucumberProperties.create());
+    }
+
+    GuiceFactory(Map<String, String> properties) {
+        this(createInjector(properties));
     }
 
     /**
@@ -27,20 +47,50 @@ public final class GuiceFactory implements ObjectFactory {
         this.injector = injector;
     }
 
+    private static Injector createInjector(Map<String, String> properties) {
+        InjectorSourceFactory injectorSourceFactory = new InjectorSourceFactory(properties);
+        if (!Boolean.parseBoolean(properties.get(GUICE_SHARE_INJECTOR_KEY))) {
+            return injectorSourceFactory.create().getInjector();
+        }
+        // Creating an injector is expensive, when shared it is created once
+        // for all factories using the same injector source.
+        InjectorSource injectorSource = injectorSourceFactory.create();
+        return sharedInjectors.get(injectorSource.getClass()).get(injectorSource);
+    }
+
     public boolean addClass(Class<?> clazz) {
         return true;
     }
 
     public void start() {
-        injector.getInstance(ScenarioScope.class).enterScope();
+        getScenarioScope().enterScope();
     }
 
     public void stop() {
-        injector.getInstance(ScenarioScope.class).exitScope();
+        getScenarioScope().exitScope();
+    }
+
+    private ScenarioScope getScenarioScope() {
+        if (scenarioScope == null) {
+            scenarioScope = injector.getInstance(ScenarioScope.class);
+        }
+        return scenarioScope;
     }
 
     public <T> T getInstance(Class<T> clazz) {
         return injector.getInstance(clazz);
     }
 
+    private static final class SharedInjector {
+
+        private Injector injector;
+
+        synchronized Injector get(InjectorSource injectorSource) {
+            if (injector == null) {
+                injector = injectorSource.getInjector();
+            }
+            return injector;
+        }
+    }
+
 }
@@ -0,0 +1,139 @@
+package io.cucumber.guice;
+
+import com.google.inject.Key;
+import com.google.inject.OutOfScopeException;
+import com.google.inject.Provider;
+
+/**
+ * Scenario scope that is confined to the thread executing the scenario.
+ * <p>
+ * Each thread enters and exits its own scoping block. This allows a single
+ * injector, and this scope, to be shared by scenarios that are executed in
+ * parallel.
+ */
+final class ThreadLocalScenarioScope implements ScenarioScope {
+
+    private final ThreadLocal<ScenarioValues> scenarioValues = new ThreadLocal<>();
+
+    /**
+     * Scopes a provider. The returned provider returns objects from this scope.
+     * If an object does not exist in this scope, the provider can use the given
+     * unscoped provider to retrieve one.
+     * <p>
+     * Scope implementations are strongly encouraged to override
+     * {@link Object#toString} in the returned provider and include the backing
+     * provider's {@code toString()} output.
+     *
+     * @param key      binding key
+     * @param unscoped locates an instance when one doesn't already exist in this
+     *                 scope.
+     * @return a new provider which only delegates to the given unscoped provider
+     * when an instance of the requested object doesn't already exist in this
+     * scope
+     */
+    @Override
+    public <T> Provider<T> scope(final Key<T> key, final Provider<T> unscoped) {
+        return new Provider<T>() {
+            public T get() {
+                ScenarioValues values = scenarioValues.get();
+                if (values == null) {
+                    throw new OutOfScopeException("Cannot access " + key + " outside of a scoping block");
+                }
+                return values.get(key, unscoped);
+            }
+
+            @Override
+            public String toString() {
+                return "ScenarioScoped(" + unscoped + ")";
+            }
+        };
+    }
+
+    @Override
+    public void enterScope() {
+        checkState(scenarioValues.get() == null, "A scoping block is already in progress");
+        scenarioValues.set(new ScenarioValues());
+    }
+
+    @Override
+    public void exitScope() {
+        checkState(scenarioValues.get() != null, "No scoping block in progress");
+        scenarioValues.remove();
+    }
+
+    private void checkState(boolean expression, String errorMessage) {
+        if (!expression) {
+            throw new IllegalStateException(errorMessage);
+        }
+    }
+
+    /**
+     * Values of a single scenario.
+     * <p>
+     * Scenarios typically use a handful of scoped keys so the values are kept
+     * in a small open addressing table with linear probing rather than a
+     * {@code HashMap}.
+     */
+    static final class ScenarioValues {
+
+        private static final int INITIAL_CAPACITY = 16;
+        private static final Object NULL = new Object();
+
+        private Key<?>[] keys = new Key<?>[INITIAL_CAPACITY];
+        private Object[] values = new Object[INITIAL_CAPACITY];
+        private int size;
+
+        <T> T get(Key<T> key, Provider<T> unscoped) {
+            int index = indexOf(keys, key);
+            if (keys[index] != null) {
+                return unmask(values[index]);
+            }
+            T value = unscoped.get();
+            // The unscoped provider may have added values and resized the table
+            put(key, value);
+            return value;
+        }
+
+        private void put(Key<?> key, Object value) {
+            int index = indexOf(keys, key);
+            if (keys[index] == null) {
+                size++;
+            }
+            keys[index] = key;
+            values[index] = value == null ? NULL : value;
+            if (size * 4 >= keys.length * 3) {
+                resize();
+            }
+        }
+
+        private void resize() {
+            Key<?>[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new Key<?>[oldKeys.length * 2];
+            values = new Object[oldValues.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int index = indexOf(keys, oldKeys[i]);
+                    keys[index] = oldKeys[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+
+        private static int indexOf(Key<?>[] keys, Key<?> key) {
+            int mask = keys.length - 1;
+            int hash = key.hashCode();
+            int index = (hash ^ (hash >>> 16)) & mask;
+            while (keys[index] != null && !keys[index].equals(key)) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T unmask(Object value) {
+            return value == NULL ? null : (T) value;
+        }
+    }
+
+}
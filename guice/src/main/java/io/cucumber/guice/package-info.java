@@ -152,5 +152,13 @@
  * <pre>
  * guice.injector-source=com.company.YourInjectorSource
  * </pre>
+ * <h3>Sharing the injector</h3>
+ * <p>
+ * By default each thread executing scenarios creates its own injector. Because creating an injector can be expensive,
+ * a single injector can be shared by all threads instead. Set <code>guice.share-injector=true</code> to do this. The
+ * scenario scope created by <code>CucumberScopes.createScenarioScope()</code> is confined to the thread executing the
+ * scenario, so it can be shared safely. Note that singletons are then shared between scenarios executing in
+ * parallel, so they must be thread safe.
+ * </p>
  */
 package io.cucumber.guice;
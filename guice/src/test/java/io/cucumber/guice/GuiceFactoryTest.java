@@ -8,6 +8,7 @@ import com.google.inject.Module;
 import com.google.inject.Scopes;
 import com.google.inject.Stage;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.guice.integration.YourInjectorSource;
 import io.cucumber.guice.matcher.ElementsAreAllEqualMatcher;
 import io.cucumber.guice.matcher.ElementsAreAllUniqueMatcher;
 import org.junit.jupiter.api.AfterEach;
@@ -16,13 +17,20 @@ import org.junit.jupiter.api.function.Executable;
 
 import javax.inject.Singleton;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.equalToCompressingWhiteSpace;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class GuiceFactoryTest {
@@ -179,6 +187,51 @@ class GuiceFactoryTest {
         assertThat(instancesFromDifferentScenarios, ElementsAreAllUniqueMatcher.elementsAreAllUnique());
     }
 
+    @Test
+    void shouldShareInjectorBetweenFactoriesWhenConfigured() {
+        Map<String, String> properties = singletonMap(GuiceFactory.GUICE_SHARE_INJECTOR_KEY, "true");
+        factory = new GuiceFactory(properties);
+        ObjectFactory other = new GuiceFactory(properties);
+
+        assertThat(factory.getInstance(AnnotatedSingletonClass.class), is(sameInstance(other.getInstance(AnnotatedSingletonClass.class))));
+    }
+
+    @Test
+    void shouldNotShareInjectorBetweenDifferentInjectorSources() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(GuiceFactory.GUICE_SHARE_INJECTOR_KEY, "true");
+        factory = new GuiceFactory(properties);
+        properties.put(InjectorSourceFactory.GUICE_INJECTOR_SOURCE_KEY, YourInjectorSource.class.getName());
+        ObjectFactory other = new GuiceFactory(properties);
+
+        assertThat(factory.getInstance(AnnotatedSingletonClass.class), is(not(sameInstance(other.getInstance(AnnotatedSingletonClass.class)))));
+    }
+
+    @Test
+    void shouldGiveNewInstanceOfScenarioScopedClassForScenarioInOtherThread() throws Exception {
+        Injector injector = injector(CucumberModules.createScenarioModule());
+        factory = new GuiceFactory(injector);
+        ObjectFactory other = new GuiceFactory(injector);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            factory.start();
+            AnnotatedScenarioScopedClass instance = factory.getInstance(AnnotatedScenarioScopedClass.class);
+            AnnotatedScenarioScopedClass otherInstance = executor.submit(() -> {
+                other.start();
+                try {
+                    return other.getInstance(AnnotatedScenarioScopedClass.class);
+                } finally {
+                    other.stop();
+                }
+            }).get();
+
+            assertThat(otherInstance, is(not(sameInstance(instance))));
+            assertThat(factory.getInstance(AnnotatedScenarioScopedClass.class), is(sameInstance(instance)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     private Injector injector(Module... module) {
         return Guice.createInjector(Stage.PRODUCTION, module);
     }
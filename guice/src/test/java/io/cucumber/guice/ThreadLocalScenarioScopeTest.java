@@ -0,0 +1,110 @@
+package io.cucumber.guice;
+
+import com.google.inject.Key;
+import com.google.inject.OutOfScopeException;
+import com.google.inject.Provider;
+import com.google.inject.name.Names;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ThreadLocalScenarioScopeTest {
+
+    private final ThreadLocalScenarioScope scope = new ThreadLocalScenarioScope();
+
+    @AfterEach
+    void tearDown() {
+        try {
+            scope.exitScope();
+        } catch (IllegalStateException ignored) {
+            // Not in scope
+        }
+    }
+
+    @Test
+    void keeps_all_values_when_resized() {
+        scope.enterScope();
+        List<Provider<Object>> providers = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Provider<Object> provider = scope.scope(key(i), Object::new);
+            providers.add(provider);
+            values.add(provider.get());
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(providers.get(i).get(), is(sameInstance(values.get(i))));
+        }
+    }
+
+    @Test
+    void caches_null_values() {
+        scope.enterScope();
+        AtomicInteger calls = new AtomicInteger();
+        Provider<Object> provider = scope.scope(key(0), () -> {
+            calls.incrementAndGet();
+            return null;
+        });
+
+        assertThat(provider.get(), is(nullValue()));
+        assertThat(provider.get(), is(nullValue()));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void keeps_values_added_by_a_reentrant_unscoped_provider() {
+        scope.enterScope();
+        List<Provider<Object>> dependencies = new ArrayList<>();
+        List<Object> dependencyValues = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            dependencies.add(scope.scope(key(i), Object::new));
+        }
+        // Fetching the dependencies resizes the table while key 0 is resolved
+        Provider<Object> provider = scope.scope(key(0), () -> {
+            for (Provider<Object> dependency : dependencies) {
+                dependencyValues.add(dependency.get());
+            }
+            return new Object();
+        });
+
+        Object value = provider.get();
+
+        assertThat(provider.get(), is(sameInstance(value)));
+        for (int i = 0; i < dependencies.size(); i++) {
+            assertThat(dependencies.get(i).get(), is(sameInstance(dependencyValues.get(i))));
+        }
+    }
+
+    @Test
+    void does_not_share_values_between_scenarios() {
+        Provider<Object> provider = scope.scope(key(0), Object::new);
+        scope.enterScope();
+        Object first = provider.get();
+        scope.exitScope();
+        scope.enterScope();
+
+        assertThat(provider.get(), is(not(sameInstance(first))));
+    }
+
+    @Test
+    void does_not_provide_values_outside_of_a_scenario() {
+        Provider<Object> provider = scope.scope(key(0), Object::new);
+
+        assertThrows(OutOfScopeException.class, provider::get);
+    }
+
+    private static Key<Object> key(int i) {
+        return Key.get(Object.class, Names.named("key-" + i));
+    }
+
+}
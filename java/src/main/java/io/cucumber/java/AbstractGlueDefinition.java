@@ -11,11 +11,17 @@ abstract class AbstractGlueDefinition implements Located {
 
     protected final Method method;
     protected final Lookup lookup;
+    private final Invoker invoker;
     private String fullFormat;
 
     AbstractGlueDefinition(Method method, Lookup lookup) {
         this.method = requireNonNull(method);
         this.lookup = requireNonNull(lookup);
+        this.invoker = Invoker.create(method);
+    }
+
+    final Object invokeMethod(Object... args) {
+        return invoker.invoke(this, lookup.getInstance(method.getDeclaringClass()), args);
     }
 
     @Override
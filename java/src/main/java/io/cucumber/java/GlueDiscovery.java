@@ -0,0 +1,69 @@
+package io.cucumber.java;
+
+import io.cucumber.core.resource.ClasspathScanCache;
+import io.cucumber.core.resource.ClasspathScanner;
+import io.cucumber.core.resource.ClasspathSupport;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.cucumber.core.resource.ClasspathScanCache.inParallel;
+import static io.cucumber.core.resource.ClasspathSupport.CLASSPATH_SCHEME;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Discovers annotated glue methods.
+ * <p>
+ * Glue is discovered once per class loader and set of glue paths and shared
+ * by all backends created by the same {@link JavaBackendProviderService}.
+ * Classes are scanned concurrently, the results are merged in the order the
+ * classes were found.
+ */
+final class GlueDiscovery {
+
+    private final ClasspathScanCache<GlueMethod> discovered = new ClasspathScanCache<>(GlueDiscovery::scan);
+
+    List<GlueMethod> discover(ClassLoader classLoader, List<URI> gluePaths) {
+        return discovered.get(classLoader, gluePaths);
+    }
+
+    private static List<GlueMethod> scan(ClassLoader classLoader, List<URI> gluePaths) {
+        ClasspathScanner classFinder = new ClasspathScanner(() -> classLoader);
+        List<String> basePackageNames = gluePaths.stream()
+            .filter(gluePath -> CLASSPATH_SCHEME.equals(gluePath.getScheme()))
+            .map(ClasspathSupport::resourcePath)
+            .map(ClasspathSupport::resourceName)
+            .collect(toList());
+        List<Class<?>> glueClasses = inParallel(classLoader, basePackageNames, classFinder::scanForClassesWithAnnotatedMethodsInPackage);
+        return inParallel(classLoader, glueClasses, GlueDiscovery::scan);
+    }
+
+    private static List<GlueMethod> scan(Class<?> glueClass) {
+        List<GlueMethod> glueMethods = new ArrayList<>();
+        MethodScanner.scan(glueClass, (method, annotation) -> glueMethods.add(new GlueMethod(method, annotation)));
+        return glueMethods;
+    }
+
+    static final class GlueMethod {
+
+        private final Method method;
+        private final Annotation annotation;
+
+        private GlueMethod(Method method, Annotation annotation) {
+            this.method = method;
+            this.annotation = annotation;
+        }
+
+        Method getMethod() {
+            return method;
+        }
+
+        Annotation getAnnotation() {
+            return annotation;
+        }
+    }
+
+}
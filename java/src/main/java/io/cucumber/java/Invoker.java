@@ -11,8 +11,55 @@ import java.lang.reflect.Modifier;
 
 final class Invoker {
 
-    private Invoker() {
+    private final Method method;
+    private final Method accessibleMethod;
+    private final boolean isStatic;
 
+    private Invoker(Method method, Method accessibleMethod) {
+        this.method = method;
+        this.accessibleMethod = accessibleMethod;
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+    }
+
+    /**
+     * Creates an invoker for {@code method}.
+     * <p>
+     * An accessible copy of the method is made once. This avoids resolving
+     * the target method and toggling its accessibility on every invocation.
+     * When the method can not be made accessible or the target is not an
+     * instance of the declaring class (e.g. when it was loaded by a
+     * different class loader) the invoker falls back to
+     * {@link #invoke(Located, Object, Method, Object...)}.
+     *
+     * @param method the method to invoke
+     * @return an invoker for the method
+     */
+    static Invoker create(Method method) {
+        return new Invoker(method, accessibleCopyOf(method));
+    }
+
+    private static Method accessibleCopyOf(Method method) {
+        try {
+            // Make a copy accessible, leaving the shared method untouched
+            Method copy = method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+            copy.setAccessible(true);
+            return copy;
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    Object invoke(Located located, Object target, Object... args) {
+        if (accessibleMethod == null || !(isStatic || method.getDeclaringClass().isInstance(target))) {
+            return invoke(located, target, method, args);
+        }
+        try {
+            return accessibleMethod.invoke(target, args);
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+            throw new CucumberBackendException("Failed to invoke " + method, e);
+        } catch (InvocationTargetException e) {
+            throw new CucumberInvocationTargetException(located, e);
+        }
     }
 
     static Object invoke(Annotation annotation, Method expressionMethod) {
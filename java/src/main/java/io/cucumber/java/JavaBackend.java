@@ -5,43 +5,39 @@ import io.cucumber.core.backend.Container;
 import io.cucumber.core.backend.Glue;
 import io.cucumber.core.backend.Lookup;
 import io.cucumber.core.backend.Snippet;
-import io.cucumber.core.resource.ClasspathScanner;
-import io.cucumber.core.resource.ClasspathSupport;
 
+import java.lang.reflect.Method;
 import java.net.URI;
-import java.util.Collection;
 import java.util.List;
 import java.util.function.Supplier;
 
-import static io.cucumber.core.resource.ClasspathSupport.CLASSPATH_SCHEME;
-
 final class JavaBackend implements Backend {
 
     private final Lookup lookup;
     private final Container container;
-    private final ClasspathScanner classFinder;
+    private final Supplier<ClassLoader> classLoaderSupplier;
+    private final GlueDiscovery glueDiscovery;
 
     JavaBackend(Lookup lookup, Container container, Supplier<ClassLoader> classLoaderSupplier) {
-        this.lookup = lookup;
+        this(lookup, container, classLoaderSupplier, new GlueDiscovery());
+    }
+
+    JavaBackend(Lookup lookup, Container container, Supplier<ClassLoader> classLoaderSupplier, GlueDiscovery glueDiscovery) {
+        this.lookup = new StatelessGlueLookup(lookup);
         this.container = container;
-        this.classFinder = new ClasspathScanner(classLoaderSupplier);
+        this.classLoaderSupplier = classLoaderSupplier;
+        this.glueDiscovery = glueDiscovery;
     }
 
     @Override
     public void loadGlue(Glue glue, List<URI> gluePaths) {
         GlueAdaptor glueAdaptor = new GlueAdaptor(lookup, glue);
 
-        gluePaths.stream()
-            .filter(gluePath -> CLASSPATH_SCHEME.equals(gluePath.getScheme()))
-            .map(ClasspathSupport::resourcePath)
-            .map(ClasspathSupport::resourceName)
-            .map(classFinder::scanForClassesInPackage)
-            .flatMap(Collection::stream)
-            .forEach(aGlueClass -> {
-                MethodScanner.scan(aGlueClass, (method, annotation) -> {
-                    container.addClass(method.getDeclaringClass());
-                    glueAdaptor.addDefinition(method, annotation);
-                });
+        glueDiscovery.discover(classLoaderSupplier.get(), gluePaths)
+            .forEach(glueMethod -> {
+                Method method = glueMethod.getMethod();
+                container.addClass(method.getDeclaringClass());
+                glueAdaptor.addDefinition(method, glueMethod.getAnnotation());
             });
     }
 
@@ -9,8 +9,10 @@ import java.util.function.Supplier;
 
 public final class JavaBackendProviderService implements BackendProviderService {
 
+    private final GlueDiscovery glueDiscovery = new GlueDiscovery();
+
     @Override
     public Backend create(Lookup lookup, Container container, Supplier<ClassLoader> classLoaderSupplier) {
-        return new JavaBackend(lookup, container, classLoaderSupplier);
+        return new JavaBackend(lookup, container, classLoaderSupplier, glueDiscovery);
     }
 }
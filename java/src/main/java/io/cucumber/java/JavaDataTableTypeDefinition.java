@@ -110,7 +110,7 @@ class JavaDataTableTypeDefinition extends AbstractGlueDefinition implements Data
     }
 
     private Object execute(Object arg) {
-        return Invoker.invoke(this, lookup.getInstance(method.getDeclaringClass()), method, arg);
+        return invokeMethod(arg);
     }
 
 }
@@ -54,7 +54,7 @@ class JavaDefaultDataTableCellTransformerDefinition extends AbstractGlueDefiniti
     }
 
     private Object execute(String fromValue, Type toValueType) {
-        return Invoker.invoke(this, lookup.getInstance(method.getDeclaringClass()), method, fromValue, toValueType);
+        return invokeMethod(fromValue, toValueType);
     }
 
 }
@@ -99,7 +99,7 @@ class JavaDefaultDataTableEntryTransformerDefinition extends AbstractGlueDefinit
         } else {
             args = new Object[]{fromValue, toValueType};
         }
-        return Invoker.invoke(this, lookup.getInstance(method.getDeclaringClass()), method, args);
+        return invokeMethod(args);
     }
 
 }
@@ -56,7 +56,7 @@ class JavaDefaultParameterTransformerDefinition extends AbstractGlueDefinition i
     }
 
     private Object execute(String fromValue, Type toValueType) {
-        return Invoker.invoke(this, lookup.getInstance(method.getDeclaringClass()), method, fromValue, toValueType);
+        return invokeMethod(fromValue, toValueType);
     }
 
 }
@@ -52,7 +52,7 @@ class JavaDocStringTypeDefinition extends AbstractGlueDefinition implements DocS
 
 
     private Object execute(String content) {
-        return Invoker.invoke(this, lookup.getInstance(method.getDeclaringClass()), method, content);
+        return invokeMethod(content);
     }
 
     @Override
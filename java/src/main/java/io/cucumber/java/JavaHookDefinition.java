@@ -52,13 +52,13 @@ final class JavaHookDefinition extends AbstractGlueDefinition implements HookDef
     @Override
     public void execute(TestCaseState state) {
         Object[] args;
-        if (method.getParameterTypes().length == 1) {
+        if (method.getParameterCount() == 1) {
             args = new Object[]{new io.cucumber.java.Scenario(state)};
         } else {
             args = new Object[0];
         }
 
-        Invoker.invoke(this, lookup.getInstance(method.getDeclaringClass()), method, args);
+        invokeMethod(args);
     }
 
     @Override
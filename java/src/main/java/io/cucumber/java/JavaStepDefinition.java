@@ -25,7 +25,7 @@ final class JavaStepDefinition extends AbstractGlueDefinition implements StepDef
     @SuppressWarnings("deprecation")
     @Override
     public void execute(Object[] args) {
-        Invoker.invoke(this, lookup.getInstance(method.getDeclaringClass()), method, args);
+        invokeMethod(args);
     }
 
     @Override
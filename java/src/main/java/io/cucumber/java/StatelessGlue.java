@@ -0,0 +1,39 @@
+package io.cucumber.java;
+
+import org.apiguardian.api.API;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a glue class as stateless.
+ * <p>
+ * Normally the object factory provides a new instance of each glue class for
+ * every scenario. The instance of a stateless glue class is instead created
+ * once, in the first scenario that uses it, and then reused by all subsequent
+ * scenarios executed by the same thread. This avoids creating and injecting
+ * instances of classes that don't need it.
+ * <p>
+ * Because the instance outlives the scenario, it is not created by the object
+ * factory and nothing is injected into it. A stateless glue class must have a
+ * public no-arg constructor and may not declare instance fields. For
+ * example:
+ * <pre>
+ * &#064;StatelessGlue
+ * public class CalculatorSteps {
+ *
+ *     &#064;Then("{int} plus {int} is {int}")
+ *     public void plus(int a, int b, int sum) {
+ *         assertEquals(sum, a + b);
+ *     }
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+@API(status = API.Status.EXPERIMENTAL)
+public @interface StatelessGlue {
+
+}
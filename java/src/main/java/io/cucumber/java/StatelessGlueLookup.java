@@ -0,0 +1,81 @@
+package io.cucumber.java;
+
+import io.cucumber.core.backend.CucumberBackendException;
+import io.cucumber.core.backend.Lookup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reuses the instances of glue classes annotated with {@link StatelessGlue}.
+ * <p>
+ * The object factory is started and stopped for every scenario. An instance
+ * it provided, and the dependencies injected into it, belong to the scenario
+ * it was provided in. So stateless glue is not created by the object factory
+ * but by its public no-arg constructor, and may not declare instance fields.
+ * <p>
+ * Instances of other glue classes are looked up in the delegate every time.
+ * Like the backend, a lookup is used by a single thread.
+ */
+final class StatelessGlueLookup implements Lookup {
+
+    private static final ClassValue<Boolean> stateless = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(StatelessGlue.class);
+        }
+    };
+
+    private final Map<Class<?>, Object> instances = new HashMap<>();
+    private final Lookup delegate;
+
+    StatelessGlueLookup(Lookup delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T> T getInstance(Class<T> glueClass) {
+        if (!stateless.get(glueClass)) {
+            return delegate.getInstance(glueClass);
+        }
+        Object instance = instances.get(glueClass);
+        if (instance == null) {
+            instance = newInstance(glueClass);
+            instances.put(glueClass, instance);
+        }
+        return glueClass.cast(instance);
+    }
+
+    private static <T> T newInstance(Class<T> glueClass) {
+        for (Class<?> type = glueClass; type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    throw new CucumberBackendException(String.format("" +
+                            "%s is annotated with @StatelessGlue but declares the field '%s'.\n" +
+                            "Stateless glue is not created by the object factory and can not have state or injected dependencies.",
+                        glueClass.getName(), field.toGenericString()
+                    ));
+                }
+            }
+        }
+        Constructor<T> constructor;
+        try {
+            constructor = glueClass.getConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new CucumberBackendException(String.format("" +
+                    "%s is annotated with @StatelessGlue but doesn't have a public no-arg constructor.\n" +
+                    "Stateless glue is not created by the object factory and can not have injected dependencies.",
+                glueClass.getName()
+            ), e);
+        }
+        try {
+            return constructor.newInstance();
+        } catch (Exception e) {
+            throw new CucumberBackendException("Failed to instantiate " + constructor.toGenericString(), e);
+        }
+    }
+
+}
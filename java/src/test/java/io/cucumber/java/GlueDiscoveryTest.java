@@ -0,0 +1,40 @@
+package io.cucumber.java;
+
+import io.cucumber.java.GlueDiscovery.GlueMethod;
+import io.cucumber.java.steps.Steps;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+class GlueDiscoveryTest {
+
+    private final GlueDiscovery glueDiscovery = new GlueDiscovery();
+    private final ClassLoader classLoader = currentThread().getContextClassLoader();
+    private final List<URI> gluePaths = singletonList(URI.create("classpath:io/cucumber/java/steps"));
+
+    @Test
+    void discovers_glue_methods() {
+        List<GlueMethod> glueMethods = glueDiscovery.discover(classLoader, gluePaths);
+
+        assertThat(glueMethods, is(not(empty())));
+        glueMethods.forEach(glueMethod -> assertThat(glueMethod.getMethod().getDeclaringClass(), is(Steps.class)));
+    }
+
+    @Test
+    void discovers_glue_once() {
+        List<GlueMethod> first = glueDiscovery.discover(classLoader, gluePaths);
+        List<GlueMethod> second = glueDiscovery.discover(classLoader, gluePaths);
+
+        assertThat(first, is(sameInstance(second)));
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.cucumber.java;
+
+import io.cucumber.core.backend.Located;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares invoking glue through a precompiled {@link Invoker} with
+ * resolving the target method and toggling accessibility on each call.
+ * <p>
+ * Run with {@code main} from the test class path, this is not part of the
+ * regular test suite.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InvokerBenchmark {
+
+    private final Located located = new Located() {
+        @Override
+        public boolean isDefinedAt(StackTraceElement stackTraceElement) {
+            return false;
+        }
+
+        @Override
+        public String getLocation() {
+            return "benchmark";
+        }
+    };
+
+    private final Steps target = new Steps();
+    private Method method;
+    private Invoker invoker;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(InvokerBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        method = Steps.class.getMethod("step", String.class, int.class);
+        invoker = Invoker.create(method);
+    }
+
+    @Benchmark
+    public Object reflection() {
+        return Invoker.invoke(located, target, method, "cucumbers", 42);
+    }
+
+    @Benchmark
+    public Object precompiled() {
+        return invoker.invoke(located, target, "cucumbers", 42);
+    }
+
+    public static class Steps {
+
+        private int count;
+
+        public void step(String name, int count) {
+            this.count += count + name.length();
+        }
+
+    }
+
+}
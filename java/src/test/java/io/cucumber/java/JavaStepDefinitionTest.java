@@ -38,6 +38,19 @@ class JavaStepDefinitionTest {
         this.argument = argument;
     }
 
+    @Test
+    void can_execute_private_step_without_making_method_accessible() throws Throwable {
+        Method method = JavaStepDefinitionTest.class.getDeclaredMethod("private_string_argument", String.class);
+        JavaStepDefinition definition = new JavaStepDefinition(method, "three (.*) mice", lookup);
+        definition.execute(new Object[]{"private_string_argument"});
+        assertThat(argument, is("private_string_argument"));
+        assertThat(method.isAccessible(), is(false));
+    }
+
+    private void private_string_argument(String argument) {
+        this.argument = argument;
+    }
+
     @Test
     void can_provide_location_of_step() throws Throwable {
         Method method = JavaStepDefinitionTest.class.getMethod("method_throws");
@@ -0,0 +1,102 @@
+package io.cucumber.java;
+
+import io.cucumber.core.backend.CucumberBackendException;
+import io.cucumber.core.backend.Lookup;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatelessGlueLookupTest {
+
+    private final Lookup delegate = mock(Lookup.class);
+    private final StatelessGlueLookup lookup = new StatelessGlueLookup(delegate);
+
+    @Test
+    void reuses_instances_of_stateless_glue() {
+        StatelessSteps first = lookup.getInstance(StatelessSteps.class);
+        StatelessSteps second = lookup.getInstance(StatelessSteps.class);
+
+        assertThat(second, is(sameInstance(first)));
+    }
+
+    @Test
+    void does_not_create_stateless_glue_with_the_object_factory() {
+        lookup.getInstance(StatelessSteps.class);
+
+        verify(delegate, never()).getInstance(StatelessSteps.class);
+    }
+
+    @Test
+    void looks_up_instances_of_other_glue_every_time() {
+        when(delegate.getInstance(StatefulSteps.class)).thenReturn(new StatefulSteps(), new StatefulSteps());
+
+        StatefulSteps first = lookup.getInstance(StatefulSteps.class);
+        StatefulSteps second = lookup.getInstance(StatefulSteps.class);
+
+        assertThat(second, is(not(sameInstance(first))));
+        verify(delegate, times(2)).getInstance(StatefulSteps.class);
+    }
+
+    @Test
+    void rejects_stateless_glue_with_fields() {
+        CucumberBackendException exception = assertThrows(
+            CucumberBackendException.class,
+            () -> lookup.getInstance(StatelessStepsWithField.class)
+        );
+
+        assertThat(exception.getMessage(), is("" +
+            "io.cucumber.java.StatelessGlueLookupTest$StatelessStepsWithField is annotated with @StatelessGlue but declares the field 'private java.lang.Object io.cucumber.java.StatelessGlueLookupTest$StatelessStepsWithField.dependency'.\n" +
+            "Stateless glue is not created by the object factory and can not have state or injected dependencies."
+        ));
+    }
+
+    @Test
+    void rejects_stateless_glue_without_no_arg_constructor() {
+        CucumberBackendException exception = assertThrows(
+            CucumberBackendException.class,
+            () -> lookup.getInstance(StatelessStepsWithConstructor.class)
+        );
+
+        assertThat(exception.getMessage(), is("" +
+            "io.cucumber.java.StatelessGlueLookupTest$StatelessStepsWithConstructor is annotated with @StatelessGlue but doesn't have a public no-arg constructor.\n" +
+            "Stateless glue is not created by the object factory and can not have injected dependencies."
+        ));
+    }
+
+    @StatelessGlue
+    public static class StatelessSteps {
+
+        private static final String CONSTANT = "constants are allowed";
+
+    }
+
+    @StatelessGlue
+    public static class StatelessStepsWithField {
+
+        private Object dependency;
+
+    }
+
+    @StatelessGlue
+    public static class StatelessStepsWithConstructor {
+
+        public StatelessStepsWithConstructor(String dependency) {
+
+        }
+
+    }
+
+    public static class StatefulSteps {
+
+    }
+
+}
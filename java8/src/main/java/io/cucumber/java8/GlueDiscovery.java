@@ -0,0 +1,44 @@
+package io.cucumber.java8;
+
+import io.cucumber.core.resource.ClasspathScanCache;
+import io.cucumber.core.resource.ClasspathScanner;
+import io.cucumber.core.resource.ClasspathSupport;
+
+import java.net.URI;
+import java.util.List;
+
+import static io.cucumber.core.resource.ClasspathScanCache.inParallel;
+import static io.cucumber.core.resource.ClasspathSupport.CLASSPATH_SCHEME;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Discovers lambda glue classes.
+ * <p>
+ * Glue is discovered once per class loader and set of glue paths and shared
+ * by all backends created by the same {@link Java8BackendProviderService}.
+ * Glue paths are scanned concurrently, the results are merged in the order
+ * of the glue paths.
+ */
+final class GlueDiscovery {
+
+    private final ClasspathScanCache<Class<? extends LambdaGlue>> discovered = new ClasspathScanCache<>(GlueDiscovery::scan);
+
+    List<Class<? extends LambdaGlue>> discover(ClassLoader classLoader, List<URI> gluePaths) {
+        return discovered.get(classLoader, gluePaths);
+    }
+
+    private static List<Class<? extends LambdaGlue>> scan(ClassLoader classLoader, List<URI> gluePaths) {
+        ClasspathScanner classFinder = new ClasspathScanner(() -> classLoader);
+        List<String> basePackageNames = gluePaths.stream()
+            .filter(gluePath -> CLASSPATH_SCHEME.equals(gluePath.getScheme()))
+            .map(ClasspathSupport::resourcePath)
+            .map(ClasspathSupport::resourceName)
+            .collect(toList());
+        return inParallel(classLoader, basePackageNames, basePackageName -> classFinder.scanForSubClassesInPackage(basePackageName, LambdaGlue.class))
+            .stream()
+            .filter(glueClass -> !glueClass.isInterface())
+            .filter(glueClass -> glueClass.getConstructors().length > 0)
+            .collect(toList());
+    }
+
+}
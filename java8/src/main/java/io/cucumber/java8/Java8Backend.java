@@ -13,12 +13,9 @@ import io.cucumber.core.backend.Lookup;
 import io.cucumber.core.backend.ParameterTypeDefinition;
 import io.cucumber.core.backend.Snippet;
 import io.cucumber.core.backend.StepDefinition;
-import io.cucumber.core.resource.ClasspathScanner;
-import io.cucumber.core.resource.ClasspathSupport;
 
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -26,29 +23,28 @@ final class Java8Backend implements Backend {
 
     private final Lookup lookup;
     private final Container container;
-    private final ClasspathScanner classFinder;
+    private final Supplier<ClassLoader> classLoaderProvider;
+    private final GlueDiscovery glueDiscovery;
 
     private final List<Class<? extends LambdaGlue>> lambdaGlueClasses = new ArrayList<>();
     private Glue glue;
 
     Java8Backend(Lookup lookup, Container container, Supplier<ClassLoader> classLoaderProvider) {
+        this(lookup, container, classLoaderProvider, new GlueDiscovery());
+    }
+
+    Java8Backend(Lookup lookup, Container container, Supplier<ClassLoader> classLoaderProvider, GlueDiscovery glueDiscovery) {
         this.container = container;
         this.lookup = lookup;
-        this.classFinder = new ClasspathScanner(classLoaderProvider);
+        this.classLoaderProvider = classLoaderProvider;
+        this.glueDiscovery = glueDiscovery;
     }
 
     @Override
     public void loadGlue(Glue glue, List<URI> gluePaths) {
         this.glue = glue;
         // Scan for Java8 style glue (lambdas)
-        gluePaths.stream()
-            .filter(gluePath -> ClasspathSupport.CLASSPATH_SCHEME.equals(gluePath.getScheme()))
-            .map(ClasspathSupport::resourcePath)
-            .map(ClasspathSupport::resourceName)
-            .map(basePackageName -> classFinder.scanForSubClassesInPackage(basePackageName, LambdaGlue.class))
-            .flatMap(Collection::stream)
-            .filter(glueClass -> !glueClass.isInterface())
-            .filter(glueClass -> glueClass.getConstructors().length > 0)
+        glueDiscovery.discover(classLoaderProvider.get(), gluePaths)
             .forEach(glueClass -> {
                 container.addClass(glueClass);
                 lambdaGlueClasses.add(glueClass);
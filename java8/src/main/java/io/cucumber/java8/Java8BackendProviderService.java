@@ -9,8 +9,10 @@ import java.util.function.Supplier;
 
 public final class Java8BackendProviderService implements BackendProviderService {
 
+    private final GlueDiscovery glueDiscovery = new GlueDiscovery();
+
     @Override
     public Backend create(Lookup lookup, Container container, Supplier<ClassLoader> classLoaderProvider) {
-        return new Java8Backend(lookup, container, classLoaderProvider);
+        return new Java8Backend(lookup, container, classLoaderProvider, glueDiscovery);
     }
 }
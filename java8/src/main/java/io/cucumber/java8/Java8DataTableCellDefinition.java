@@ -3,7 +3,6 @@ package io.cucumber.java8;
 import io.cucumber.core.backend.DataTableTypeDefinition;
 import io.cucumber.datatable.DataTableType;
 import io.cucumber.datatable.TableCellTransformer;
-import net.jodah.typetools.TypeResolver;
 
 final class Java8DataTableCellDefinition extends AbstractGlueDefinition implements DataTableTypeDefinition {
 
@@ -11,7 +10,7 @@ final class Java8DataTableCellDefinition extends AbstractGlueDefinition implemen
 
     Java8DataTableCellDefinition(DataTableCellDefinitionBody body) {
         super(body, new Exception().getStackTrace()[3]);
-        Class returnType = TypeResolver.resolveRawArguments(DataTableCellDefinitionBody.class, body.getClass())[0];
+        Class returnType = LambdaMetadata.of(body).resolveRawArguments(DataTableCellDefinitionBody.class)[0];
         this.dataTableType = new DataTableType(returnType, (TableCellTransformer<Object>) this::execute);
     }
 
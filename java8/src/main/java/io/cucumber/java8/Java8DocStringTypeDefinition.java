@@ -3,7 +3,6 @@ package io.cucumber.java8;
 import io.cucumber.core.backend.DocStringTypeDefinition;
 import io.cucumber.core.exception.CucumberException;
 import io.cucumber.docstring.DocStringType;
-import net.jodah.typetools.TypeResolver;
 
 final class Java8DocStringTypeDefinition extends AbstractGlueDefinition implements DocStringTypeDefinition {
 
@@ -22,7 +21,7 @@ final class Java8DocStringTypeDefinition extends AbstractGlueDefinition implemen
         if (contentType.isEmpty()) {
             throw new CucumberException("Docstring content type couldn't be empty, define docstring content type");
         }
-        Class returnType = TypeResolver.resolveRawArguments(DocStringDefinitionBody.class, body.getClass())[0];
+        Class returnType = LambdaMetadata.of(body).resolveRawArguments(DocStringDefinitionBody.class)[0];
         this.docStringType = new DocStringType(
             returnType,
             contentType,
@@ -9,7 +9,6 @@ import java.util.List;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
-import static net.jodah.typetools.TypeResolver.resolveRawArguments;
 
 final class Java8StepDefinition extends AbstractGlueDefinition implements StepDefinition {
 
@@ -20,7 +19,7 @@ final class Java8StepDefinition extends AbstractGlueDefinition implements StepDe
                                                                T body) {
         super(body, new Exception().getStackTrace()[3]);
         this.expression = requireNonNull(expression, "cucumber-expression may not be null");
-        this.parameterInfos = fromTypes(expression, location, resolveRawArguments(bodyClass, body.getClass()));
+        this.parameterInfos = fromTypes(expression, location, LambdaMetadata.of(body).resolveRawArguments(bodyClass));
     }
 
     public static <T extends StepDefinitionBody> Java8StepDefinition create(
@@ -0,0 +1,71 @@
+package io.cucumber.java8;
+
+import net.jodah.typetools.TypeResolver;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.String.format;
+
+/**
+ * Reflective information about the class of a lambda body.
+ * <p>
+ * Lambda glue is instantiated for every scenario, while the class of a lambda
+ * is the same for every instance created by the same lambda expression.
+ * Resolving the accept method and the type arguments of the body once per
+ * class avoids repeatedly inspecting its byte code.
+ */
+final class LambdaMetadata {
+
+    private static final ClassValue<LambdaMetadata> METADATA = new ClassValue<LambdaMetadata>() {
+        @Override
+        protected LambdaMetadata computeValue(Class<?> type) {
+            return new LambdaMetadata(type);
+        }
+    };
+
+    private final Class<?> lambdaClass;
+    private final Method acceptMethod;
+    private final ConcurrentMap<Class<?>, Class<?>[]> rawArguments = new ConcurrentHashMap<>();
+
+    private LambdaMetadata(Class<?> lambdaClass) {
+        this.lambdaClass = lambdaClass;
+        this.acceptMethod = getAcceptMethod(lambdaClass);
+    }
+
+    static LambdaMetadata of(Object body) {
+        return METADATA.get(body.getClass());
+    }
+
+    private static Method getAcceptMethod(Class<?> bodyClass) {
+        List<Method> acceptMethods = new ArrayList<>();
+        for (Method method : bodyClass.getDeclaredMethods()) {
+            if (!method.isBridge() && !method.isSynthetic() && "accept".equals(method.getName())) {
+                acceptMethods.add(method);
+            }
+        }
+        if (acceptMethods.size() != 1) {
+            throw new IllegalStateException(format(
+                "Expected single 'accept' method on body class, found '%s'", acceptMethods));
+        }
+        return acceptMethods.get(0);
+    }
+
+    Method getAcceptMethod() {
+        return acceptMethod;
+    }
+
+    /**
+     * Resolves the raw type arguments of the lambda for {@code bodyClass}.
+     *
+     * @param bodyClass the functional interface implemented by the lambda
+     * @return a copy of the raw type arguments
+     */
+    Class<?>[] resolveRawArguments(Class<?> bodyClass) {
+        return rawArguments.computeIfAbsent(bodyClass, type -> TypeResolver.resolveRawArguments(type, lambdaClass)).clone();
+    }
+
+}
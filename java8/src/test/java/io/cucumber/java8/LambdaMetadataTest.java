@@ -0,0 +1,51 @@
+package io.cucumber.java8;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsArrayContainingInOrder.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+class LambdaMetadataTest {
+
+    @Test
+    void shares_metadata_between_instances_of_the_same_lambda() {
+        List<StepDefinitionBody.A1<String>> bodies = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            int captured = i;
+            bodies.add(p1 -> String.valueOf(p1 + captured));
+        }
+
+        LambdaMetadata first = LambdaMetadata.of(bodies.get(0));
+        LambdaMetadata second = LambdaMetadata.of(bodies.get(1));
+
+        assertThat(first, is(sameInstance(second)));
+        assertThat(first.getAcceptMethod(), is(sameInstance(second.getAcceptMethod())));
+    }
+
+    @Test
+    void resolves_raw_arguments() {
+        StepDefinitionBody.A2<String, Integer> body = (p1, p2) -> {
+        };
+
+        Class<?>[] rawArguments = LambdaMetadata.of(body).resolveRawArguments(StepDefinitionBody.A2.class);
+
+        assertThat(rawArguments, arrayContaining(String.class, Integer.class));
+    }
+
+    @Test
+    void resolves_a_copy_of_the_raw_arguments() {
+        StepDefinitionBody.A1<String> body = p1 -> {
+        };
+        LambdaMetadata metadata = LambdaMetadata.of(body);
+
+        metadata.resolveRawArguments(StepDefinitionBody.A1.class)[0] = Object.class;
+
+        assertThat(metadata.resolveRawArguments(StepDefinitionBody.A1.class), arrayContaining(String.class));
+    }
+
+}
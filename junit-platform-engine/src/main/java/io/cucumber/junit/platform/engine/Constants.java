@@ -132,6 +132,67 @@ public final class Constants {
     public static final String PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
         + CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 
+    /**
+     * Property name used to set the execution mode of the scenarios in a
+     * feature: {@value}
+     * <p>
+     * Valid values are {@code concurrent} or {@code same_thread}. When set to
+     * {@code same_thread} the scenarios of a feature are executed
+     * sequentially in the same thread while different features may still be
+     * executed in parallel.
+     * <p>
+     * By default scenarios are executed concurrently.
+     */
+    public static final String EXECUTION_MODE_FEATURE_PROPERTY_NAME = "cucumber.execution.execution-mode.feature";
+
+    static final String EXECUTION_EXCLUSIVE_RESOURCES_PREFIX = "cucumber.execution.exclusive-resources.";
+
+    /**
+     * Property name used to select the tag of scenarios that must be executed
+     * in isolation: {@value}
+     * <p>
+     * The value is a tag name without the {@code @} e.g.
+     * {@code cucumber.execution.exclusive-resources.isolated-tag=isolated}.
+     * When set every scenario acquires
+     * {@link org.junit.platform.engine.support.hierarchical.ExclusiveResource#GLOBAL_KEY}
+     * with read access, and scenarios tagged with {@code @isolated} acquire it
+     * with read-write access. A scenario tagged with {@code @isolated} is then
+     * never executed concurrently with any other scenario.
+     */
+    public static final String EXECUTION_EXCLUSIVE_RESOURCES_ISOLATED_TAG_PROPERTY_NAME = EXECUTION_EXCLUSIVE_RESOURCES_PREFIX
+        + "isolated-tag";
+
+    /**
+     * Property name suffix used to map a tag to one or more exclusive
+     * resources that scenarios with that tag will acquire with
+     * {@linkplain org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode#READ_WRITE
+     * read-write} access: {@value}
+     * <p>
+     * The property is prefixed with
+     * {@code cucumber.execution.exclusive-resources.<tag-name>} and its value
+     * is a comma separated list of resource names e.g:
+     * {@code cucumber.execution.exclusive-resources.database.read-write=com.example.db}.
+     * Scenarios tagged with {@code @database} will not be executed
+     * concurrently with any other scenario that uses {@code com.example.db}.
+     * Scenarios that don't use {@code com.example.db} may still be executed
+     * concurrently with them.
+     */
+    public static final String READ_WRITE_SUFFIX = ".read-write";
+
+    /**
+     * Property name suffix used to map a tag to one or more exclusive
+     * resources that scenarios with that tag will acquire with
+     * {@linkplain org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode#READ
+     * read} access: {@value}
+     * <p>
+     * Scenarios that only read a resource may be executed concurrently with
+     * each other but not with scenarios that acquire the same resource with
+     * read-write access.
+     *
+     * @see #READ_WRITE_SUFFIX
+     */
+    public static final String READ_SUFFIX = ".read";
+
     private Constants() {
 
     }
@@ -5,6 +5,7 @@ import io.cucumber.core.feature.CucumberFeature;
 import io.cucumber.core.feature.CucumberPickle;
 import io.cucumber.core.plugin.PluginFactory;
 import io.cucumber.core.plugin.Plugins;
+import io.cucumber.core.resource.JarFileSystemScope;
 import io.cucumber.core.runner.Runner;
 import io.cucumber.core.runtime.BackendServiceLoader;
 import io.cucumber.core.runtime.BackendSupplier;
@@ -30,7 +31,18 @@ class CucumberEngineExecutionContext implements EngineExecutionContext {
 
     private static final Logger logger = LoggerFactory.getLogger(CucumberEngineExecutionContext.class);
     private final ThreadLocalRunnerSupplier runnerSupplier;
+    /**
+     * One observer per runner. Like the runners in the runner supplier the
+     * observers are not removed from the threads that executed test cases.
+     * Those threads are owned by the executor and may not be available when
+     * the run finishes. Thread locals are weakly referenced by their threads,
+     * so the stale entries are cleared after this context is collected.
+     */
+    private final ThreadLocal<TestCaseResultObserver> observers = ThreadLocal.withInitial(
+        () -> TestCaseResultObserver.observe(getRunner().getBus())
+    );
     private final EventBus bus;
+    private JarFileSystemScope jarFileSystemScope;
 
     CucumberEngineExecutionContext(ConfigurationParameters configurationParameters) {
 
@@ -52,6 +64,9 @@ class CucumberEngineExecutionContext implements EngineExecutionContext {
     }
 
     void startTestRun() {
+        // Glue and type registry configurers are scanned by each runner.
+        // Keep the jars they are scanned in open until the run is done.
+        jarFileSystemScope = JarFileSystemScope.open();
         logger.debug(() -> "Sending run test started event");
         bus.send(new TestRunStarted(bus.getInstant()));
     }
@@ -63,17 +78,26 @@ class CucumberEngineExecutionContext implements EngineExecutionContext {
 
     void runTestCase(CucumberPickle pickle) {
         Runner runner = getRunner();
-        try (TestCaseResultObserver observer = TestCaseResultObserver.observe(runner.getBus())) {
+        TestCaseResultObserver observer = observers.get();
+        try {
             logger.debug(() -> "Executing test case " + pickle.getName());
             runner.runPickle(pickle);
             logger.debug(() -> "Finished test case " + pickle.getName());
             observer.assertTestCasePassed();
+        } finally {
+            observer.reset();
         }
     }
 
     void finishTestRun() {
-        logger.debug(() -> "Sending test run finished event");
-        bus.send(new TestRunFinished(bus.getInstant()));
+        try {
+            logger.debug(() -> "Sending test run finished event");
+            bus.send(new TestRunFinished(bus.getInstant()));
+        } finally {
+            if (jarFileSystemScope != null) {
+                jarFileSystemScope.close();
+            }
+        }
     }
 
     private Runner getRunner() {
@@ -7,20 +7,31 @@ import io.cucumber.core.options.PluginOption;
 import io.cucumber.core.options.SnippetTypeParser;
 import io.cucumber.core.snippets.SnippetType;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.Node;
 
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.cucumber.core.resource.ClasspathSupport.CLASSPATH_SCHEME_PREFIX;
 import static io.cucumber.junit.platform.engine.Constants.ANSI_COLORS_DISABLED_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.EXECUTION_DRY_RUN_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_EXCLUSIVE_RESOURCES_ISOLATED_TAG_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_EXCLUSIVE_RESOURCES_PREFIX;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_MODE_FEATURE_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.OBJECT_FACTORY_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.READ_SUFFIX;
+import static io.cucumber.junit.platform.engine.Constants.READ_WRITE_SUFFIX;
 import static io.cucumber.junit.platform.engine.Constants.SNIPPET_TYPE_PROPERTY_NAME;
 
 class CucumberEngineOptions implements
@@ -94,4 +105,38 @@ class CucumberEngineOptions implements
             .orElse(false);
     }
 
+    Node.ExecutionMode getExecutionModeFeature() {
+        return configurationParameters
+            .get(EXECUTION_MODE_FEATURE_PROPERTY_NAME, CucumberEngineOptions::parseExecutionMode)
+            .orElse(Node.ExecutionMode.CONCURRENT);
+    }
+
+    private static Node.ExecutionMode parseExecutionMode(String executionMode) {
+        return Node.ExecutionMode.valueOf(executionMode.trim().toUpperCase(Locale.ROOT));
+    }
+
+    Optional<TestTag> getIsolatedTag() {
+        return configurationParameters
+            .get(EXECUTION_EXCLUSIVE_RESOURCES_ISOLATED_TAG_PROPERTY_NAME, String::trim)
+            .filter(tag -> !tag.isEmpty())
+            .map(TestTag::create);
+    }
+
+    Stream<ExclusiveResource> getExclusiveResources(TestTag tag) {
+        String prefix = EXECUTION_EXCLUSIVE_RESOURCES_PREFIX + tag.getName();
+        return Stream.concat(
+            getExclusiveResources(prefix + READ_WRITE_SUFFIX, ExclusiveResource.LockMode.READ_WRITE),
+            getExclusiveResources(prefix + READ_SUFFIX, ExclusiveResource.LockMode.READ)
+        );
+    }
+
+    private Stream<ExclusiveResource> getExclusiveResources(String key, ExclusiveResource.LockMode lockMode) {
+        return configurationParameters
+            .get(key, s -> Arrays.stream(s.split(",")))
+            .orElse(Stream.empty())
+            .map(String::trim)
+            .filter(resource -> !resource.isEmpty())
+            .map(resource -> new ExclusiveResource(resource, lockMode));
+    }
+
 }
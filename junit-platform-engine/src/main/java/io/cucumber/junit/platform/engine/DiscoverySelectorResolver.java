@@ -1,24 +1,30 @@
 package io.cucumber.junit.platform.engine;
 
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.resource.Resource;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.TestDescriptor;
-import org.junit.platform.engine.discovery.ClassSelector;
-import org.junit.platform.engine.discovery.ClasspathResourceSelector;
-import org.junit.platform.engine.discovery.ClasspathRootSelector;
-import org.junit.platform.engine.discovery.DirectorySelector;
-import org.junit.platform.engine.discovery.FileSelector;
 import org.junit.platform.engine.discovery.PackageNameFilter;
-import org.junit.platform.engine.discovery.PackageSelector;
-import org.junit.platform.engine.discovery.UniqueIdSelector;
-import org.junit.platform.engine.discovery.UriSelector;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static org.junit.platform.engine.Filter.composeFilters;
 
 class DiscoverySelectorResolver {
 
+    private final Function<Resource, CucumberFeature> featureParser;
+
+    DiscoverySelectorResolver() {
+        this(FeatureParser::parseResource);
+    }
+
+    DiscoverySelectorResolver(Function<Resource, CucumberFeature> featureParser) {
+        this.featureParser = featureParser;
+    }
+
     void resolveSelectors(EngineDiscoveryRequest request, TestDescriptor engineDescriptor) {
         Predicate<String> packageFilter = buildPackageFilter(request);
         resolve(request, engineDescriptor, packageFilter);
@@ -32,16 +38,10 @@ class DiscoverySelectorResolver {
     }
 
     private void resolve(EngineDiscoveryRequest request, TestDescriptor engineDescriptor, Predicate<String> packageFilter) {
-        FeatureResolver featureResolver = FeatureResolver.createFeatureResolver(engineDescriptor, packageFilter);
-
-        request.getSelectorsByType(ClasspathRootSelector.class).forEach(featureResolver::resolveClasspathRoot);
-        request.getSelectorsByType(ClasspathResourceSelector.class).forEach(featureResolver::resolveClasspathResource);
-        request.getSelectorsByType(ClassSelector.class).forEach(featureResolver::resolveClass);
-        request.getSelectorsByType(PackageSelector.class).forEach(featureResolver::resolvePackageResource);
-        request.getSelectorsByType(FileSelector.class).forEach(featureResolver::resolveFile);
-        request.getSelectorsByType(DirectorySelector.class).forEach(featureResolver::resolveDirectory);
-        request.getSelectorsByType(UniqueIdSelector.class).forEach(featureResolver::resolveUniqueId);
-        request.getSelectorsByType(UriSelector.class).forEach(featureResolver::resolveUri);
+        FeatureResolver featureResolver = FeatureResolver.createFeatureResolver(
+            request.getConfigurationParameters(), engineDescriptor, packageFilter, featureParser
+        );
+        featureResolver.resolveSelectors(request);
     }
 
     private void filter(TestDescriptor engineDescriptor, Predicate<String> packageFilter) {
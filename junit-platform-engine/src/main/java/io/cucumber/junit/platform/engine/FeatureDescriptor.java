@@ -22,7 +22,7 @@ class FeatureDescriptor extends AbstractTestDescriptor implements Node<CucumberE
         this.feature = feature;
     }
 
-    static TestDescriptor create(CucumberFeature cucumberFeature, TestDescriptor parent) {
+    static TestDescriptor create(CucumberEngineOptions options, CucumberFeature cucumberFeature, TestDescriptor parent) {
         FeatureOrigin source = FeatureOrigin.fromUri(cucumberFeature.getUri());
         TestDescriptor descriptor = new FeatureDescriptor(
             source.featureSegment(parent.getUniqueId(), cucumberFeature),
@@ -31,15 +31,16 @@ class FeatureDescriptor extends AbstractTestDescriptor implements Node<CucumberE
             cucumberFeature
         );
         parent.addChild(descriptor);
-        cucumberFeature.children().forEach(scenarioDefinition -> visit(cucumberFeature, descriptor, source, scenarioDefinition));
+        cucumberFeature.children().forEach(scenarioDefinition -> visit(options, cucumberFeature, descriptor, source, scenarioDefinition));
         return descriptor;
     }
 
-    private static <T extends Located & Named> void visit(CucumberFeature feature, TestDescriptor parent, FeatureOrigin source, T node) {
+    private static <T extends Located & Named> void visit(CucumberEngineOptions options, CucumberFeature feature, TestDescriptor parent, FeatureOrigin source, T node) {
         if (node instanceof CucumberScenario) {
             feature.getPickleAt(node.getLocation())
                 .ifPresent(pickle -> {
                     PickleDescriptor descriptor = new PickleDescriptor(
+                        options,
                         source.scenarioSegment(parent.getUniqueId(), node),
                         getNameOrKeyWord(node),
                         source.nodeSource(node),
@@ -51,30 +52,33 @@ class FeatureDescriptor extends AbstractTestDescriptor implements Node<CucumberE
 
         if (node instanceof CucumberScenarioOutline) {
             NodeDescriptor descriptor = new NodeDescriptor(
+                options,
                 source.scenarioSegment(parent.getUniqueId(), node),
                 getNameOrKeyWord(node),
                 source.nodeSource(node)
             );
             parent.addChild(descriptor);
             CucumberScenarioOutline scenarioOutline = (CucumberScenarioOutline) node;
-            scenarioOutline.children().forEach(section -> visit(feature, descriptor, source, section));
+            scenarioOutline.children().forEach(section -> visit(options, feature, descriptor, source, section));
         }
 
         if (node instanceof CucumberExamples) {
             NodeDescriptor descriptor = new NodeDescriptor(
+                options,
                 source.examplesSegment(parent.getUniqueId(), node),
                 getNameOrKeyWord(node),
                 source.nodeSource(node)
             );
             parent.addChild(descriptor);
             CucumberExamples examples = (CucumberExamples) node;
-            examples.children().forEach(example -> visit(feature, descriptor, source, example));
+            examples.children().forEach(example -> visit(options, feature, descriptor, source, example));
         }
 
         if (node instanceof CucumberExample) {
             feature.getPickleAt(node.getLocation())
                 .ifPresent(pickle -> {
                     PickleDescriptor descriptor = new PickleDescriptor(
+                        options,
                         source.exampleSegment(parent.getUniqueId(), node),
                         getNameOrKeyWord(node),
                         source.nodeSource(node),
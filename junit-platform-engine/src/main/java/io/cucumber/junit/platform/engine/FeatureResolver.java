@@ -2,10 +2,16 @@ package io.cucumber.junit.platform.engine;
 
 import io.cucumber.core.feature.CucumberFeature;
 import io.cucumber.core.feature.FeatureIdentifier;
+import io.cucumber.core.feature.FeatureParser;
 import io.cucumber.core.resource.ClassLoaders;
+import io.cucumber.core.resource.JarFileSystemScope;
+import io.cucumber.core.resource.Resource;
 import io.cucumber.core.resource.ResourceScanner;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassSelector;
@@ -20,66 +26,166 @@ import org.junit.platform.engine.discovery.UriSelector;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
-import static io.cucumber.core.feature.FeatureParser.parseResource;
 import static java.lang.String.format;
 import static java.util.Optional.of;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
 
 final class FeatureResolver {
 
     private static final Logger logger = LoggerFactory.getLogger(FeatureResolver.class);
-    private final ResourceScanner<CucumberFeature> featureScanner = new ResourceScanner<>(
-        ClassLoaders::getDefaultClassLoader,
-        FeatureIdentifier::isFeature,
-        resource -> of(parseResource(resource))
-    );
 
+    /**
+     * Features parsed during this discovery request, by uri.
+     */
+    private final ConcurrentMap<URI, CucumberFeature> features = new ConcurrentHashMap<>();
+    private final Function<Resource, CucumberFeature> featureParser;
+    private final ResourceScanner<CucumberFeature> featureScanner;
+
+    private final CucumberEngineOptions options;
     private final TestDescriptor engineDescriptor;
     private final Predicate<String> packageFilter;
+    /**
+     * All descriptors merged into the engine descriptor so far. Avoids
+     * searching the tree with {@link TestDescriptor#findByUniqueId(UniqueId)}.
+     */
+    private final Map<UniqueId, TestDescriptor> descriptorsByUniqueId = new HashMap<>();
 
-    private FeatureResolver(TestDescriptor engineDescriptor, Predicate<String> packageFilter) {
+    private FeatureResolver(ConfigurationParameters configurationParameters, TestDescriptor engineDescriptor, Predicate<String> packageFilter, Function<Resource, CucumberFeature> featureParser) {
+        this.options = new CucumberEngineOptions(configurationParameters);
+        this.featureParser = featureParser;
         this.engineDescriptor = engineDescriptor;
         this.packageFilter = packageFilter;
+        // Features are scanned for on other threads, capture the class loader now
+        ClassLoader classLoader = ClassLoaders.getDefaultClassLoader();
+        this.featureScanner = new ResourceScanner<>(
+            () -> classLoader,
+            FeatureIdentifier::isFeature,
+            resource -> of(parseResource(resource))
+        );
+        engineDescriptor.getDescendants().forEach(this::index);
+    }
+
+    static FeatureResolver createFeatureResolver(ConfigurationParameters configurationParameters, TestDescriptor engineDescriptor, Predicate<String> packageFilter) {
+        return createFeatureResolver(configurationParameters, engineDescriptor, packageFilter, FeatureParser::parseResource);
     }
 
-    static FeatureResolver createFeatureResolver(TestDescriptor engineDescriptor, Predicate<String> packageFilter) {
-        return new FeatureResolver(engineDescriptor, packageFilter);
+    static FeatureResolver createFeatureResolver(ConfigurationParameters configurationParameters, TestDescriptor engineDescriptor, Predicate<String> packageFilter, Function<Resource, CucumberFeature> featureParser) {
+        return new FeatureResolver(configurationParameters, engineDescriptor, packageFilter, featureParser);
     }
 
-    private static void recursivelyMerge(TestDescriptor descriptor, TestDescriptor parent) {
-        Optional<? extends TestDescriptor> byUniqueId = parent.findByUniqueId(descriptor.getUniqueId());
-        if (!byUniqueId.isPresent()) {
+    private void recursivelyMerge(TestDescriptor descriptor, TestDescriptor parent) {
+        TestDescriptor existingParent = descriptorsByUniqueId.get(descriptor.getUniqueId());
+        if (existingParent == null) {
             parent.addChild(descriptor);
+            index(descriptor);
+            descriptor.getDescendants().forEach(this::index);
             return;
         }
 
-        byUniqueId.ifPresent(
-            existingParent -> descriptor.getChildren()
-                .forEach(child -> recursivelyMerge(child, existingParent))
-        );
+        descriptor.getChildren()
+            .forEach(child -> recursivelyMerge(child, existingParent));
     }
 
-    void resolveClass(ClassSelector classSelector) {
+    private CucumberFeature parseResource(Resource resource) {
+        return features.computeIfAbsent(resource.getUri(), uri -> featureParser.apply(resource));
+    }
+
+    private void index(TestDescriptor descriptor) {
+        descriptorsByUniqueId.put(descriptor.getUniqueId(), descriptor);
+    }
+
+    /**
+     * Resolves all supported selectors of the request.
+     * <p>
+     * Features are scanned for and parsed concurrently on threads owned by
+     * this request. Each feature is parsed at most once. The results are
+     * merged in the order of the selectors.
+     *
+     * @param request the discovery request
+     */
+    void resolveSelectors(EngineDiscoveryRequest request) {
+        // Selectors often point into the same jars. Open each jar once.
+        // Not the common pool, parsing blocks on io and must not starve other users
+        ExecutorService executor = newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DiscoveryThreadFactory());
+        try (JarFileSystemScope ignored = JarFileSystemScope.open()) {
+            List<CompletableFuture<Runnable>> resolutions = new ArrayList<>();
+            prepare(request, ClasspathRootSelector.class, this::prepareClasspathRoot, executor, resolutions);
+            prepare(request, ClasspathResourceSelector.class, this::prepareClasspathResource, executor, resolutions);
+            prepare(request, ClassSelector.class, this::prepareClass, executor, resolutions);
+            prepare(request, PackageSelector.class, this::preparePackageResource, executor, resolutions);
+            prepare(request, FileSelector.class, this::prepareFile, executor, resolutions);
+            prepare(request, DirectorySelector.class, this::prepareDirectory, executor, resolutions);
+            prepare(request, UniqueIdSelector.class, this::prepareUniqueId, executor, resolutions);
+            prepare(request, UriSelector.class, this::prepareUri, executor, resolutions);
+            resolutions.forEach(resolution -> join(resolution).run());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T extends DiscoverySelector> void prepare(
+        EngineDiscoveryRequest request,
+        Class<T> selectorType,
+        Function<T, Runnable> prepare,
+        ExecutorService executor,
+        List<CompletableFuture<Runnable>> resolutions
+    ) {
+        request.getSelectorsByType(selectorType)
+            .forEach(selector -> resolutions.add(supplyAsync(() -> prepare.apply(selector), executor)));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private Runnable prepareClass(ClassSelector classSelector) {
         Class<?> javaClass = classSelector.getJavaClass();
         Cucumber annotation = javaClass.getAnnotation(Cucumber.class);
-        if (annotation != null) {
-            resolvePackageResource(javaClass.getPackage().getName());
+        if (annotation == null) {
+            return () -> {
+            };
         }
+        return preparePackageResource(javaClass.getPackage().getName());
     }
 
-    void resolveDirectory(DirectorySelector selector) {
-        resolvePath(selector.getPath());
+    private Runnable prepareDirectory(DirectorySelector selector) {
+        return preparePath(selector.getPath());
     }
 
-    private void resolvePath(Path path) {
-        featureScanner
-            .scanForResourcesPath(path)
-            .stream()
+    private Runnable preparePath(Path path) {
+        return prepareMerge(featureScanner.scanForResourcesPath(path));
+    }
+
+    private Runnable prepareMerge(List<CucumberFeature> features) {
+        return () -> features.stream()
             .map(this::resolveFeature)
             .forEach(this::merge);
     }
@@ -88,72 +194,71 @@ final class FeatureResolver {
         recursivelyMerge(featureDescriptor, engineDescriptor);
     }
 
-    void resolveFile(FileSelector selector) {
-        resolvePath(selector.getPath());
+    private Runnable prepareFile(FileSelector selector) {
+        return preparePath(selector.getPath());
     }
 
-    void resolvePackageResource(PackageSelector selector) {
-        resolvePackageResource(selector.getPackageName());
+    private Runnable preparePackageResource(PackageSelector selector) {
+        return preparePackageResource(selector.getPackageName());
     }
 
-    private void resolvePackageResource(String packageName) {
-        featureScanner
-            .scanForResourcesInPackage(packageName, packageFilter)
-            .stream()
-            .map(this::resolveFeature)
-            .forEach(this::merge);
+    private Runnable preparePackageResource(String packageName) {
+        return prepareMerge(featureScanner.scanForResourcesInPackage(packageName, packageFilter));
     }
 
-    void resolveClasspathResource(ClasspathResourceSelector selector) {
+    private Runnable prepareClasspathResource(ClasspathResourceSelector selector) {
         String classpathResourceName = selector.getClasspathResourceName();
-        featureScanner
-            .scanForClasspathResource(classpathResourceName, packageFilter)
-            .stream()
-            .map(this::resolveFeature)
-            .forEach(this::merge);
+        return prepareMerge(featureScanner.scanForClasspathResource(classpathResourceName, packageFilter));
     }
 
-    void resolveClasspathRoot(ClasspathRootSelector selector) {
-        featureScanner
-            .scanForResourcesInClasspathRoot(selector.getClasspathRoot(), packageFilter)
-            .stream()
-            .map(this::resolveFeature)
-            .forEach(this::merge);
+    private Runnable prepareClasspathRoot(ClasspathRootSelector selector) {
+        return prepareMerge(featureScanner.scanForResourcesInClasspathRoot(selector.getClasspathRoot(), packageFilter));
     }
 
-    void resolveUri(UriSelector selector) {
+    private Runnable prepareUri(UriSelector selector) {
         URI uri = selector.getUri();
 
         try {
-            resolveUri(uri)
-                .forEach(this::merge);
+            Runnable merge = prepareMerge(featureScanner.scanForResourcesUri(uri));
+            return () -> {
+                try {
+                    merge.run();
+                } catch (Throwable e) {
+                    ignoreUriFailure(uri, e);
+                }
+            };
         } catch (Throwable e) {
-            rethrowIfBlacklisted(e);
-            logger.debug(e, () -> format("Failed to resolve features for uri '%s'.", uri));
+            ignoreUriFailure(uri, e);
+            return () -> {
+            };
         }
     }
 
-    private Stream<TestDescriptor> resolveUri(URI uri) {
-        return featureScanner
-            .scanForResourcesUri(uri)
-            .stream()
-            .map(this::resolveFeature);
+    private static void ignoreUriFailure(URI uri, Throwable e) {
+        rethrowIfBlacklisted(e);
+        logger.debug(e, () -> format("Failed to resolve features for uri '%s'.", uri));
     }
 
-    void resolveUniqueId(UniqueIdSelector uniqueIdSelector) {
+    private Runnable prepareUniqueId(UniqueIdSelector uniqueIdSelector) {
         UniqueId uniqueId = uniqueIdSelector.getUniqueId();
         // Ignore any ids not from our own engine
         if (!engineDescriptor.getUniqueId().getEngineId().equals(uniqueId.getEngineId())) {
-            return;
+            return () -> {
+            };
         }
 
-        uniqueId.getSegments()
+        List<CucumberFeature> features = uniqueId.getSegments()
             .stream()
             .filter(FeatureOrigin::isFeatureSegment)
             .map(UniqueId.Segment::getValue)
             .map(URI::create)
-            .flatMap(this::resolveUri)
-            .map(descriptor -> pruneDescription(descriptor, uniqueIdSelector.getUniqueId()))
+            .map(featureScanner::scanForResourcesUri)
+            .flatMap(Collection::stream)
+            .collect(toList());
+
+        return () -> features.stream()
+            .map(this::resolveFeature)
+            .map(descriptor -> pruneDescription(descriptor, uniqueId))
             .forEach(this::merge);
     }
 
@@ -173,7 +278,26 @@ final class FeatureResolver {
     }
 
     private TestDescriptor resolveFeature(CucumberFeature feature) {
-        return FeatureDescriptor.create(feature, engineDescriptor);
+        return FeatureDescriptor.create(options, feature, engineDescriptor);
+    }
+
+    private static final class DiscoveryThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger poolNumber = new AtomicInteger(1);
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix;
+
+        DiscoveryThreadFactory() {
+            this.namePrefix = "cucumber-junit-platform-discovery-" + poolNumber.getAndIncrement() + "-thread-";
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, namePrefix + this.threadNumber.getAndIncrement());
+            // Never keep the jvm alive on behalf of a discovery request
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 
 }
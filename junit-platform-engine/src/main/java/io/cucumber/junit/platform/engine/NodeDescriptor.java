@@ -3,11 +3,20 @@ package io.cucumber.junit.platform.engine;
 import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node;
 
-class NodeDescriptor extends AbstractTestDescriptor {
+class NodeDescriptor extends AbstractTestDescriptor implements Node<CucumberEngineExecutionContext> {
 
-    NodeDescriptor(UniqueId uniqueId, String name, TestSource source) {
+    private final CucumberEngineOptions options;
+
+    NodeDescriptor(CucumberEngineOptions options, UniqueId uniqueId, String name, TestSource source) {
         super(uniqueId, name, source);
+        this.options = options;
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return options.getExecutionModeFeature();
     }
 
     @Override
@@ -7,23 +7,27 @@ import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 import org.junit.platform.engine.support.hierarchical.Node;
 
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toCollection;
 
 class PickleDescriptor extends AbstractTestDescriptor implements Node<CucumberEngineExecutionContext> {
 
+    private final CucumberEngineOptions options;
     private final CucumberPickle pickleEvent;
 
-    PickleDescriptor(UniqueId uniqueId, String name, TestSource source, CucumberPickle pickleEvent) {
+    PickleDescriptor(CucumberEngineOptions options, UniqueId uniqueId, String name, TestSource source, CucumberPickle pickleEvent) {
         super(uniqueId, name, source);
+        this.options = options;
         this.pickleEvent = pickleEvent;
     }
 
@@ -38,6 +42,37 @@ class PickleDescriptor extends AbstractTestDescriptor implements Node<CucumberEn
         return context;
     }
 
+    /**
+     * Returns the exclusive resources mapped to the tags of this pickle.
+     * <p>
+     * When an isolated tag is configured every pickle acquires the global
+     * resource. Pickles with the isolated tag acquire it with read-write
+     * access, all others with read access.
+     *
+     * @return the set of exclusive resources
+     * @see Constants#READ_WRITE_SUFFIX
+     * @see Constants#READ_SUFFIX
+     * @see Constants#EXECUTION_EXCLUSIVE_RESOURCES_ISOLATED_TAG_PROPERTY_NAME
+     */
+    @Override
+    public Set<ExclusiveResource> getExclusiveResources() {
+        Set<TestTag> tags = getTags();
+        Set<ExclusiveResource> exclusiveResources = new LinkedHashSet<>();
+        options.getIsolatedTag()
+            .map(isolatedTag -> tags.contains(isolatedTag) ? LockMode.READ_WRITE : LockMode.READ)
+            .map(lockMode -> new ExclusiveResource(ExclusiveResource.GLOBAL_KEY, lockMode))
+            .ifPresent(exclusiveResources::add);
+        tags.stream()
+            .flatMap(options::getExclusiveResources)
+            .forEach(exclusiveResources::add);
+        return unmodifiableSet(exclusiveResources);
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return options.getExecutionModeFeature();
+    }
+
     /**
      * Returns the set of {@linkplain TestTag tags} for a pickle.
      * <p>
@@ -23,9 +23,15 @@ import static io.cucumber.plugin.event.Status.SKIPPED;
 import static io.cucumber.plugin.event.Status.UNDEFINED;
 import static org.junit.platform.commons.util.ExceptionUtils.throwAsUncheckedException;
 
-class TestCaseResultObserver implements AutoCloseable {
+/**
+ * Collects the result of a test case.
+ * <p>
+ * An observer is registered on the bus of a runner once and is {@linkplain
+ * #reset() reset} after each test case rather than registering and removing
+ * its handlers for every test case.
+ */
+class TestCaseResultObserver {
 
-    private final EventPublisher bus;
     private final Map<StepLocation, List<String>> snippetsPerStep = new TreeMap<>();
     private final List<UndefinedStepException.Suggestion> suggestions = new ArrayList<>();
     private final EventHandler<SnippetsSuggestedEvent> snippetsSuggested = this::handleSnippetSuggestedEvent;
@@ -34,7 +40,6 @@ class TestCaseResultObserver implements AutoCloseable {
     private final EventHandler<TestCaseFinished> testCaseFinished = this::handleTestCaseFinished;
 
     private TestCaseResultObserver(EventPublisher bus) {
-        this.bus = bus;
         bus.registerHandlerFor(SnippetsSuggestedEvent.class, snippetsSuggested);
         bus.registerHandlerFor(TestStepFinished.class, testStepFinished);
         bus.registerHandlerFor(TestCaseFinished.class, testCaseFinished);
@@ -44,11 +49,10 @@ class TestCaseResultObserver implements AutoCloseable {
         return new TestCaseResultObserver(bus);
     }
 
-    @Override
-    public void close() {
-        bus.removeHandlerFor(SnippetsSuggestedEvent.class, snippetsSuggested);
-        bus.removeHandlerFor(TestStepFinished.class, testStepFinished);
-        bus.removeHandlerFor(TestCaseFinished.class, testCaseFinished);
+    void reset() {
+        snippetsPerStep.clear();
+        suggestions.clear();
+        result = null;
     }
 
     private void handleSnippetSuggestedEvent(SnippetsSuggestedEvent event) {
@@ -3,15 +3,25 @@ package io.cucumber.junit.platform.engine;
 import io.cucumber.core.plugin.Options;
 import io.cucumber.core.snippets.SnippetType;
 import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
 
 import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
 
 class CucumberEngineOptionsTest {
 
@@ -124,4 +134,64 @@ class CucumberEngineOptionsTest {
         assertFalse(new CucumberEngineOptions(absent).isParallelExecutionEnabled());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void getExecutionModeFeature() {
+        MapConfigurationParameters sameThread = new MapConfigurationParameters(
+            Constants.EXECUTION_MODE_FEATURE_PROPERTY_NAME,
+            "same_thread"
+        );
+        assertEquals(SAME_THREAD, new CucumberEngineOptions(sameThread).getExecutionModeFeature());
+
+        MapConfigurationParameters concurrent = new MapConfigurationParameters(
+            Constants.EXECUTION_MODE_FEATURE_PROPERTY_NAME,
+            "concurrent"
+        );
+        assertEquals(CONCURRENT, new CucumberEngineOptions(concurrent).getExecutionModeFeature());
+
+        MapConfigurationParameters absent = new MapConfigurationParameters(
+            "some key", "some value"
+        );
+        assertEquals(CONCURRENT, new CucumberEngineOptions(absent).getExecutionModeFeature());
+    }
+
+    @Test
+    void getExclusiveResources() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("cucumber.execution.exclusive-resources.database.read-write", "com.example.db, com.example.cache");
+        parameters.put("cucumber.execution.exclusive-resources.database.read", "com.example.config");
+        parameters.put("cucumber.execution.exclusive-resources.isolated.read-write", ExclusiveResource.GLOBAL_KEY);
+        CucumberEngineOptions options = new CucumberEngineOptions(new MapConfigurationParameters(parameters));
+
+        assertEquals(
+            asList(
+                new ExclusiveResource("com.example.db", READ_WRITE),
+                new ExclusiveResource("com.example.cache", READ_WRITE),
+                new ExclusiveResource("com.example.config", READ)
+            ),
+            options.getExclusiveResources(TestTag.create("database")).collect(toList())
+        );
+        assertEquals(
+            singletonList(new ExclusiveResource(ExclusiveResource.GLOBAL_KEY, READ_WRITE)),
+            options.getExclusiveResources(TestTag.create("isolated")).collect(toList())
+        );
+        assertEquals(
+            emptyList(),
+            options.getExclusiveResources(TestTag.create("smoke")).collect(toList())
+        );
+    }
+
+    @Test
+    void getIsolatedTag() {
+        MapConfigurationParameters isolated = new MapConfigurationParameters(
+            Constants.EXECUTION_EXCLUSIVE_RESOURCES_ISOLATED_TAG_PROPERTY_NAME,
+            " isolated "
+        );
+        assertEquals(Optional.of(TestTag.create("isolated")), new CucumberEngineOptions(isolated).getIsolatedTag());
+
+        MapConfigurationParameters absent = new MapConfigurationParameters(
+            "some key", "some value"
+        );
+        assertEquals(Optional.empty(), new CucumberEngineOptions(absent).getIsolatedTag());
+    }
+}
@@ -6,12 +6,28 @@ import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherFactory;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_EXCLUSIVE_RESOURCES_ISOLATED_TAG_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathResource;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 class CucumberTestEngineTest {
 
@@ -39,4 +55,149 @@ class CucumberTestEngineTest {
         assertNotNull(engine.createExecutionContext(execution));
     }
 
+    @Test
+    void executesScenariosThatShareAnExclusiveResourceOneAtATime() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true");
+        configuration.put(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed");
+        configuration.put(PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4");
+        configuration.put("cucumber.execution.exclusive-resources.ScenarioOutlineTag.read-write", "com.example.db");
+        LauncherDiscoveryRequest request = request()
+            .selectors(selectClasspathResource("io/cucumber/junit/platform/engine/feature-with-outline.feature"))
+            .filters(includeEngines(engine.getId()))
+            .configurationParameters(configuration)
+            .build();
+        ExclusiveResourceListener listener = new ExclusiveResourceListener("ScenarioOutlineTag");
+
+        LauncherFactory.create().execute(request, listener);
+
+        assertEquals(7, listener.successful.get());
+        assertEquals(1, listener.maxConcurrent.get());
+    }
+
+    @Test
+    void executesIsolatedScenariosWithoutAnyOtherScenario() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true");
+        configuration.put(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed");
+        configuration.put(PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4");
+        configuration.put(EXECUTION_EXCLUSIVE_RESOURCES_ISOLATED_TAG_PROPERTY_NAME, "ScenarioTag");
+        LauncherDiscoveryRequest request = request()
+            .selectors(selectClasspathResource("io/cucumber/junit/platform/engine/feature-with-outline.feature"))
+            .filters(includeEngines(engine.getId()))
+            .configurationParameters(configuration)
+            .build();
+        IsolationListener listener = new IsolationListener("ScenarioTag");
+
+        LauncherFactory.create().execute(request, listener);
+
+        assertEquals(7, listener.successful.get());
+        assertEquals(1, listener.isolated.get());
+        assertEquals(0, listener.overlapping.get());
+    }
+
+    private static class IsolationListener implements TestExecutionListener {
+
+        private final String tag;
+        private final AtomicInteger successful = new AtomicInteger();
+        private final AtomicInteger isolated = new AtomicInteger();
+        private final AtomicInteger overlapping = new AtomicInteger();
+        private int running;
+        private boolean isolatedRunning;
+
+        IsolationListener(String tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public void executionStarted(TestIdentifier testIdentifier) {
+            if (!testIdentifier.isTest()) {
+                return;
+            }
+            synchronized (this) {
+                boolean isIsolated = isIsolated(testIdentifier);
+                if (isolatedRunning || (isIsolated && running > 0)) {
+                    overlapping.incrementAndGet();
+                }
+                if (isIsolated) {
+                    isolated.incrementAndGet();
+                    isolatedRunning = true;
+                }
+                running++;
+            }
+            // Give other threads the chance to start a scenario in the meantime.
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+            if (!testIdentifier.isTest()) {
+                return;
+            }
+            if (testExecutionResult.getStatus() == SUCCESSFUL) {
+                successful.incrementAndGet();
+            }
+            synchronized (this) {
+                if (isIsolated(testIdentifier)) {
+                    isolatedRunning = false;
+                }
+                running--;
+            }
+        }
+
+        private boolean isIsolated(TestIdentifier testIdentifier) {
+            return testIdentifier.getTags().stream()
+                .anyMatch(testTag -> testTag.getName().equals(tag));
+        }
+    }
+
+    private static class ExclusiveResourceListener implements TestExecutionListener {
+
+        private final String tag;
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private final AtomicInteger successful = new AtomicInteger();
+
+        ExclusiveResourceListener(String tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public void executionStarted(TestIdentifier testIdentifier) {
+            if (!usesResource(testIdentifier)) {
+                return;
+            }
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            // Scenarios are executed while their resource lock is held, give
+            // other threads the chance to start a scenario in the meantime.
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+            if (!testIdentifier.isTest()) {
+                return;
+            }
+            if (testExecutionResult.getStatus() == SUCCESSFUL) {
+                successful.incrementAndGet();
+            }
+            if (usesResource(testIdentifier)) {
+                concurrent.decrementAndGet();
+            }
+        }
+
+        private boolean usesResource(TestIdentifier testIdentifier) {
+            return testIdentifier.isTest() && testIdentifier.getTags().stream()
+                .anyMatch(testTag -> testTag.getName().equals(tag));
+        }
+    }
+
 }
@@ -1,5 +1,6 @@
 package io.cucumber.junit.platform.engine;
 
+import io.cucumber.core.feature.FeatureParser;
 import org.hamcrest.CustomTypeSafeMatcher;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singleton;
@@ -86,6 +88,23 @@ class DiscoverySelectorResolverTest {
         assertEquals(2, testDescriptor.getChildren().size());
     }
 
+    @Test
+    void resolveRequestWithOverlappingSelectors() {
+        Map<URI, Integer> parsed = new ConcurrentHashMap<>();
+        DiscoverySelectorResolver resolver = new DiscoverySelectorResolver(resource -> {
+            parsed.merge(resource.getUri(), 1, Integer::sum);
+            return FeatureParser.parseResource(resource);
+        });
+        DiscoverySelector resource = selectClasspathResource("io/cucumber/junit/platform/engine/single.feature");
+        DiscoverySelector aPackage = selectPackage("io.cucumber.junit.platform.engine");
+        DiscoverySelector samePackage = selectPackage("io.cucumber.junit.platform.engine");
+        EngineDiscoveryRequest discoveryRequest = new SelectorRequest(resource, aPackage, samePackage);
+        resolver.resolveSelectors(discoveryRequest, testDescriptor);
+        assertEquals(2, testDescriptor.getChildren().size());
+        assertEquals(2, parsed.size());
+        assertEquals(singleton(1), new HashSet<>(parsed.values()));
+    }
+
     @Test
     void resolveRequestWithClasspathRootSelector() {
         Path classPathRoot = Paths.get("src/test/resources/");
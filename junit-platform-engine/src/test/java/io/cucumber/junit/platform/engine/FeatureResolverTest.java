@@ -7,13 +7,17 @@ import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static io.cucumber.core.resource.ClasspathSupport.CLASSPATH_SCHEME_PREFIX;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_MODE_FEATURE_PROPERTY_NAME;
 import static io.cucumber.junit.platform.engine.FeatureResolver.createFeatureResolver;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
@@ -25,6 +29,11 @@ import static org.junit.platform.engine.TestTag.create;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathResource;
 import static org.junit.platform.engine.support.descriptor.ClasspathResourceSource.from;
 import static org.junit.platform.engine.support.descriptor.FilePosition.from;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 class FeatureResolverTest {
     private final String featurePath = "io/cucumber/junit/platform/engine/feature-with-outline.feature";
@@ -39,8 +48,8 @@ class FeatureResolverTest {
         EngineDiscoveryRequest discoveryRequest = new EmptyEngineDiscoveryRequest(configuration);
         id = UniqueId.forEngine(engine.getId());
         testDescriptor = engine.discover(discoveryRequest, id);
-        FeatureResolver featureResolver = createFeatureResolver(testDescriptor, aPackage -> true);
-        featureResolver.resolveClasspathResource(selectClasspathResource(featurePath));
+        FeatureResolver featureResolver = createFeatureResolver(configuration, testDescriptor, aPackage -> true);
+        featureResolver.resolveSelectors(request().selectors(selectClasspathResource(featurePath)).build());
     }
 
     @Test
@@ -74,6 +83,8 @@ class FeatureResolverTest {
 
         PickleDescriptor pickleDescriptor = (PickleDescriptor) scenario;
         assertEquals(Optional.of("io.cucumber.junit.platform.engine"), pickleDescriptor.getPackage());
+        assertEquals(emptySet(), pickleDescriptor.getExclusiveResources());
+        assertEquals(CONCURRENT, pickleDescriptor.getExecutionMode());
     }
 
     @Test
@@ -116,6 +127,35 @@ class FeatureResolverTest {
         assertEquals(Optional.of("io.cucumber.junit.platform.engine"), pickleDescriptor.getPackage());
     }
 
+    @Test
+    void exclusiveResourcesAndExecutionModeAreConfigurable() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(EXECUTION_MODE_FEATURE_PROPERTY_NAME, "same_thread");
+        parameters.put("cucumber.execution.exclusive-resources.ScenarioOutlineTag.read-write", "com.example.db");
+        parameters.put("cucumber.execution.exclusive-resources.Example1Tag.read", "com.example.config");
+        ConfigurationParameters configuration = new MapConfigurationParameters(parameters);
+        testDescriptor = new CucumberTestEngine().discover(new EmptyEngineDiscoveryRequest(configuration), id);
+        FeatureResolver featureResolver = createFeatureResolver(configuration, testDescriptor, aPackage -> true);
+        featureResolver.resolveSelectors(request().selectors(selectClasspathResource(featurePath)).build());
+
+        PickleDescriptor scenario = (PickleDescriptor) getScenario();
+        assertEquals(emptySet(), scenario.getExclusiveResources());
+        assertEquals(SAME_THREAD, scenario.getExecutionMode());
+
+        NodeDescriptor outline = (NodeDescriptor) getOutline();
+        assertEquals(SAME_THREAD, outline.getExecutionMode());
+
+        PickleDescriptor example = (PickleDescriptor) getExample();
+        assertEquals(
+            new HashSet<>(asList(
+                new ExclusiveResource("com.example.db", READ_WRITE),
+                new ExclusiveResource("com.example.config", READ)
+            )),
+            example.getExclusiveResources()
+        );
+        assertEquals(SAME_THREAD, example.getExecutionMode());
+    }
+
     private Set<TestTag> asSet(TestTag... tags) {
         return new HashSet<>(asList(tags));
     }
@@ -28,6 +28,7 @@ import java.util.List;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -208,5 +209,35 @@ class TestCaseResultObserverTest {
             "mocked snippet 3\n"));
     }
 
+    @Test
+    void reset() {
+        Result result = new Result(Status.UNDEFINED, Duration.ZERO, null);
+        bus.send(new TestCaseStarted(Instant.now(), testCase));
+        bus.send(new TestStepStarted(Instant.now(), testCase, testStep));
+        bus.send(new SnippetsSuggestedEvent(Instant.now(), uri, testStep.getStepLine(), singletonList(
+            "snippet before reset"
+        )));
+        bus.send(new TestStepFinished(Instant.now(), testCase, testStep, result));
+        bus.send(new TestCaseFinished(Instant.now(), testCase, result));
+        assertThrows(UndefinedStepException.class, observer::assertTestCasePassed);
+
+        observer.reset();
+
+        bus.send(new TestCaseStarted(Instant.now(), testCase));
+        bus.send(new TestStepStarted(Instant.now(), testCase, testStep));
+        bus.send(new SnippetsSuggestedEvent(Instant.now(), uri, testStep.getStepLine(), singletonList(
+            "snippet after reset"
+        )));
+        bus.send(new TestStepFinished(Instant.now(), testCase, testStep, result));
+        bus.send(new TestCaseFinished(Instant.now(), testCase, result));
+        UndefinedStepException exception = assertThrows(
+            UndefinedStepException.class,
+            observer::assertTestCasePassed
+        );
+        assertThat(exception.getMessage(), is("" +
+            "The step \"mocked\" is undefined. You can implement it using tne snippet(s) below:\n" +
+            "\n" +
+            "snippet after reset\n"));
+    }
 
-}
\ No newline at end of file
+}
@@ -12,6 +12,7 @@ import io.cucumber.core.options.RuntimeOptions;
 import io.cucumber.core.plugin.PluginFactory;
 import io.cucumber.core.plugin.Plugins;
 import io.cucumber.core.resource.ClassLoaders;
+import io.cucumber.core.resource.JarFileSystemScope;
 import io.cucumber.core.runtime.BackendServiceLoader;
 import io.cucumber.core.runtime.BackendSupplier;
 import io.cucumber.core.runtime.FeaturePathFeatureSupplier;
@@ -38,9 +39,13 @@ import org.junit.runners.model.Statement;
 
 import java.time.Clock;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -69,6 +74,9 @@ import static java.util.stream.Collectors.toList;
  * </ol>
  * For available properties see {@link Constants}.
  * <p>
+ * When Cucumber is configured to use more than one thread (e.g. with {@code --threads 4}) scenarios are executed in
+ * parallel. Unless JUnit is already executing the features in parallel.
+ * <p>
  * Cucumber also supports JUnits {@link ClassRule}, {@link BeforeClass} and {@link AfterClass} annotations.
  * These will be executed before and after all scenarios. Using these is not recommended as it limits the portability
  * between different runners; they may not execute correctly when using the commandline, IntelliJ IDEA or
@@ -82,6 +90,7 @@ public final class Cucumber extends ParentRunner<ParentRunner<?>> {
     private final EventBus bus;
     private final List<CucumberFeature> features;
     private final Plugins plugins;
+    private final int threads;
 
     private boolean multiThreadingAssumed = false;
 
@@ -135,10 +144,13 @@ public final class Cucumber extends ParentRunner<ParentRunner<?>> {
         // Parse the features early. Don't proceed when there are lexer errors
         Supplier<ClassLoader> classLoader = ClassLoaders::getDefaultClassLoader;
         FeaturePathFeatureSupplier featureSupplier = new FeaturePathFeatureSupplier(classLoader, runtimeOptions);
-        this.features = featureSupplier.get();
+        try (JarFileSystemScope ignored = JarFileSystemScope.open()) {
+            this.features = featureSupplier.get();
+        }
 
         // Create plugins after feature parsing to avoid the creation of empty files on lexer errors.
         this.plugins = new Plugins(new PluginFactory(), runtimeOptions);
+        this.threads = runtimeOptions.getThreads();
         this.bus = new TimeServiceEventBus(Clock.systemUTC());
 
         ObjectFactoryServiceLoader objectFactoryServiceLoader = new ObjectFactoryServiceLoader(runtimeOptions);
@@ -146,9 +158,13 @@ public final class Cucumber extends ParentRunner<ParentRunner<?>> {
         BackendSupplier backendSupplier = new BackendServiceLoader(clazz::getClassLoader, objectFactorySupplier);
         TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier = new ScanningTypeRegistryConfigurerSupplier(classLoader, runtimeOptions);
         ThreadLocalRunnerSupplier runnerSupplier = new ThreadLocalRunnerSupplier(runtimeOptions, bus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier);
+        // One reporter per runner, registered on its bus once rather than for
+        // each pickle. Like the runners they are not removed from the threads
+        // that used them, stale entries are cleared after this runner is collected.
+        ThreadLocal<JUnitReporter> reporters = ThreadLocal.withInitial(() -> new JUnitReporter(runnerSupplier.get().getBus(), junitOptions));
         Predicate<CucumberPickle> filters = new Filters(runtimeOptions);
         this.children = features.stream()
-            .map(feature -> FeatureRunner.create(feature, filters, runnerSupplier, junitOptions))
+            .map(feature -> FeatureRunner.create(feature, filters, runnerSupplier, reporters::get, junitOptions))
             .filter(runner -> !runner.isEmpty())
             .collect(toList());
     }
@@ -189,18 +205,65 @@ public final class Cucumber extends ParentRunner<ParentRunner<?>> {
 
         @Override
         public void evaluate() throws Throwable {
-            if (multiThreadingAssumed) {
+            // Parallel execution by JUnit takes precedence
+            boolean runScenariosInParallel = !multiThreadingAssumed && threads > 1;
+            if (multiThreadingAssumed || runScenariosInParallel) {
                 plugins.setSerialEventBusOnEventListenerPlugins(bus);
             } else {
                 plugins.setEventBusOnEventListenerPlugins(bus);
             }
 
-            bus.send(new TestRunStarted(bus.getInstant()));
-            for (CucumberFeature feature : features) {
-                bus.send(new TestSourceRead(bus.getInstant(), feature.getUri(), feature.getSource()));
+            // Glue and type registry configurers are scanned by each runner.
+            // Keep the jars they are scanned in open until the run is done.
+            try (JarFileSystemScope ignored = JarFileSystemScope.open()) {
+                bus.send(new TestRunStarted(bus.getInstant()));
+                for (CucumberFeature feature : features) {
+                    bus.send(new TestSourceRead(bus.getInstant(), feature.getUri(), feature.getSource()));
+                }
+                if (runScenariosInParallel) {
+                    runScenariosInParallel();
+                } else {
+                    runFeatures.evaluate();
+                }
+                bus.send(new TestRunFinished(bus.getInstant()));
             }
-            runFeatures.evaluate();
-            bus.send(new TestRunFinished(bus.getInstant()));
+        }
+
+        /**
+         * Runs the scenarios of all features on a pool of {@code threads}
+         * threads. Features are started on a separate pool of the same size
+         * and wait for their scenarios. So the scenarios of a large feature
+         * are spread over all threads rather than executed by a single one.
+         */
+        private void runScenariosInParallel() throws Throwable {
+            ExecutorService featureExecutor = newFixedThreadPool(threads, new CucumberThreadFactory("feature"));
+            ExecutorService scenarioExecutor = newFixedThreadPool(threads, new CucumberThreadFactory("scenario"));
+            try {
+                Cucumber.super.setScheduler(new ExecutorRunnerScheduler(featureExecutor));
+                for (ParentRunner<?> child : children) {
+                    child.setScheduler(new ExecutorRunnerScheduler(scenarioExecutor));
+                }
+                runFeatures.evaluate();
+            } finally {
+                featureExecutor.shutdownNow();
+                scenarioExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private static final class CucumberThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger poolNumber = new AtomicInteger(1);
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix;
+
+        CucumberThreadFactory(String name) {
+            this.namePrefix = "cucumber-junit-" + name + "-" + poolNumber.getAndIncrement() + "-thread-";
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            return new Thread(r, namePrefix + this.threadNumber.getAndIncrement());
         }
     }
 }
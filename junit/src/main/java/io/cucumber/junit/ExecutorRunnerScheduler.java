@@ -0,0 +1,73 @@
+package io.cucumber.junit;
+
+import io.cucumber.core.exception.CucumberException;
+import org.junit.runners.model.RunnerScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Schedules the children of a runner on an executor and waits for all of
+ * them to finish.
+ * <p>
+ * The executor may be shared by the schedulers of several runners. Each
+ * runner must have its own scheduler.
+ * <p>
+ * When interrupted while waiting the remaining children are cancelled and
+ * the run fails rather than silently finishing early.
+ */
+final class ExecutorRunnerScheduler implements RunnerScheduler {
+
+    private final ExecutorService executor;
+    private final List<Future<?>> children = new ArrayList<>();
+
+    ExecutorRunnerScheduler(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void schedule(Runnable childStatement) {
+        children.add(executor.submit(childStatement));
+    }
+
+    @Override
+    public void finished() {
+        Throwable thrown = null;
+        try {
+            for (Future<?> child : children) {
+                try {
+                    child.get();
+                } catch (ExecutionException e) {
+                    if (thrown == null) {
+                        thrown = e.getCause();
+                    } else {
+                        thrown.addSuppressed(e.getCause());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            children.forEach(child -> child.cancel(true));
+            Thread.currentThread().interrupt();
+            CucumberException interrupted = new CucumberException("Interrupted while waiting for children to finish", e);
+            if (thrown != null) {
+                interrupted.addSuppressed(thrown);
+            }
+            thrown = interrupted;
+        } finally {
+            children.clear();
+        }
+        if (thrown instanceof RuntimeException) {
+            throw (RuntimeException) thrown;
+        }
+        if (thrown instanceof Error) {
+            throw (Error) thrown;
+        }
+        if (thrown != null) {
+            throw new CucumberException(thrown);
+        }
+    }
+
+}
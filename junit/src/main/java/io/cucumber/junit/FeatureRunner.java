@@ -10,13 +10,16 @@ import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.ParentRunner;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.TestClass;
 
 import java.io.Serializable;
 import java.net.URI;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static io.cucumber.junit.FileNameCompatibleNames.createName;
+import static io.cucumber.junit.PickleRunners.NO_TEST_CLASS;
 import static io.cucumber.junit.PickleRunners.withNoStepDescriptions;
 import static io.cucumber.junit.PickleRunners.withStepDescriptions;
 import static java.util.stream.Collectors.toList;
@@ -24,44 +27,50 @@ import static java.util.stream.Collectors.toList;
 final class FeatureRunner extends ParentRunner<PickleRunner> {
 
     private final List<PickleRunner> children;
-    private final CucumberFeature cucumberFeature;
-    private final JUnitOptions options;
+    // The feature is not retained, its pickles are held by the children
+    private final String name;
+    private final FeatureId featureId;
     private Description description;
 
-    static FeatureRunner create(CucumberFeature feature, Predicate<CucumberPickle> filter, RunnerSupplier runners, JUnitOptions options) {
+    static FeatureRunner create(CucumberFeature feature, Predicate<CucumberPickle> filter, RunnerSupplier runners, Supplier<JUnitReporter> reporters, JUnitOptions options) {
         try {
-            return new FeatureRunner(feature, filter, runners, options);
+            return new FeatureRunner(feature, filter, runners, reporters, options);
         } catch (InitializationError e) {
             throw new CucumberException("Failed to create scenario runner", e);
         }
     }
 
-    private FeatureRunner(CucumberFeature feature, Predicate<CucumberPickle> filter, RunnerSupplier runners, JUnitOptions options) throws InitializationError {
+    private FeatureRunner(CucumberFeature feature, Predicate<CucumberPickle> filter, RunnerSupplier runners, Supplier<JUnitReporter> reporters, JUnitOptions options) throws InitializationError {
         super(null);
-        this.cucumberFeature = feature;
-        this.options = options;
+        this.name = createName(feature.getName(), options.filenameCompatibleNames());
+        this.featureId = new FeatureId(feature);
         this.children = feature.getPickles().stream()
             .filter(filter).
                 map(pickle -> options.stepNotifications()
-                    ? withStepDescriptions(runners, pickle, options)
-                    : withNoStepDescriptions(feature.getName(), runners, pickle, options))
+                    ? withStepDescriptions(runners, reporters, pickle, options)
+                    : withNoStepDescriptions(feature.getName(), runners, reporters, pickle, options))
             .collect(toList());
     }
 
     @Override
     protected String getName() {
-        return createName(cucumberFeature.getName(), options.filenameCompatibleNames());
+        return name;
     }
 
     @Override
     public Description getDescription() {
         if (description == null) {
-            description = Description.createSuiteDescription(getName(), new FeatureId(cucumberFeature));
+            description = Description.createSuiteDescription(getName(), featureId);
             getChildren().forEach(child -> description.addChild(describeChild(child)));
         }
         return description;
     }
 
+    @Override
+    protected TestClass createTestClass(Class<?> testClass) {
+        return NO_TEST_CLASS;
+    }
+
     boolean isEmpty() {
         return children.isEmpty();
     }
@@ -28,7 +28,6 @@ import static io.cucumber.junit.SkippedThrowable.NotificationLevel.STEP;
 final class JUnitReporter {
 
     private final JUnitOptions junitOptions;
-    private final EventBus bus;
     private final Map<StepLocation, List<String>> snippetsPerStep = new TreeMap<>();
     private final EventHandler<SnippetsSuggestedEvent> snippetsSuggestedEventEventHandler = this::handleSnippetSuggested;
     private List<Throwable> stepErrors;
@@ -43,7 +42,6 @@ final class JUnitReporter {
 
     JUnitReporter(EventBus bus, JUnitOptions junitOption) {
         this.junitOptions = junitOption;
-        this.bus = bus;
         bus.registerHandlerFor(TestCaseStarted.class, testCaseStartedHandler);
         bus.registerHandlerFor(TestStepStarted.class, testStepStartedHandler);
         bus.registerHandlerFor(TestStepFinished.class, testStepFinishedHandler);
@@ -52,6 +50,9 @@ final class JUnitReporter {
     }
 
     private void handleSnippetSuggested(SnippetsSuggestedEvent snippetsSuggestedEvent) {
+        if (!isExecuting()) {
+            return;
+        }
         snippetsPerStep.putIfAbsent(new StepLocation(
                 snippetsSuggestedEvent.getUri(),
                 snippetsSuggestedEvent.getStepLine()
@@ -61,11 +62,12 @@ final class JUnitReporter {
     }
 
     void finishExecutionUnit() {
-        bus.removeHandlerFor(TestCaseStarted.class, testCaseStartedHandler);
-        bus.removeHandlerFor(TestStepStarted.class, testStepStartedHandler);
-        bus.removeHandlerFor(TestStepFinished.class, testStepFinishedHandler);
-        bus.removeHandlerFor(TestCaseFinished.class, testCaseFinishedHandler);
-        bus.removeHandlerFor(SnippetsSuggestedEvent.class, snippetsSuggestedEventEventHandler);
+        this.pickleRunner = null;
+        this.runNotifier = null;
+        this.stepNotifier = null;
+        this.pickleRunnerNotifier = null;
+        this.stepErrors = null;
+        snippetsPerStep.clear();
     }
 
     void startExecutionUnit(PickleRunner pickleRunner, RunNotifier runNotifier) {
@@ -76,11 +78,25 @@ final class JUnitReporter {
         pickleRunnerNotifier = new EachTestNotifier(runNotifier, pickleRunner.getDescription());
     }
 
+    /**
+     * The reporter remains registered on the bus between execution units.
+     * Events sent outside of an execution unit are ignored.
+     */
+    private boolean isExecuting() {
+        return pickleRunner != null;
+    }
+
     private void handleTestCaseStarted(TestCaseStarted testCaseStarted) {
+        if (!isExecuting()) {
+            return;
+        }
         stepErrors = new ArrayList<>();
     }
 
     private void handTestStepStarted(TestStepStarted event) {
+        if (!isExecuting()) {
+            return;
+        }
         TestStep testStep = event.getTestStep();
         if (testStep instanceof PickleStepTestStep) {
             PickleStepTestStep pickleStep = (PickleStepTestStep) testStep;
@@ -95,6 +111,9 @@ final class JUnitReporter {
     }
 
     private void handleTestStepFinished(TestStepFinished event) {
+        if (!isExecuting()) {
+            return;
+        }
         if (event.getTestStep() instanceof PickleStepTestStep) {
             PickleStepTestStep testStep = (PickleStepTestStep) event.getTestStep();
             handleStepResult(testStep, event.getResult());
@@ -152,6 +171,9 @@ final class JUnitReporter {
     }
 
     private void handleTestCaseResult(TestCaseFinished event) {
+        if (!isExecuting()) {
+            return;
+        }
         Result result = event.getResult();
         switch (result.getStatus()) {
             case PASSED:
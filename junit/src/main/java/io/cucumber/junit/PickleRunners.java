@@ -9,19 +9,25 @@ import org.junit.runner.Description;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.ParentRunner;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.TestClass;
 
 import java.io.Serializable;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Supplier;
 
 import static io.cucumber.junit.FileNameCompatibleNames.createName;
+import static java.util.Collections.unmodifiableList;
 
 
 final class PickleRunners {
 
+    /**
+     * Runners created by Cucumber have no test class. Sharing a single empty
+     * test class avoids creating one for each of them.
+     */
+    static final TestClass NO_TEST_CLASS = new TestClass(null);
+
     interface PickleRunner {
         void run(RunNotifier notifier);
 
@@ -31,44 +37,58 @@ final class PickleRunners {
 
     }
 
-    static PickleRunner withStepDescriptions(RunnerSupplier runnerSupplier, CucumberPickle pickle, JUnitOptions options) {
+    static PickleRunner withStepDescriptions(RunnerSupplier runnerSupplier, Supplier<JUnitReporter> reporterSupplier, CucumberPickle pickle, JUnitOptions options) {
         try {
-            return new WithStepDescriptions(runnerSupplier, pickle, options);
+            return new WithStepDescriptions(runnerSupplier, reporterSupplier, pickle, options);
         } catch (InitializationError e) {
             throw new CucumberException("Failed to create scenario runner", e);
         }
     }
 
 
-    static PickleRunner withNoStepDescriptions(String featureName, RunnerSupplier runnerSupplier, CucumberPickle pickle, JUnitOptions jUnitOptions) {
-        return new NoStepDescriptions(featureName, runnerSupplier, pickle, jUnitOptions);
+    static PickleRunner withNoStepDescriptions(String featureName, RunnerSupplier runnerSupplier, Supplier<JUnitReporter> reporterSupplier, CucumberPickle pickle, JUnitOptions jUnitOptions) {
+        return new NoStepDescriptions(featureName, runnerSupplier, reporterSupplier, pickle, jUnitOptions);
     }
 
 
     static class WithStepDescriptions extends ParentRunner<CucumberStep> implements PickleRunner {
         private final RunnerSupplier runnerSupplier;
+        private final Supplier<JUnitReporter> reporterSupplier;
         private final CucumberPickle pickle;
         private final JUnitOptions jUnitOptions;
-        private final Map<CucumberStep, Description> stepDescriptions = new HashMap<>();
+        private final List<CucumberStep> steps;
+        private String name;
         private Description description;
+        // Indexed by position in steps
+        private Description[] stepDescriptions;
 
-        WithStepDescriptions(RunnerSupplier runnerSupplier, CucumberPickle pickle, JUnitOptions jUnitOptions) throws InitializationError {
+        WithStepDescriptions(RunnerSupplier runnerSupplier, Supplier<JUnitReporter> reporterSupplier, CucumberPickle pickle, JUnitOptions jUnitOptions) throws InitializationError {
             super(null);
             this.runnerSupplier = runnerSupplier;
+            this.reporterSupplier = reporterSupplier;
             this.pickle = pickle;
             this.jUnitOptions = jUnitOptions;
+            // Casts io.cucumber.core.feature.CucumberStep
+            // to io.cucumber.core.event.CucumberStep
+            this.steps = unmodifiableList(pickle.getSteps());
+        }
+
+        @Override
+        protected TestClass createTestClass(Class<?> testClass) {
+            return NO_TEST_CLASS;
         }
 
         @Override
         protected List<CucumberStep> getChildren() {
-            // Casts io.cucumber.core.feature.CucumberStep
-            // to io.cucumber.core.event.CucumberStep
-            return new ArrayList<>(pickle.getSteps());
+            return steps;
         }
 
         @Override
         protected String getName() {
-            return createName(pickle.getName(), jUnitOptions.filenameCompatibleNames());
+            if (name == null) {
+                name = createName(pickle.getName(), jUnitOptions.filenameCompatibleNames());
+            }
+            return name;
         }
 
         @Override
@@ -82,23 +102,41 @@ final class PickleRunners {
 
         @Override
         public Description describeChild(CucumberStep step) {
-            Description description = stepDescriptions.get(step);
+            int index = indexOf(step);
+            if (stepDescriptions == null) {
+                stepDescriptions = new Description[steps.size()];
+            }
+            Description description = stepDescriptions[index];
             if (description == null) {
                 String testName = createName(step.getText(), jUnitOptions.filenameCompatibleNames());
                 description = Description.createTestDescription(getName(), testName, new PickleStepId(pickle, step));
-                stepDescriptions.put(step, description);
+                stepDescriptions[index] = description;
             }
             return description;
         }
 
+        private int indexOf(CucumberStep step) {
+            // Scenarios have few steps, a linear search is cheaper than a map
+            for (int i = 0; i < steps.size(); i++) {
+                if (steps.get(i) == step) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("Step is not part of " + pickle.getName() + ": " + step.getText());
+        }
+
         @Override
         public void run(final RunNotifier notifier) {
             // Possibly invoked by a thread other then the creating thread
             Runner runner = runnerSupplier.get();
-            JUnitReporter jUnitReporter = new JUnitReporter(runner.getBus(), jUnitOptions);
+            // Registered on the bus of the runner for the current thread
+            JUnitReporter jUnitReporter = reporterSupplier.get();
             jUnitReporter.startExecutionUnit(this, notifier);
-            runner.runPickle(pickle);
-            jUnitReporter.finishExecutionUnit();
+            try {
+                runner.runPickle(pickle);
+            } finally {
+                jUnitReporter.finishExecutionUnit();
+            }
         }
 
         @Override
@@ -114,13 +152,15 @@ final class PickleRunners {
     static final class NoStepDescriptions implements PickleRunner {
         private final String featureName;
         private final RunnerSupplier runnerSupplier;
+        private final Supplier<JUnitReporter> reporterSupplier;
         private final CucumberPickle pickle;
         private final JUnitOptions jUnitOptions;
         private Description description;
 
-        NoStepDescriptions(String featureName, RunnerSupplier runnerSupplier, CucumberPickle pickle, JUnitOptions jUnitOptions) {
+        NoStepDescriptions(String featureName, RunnerSupplier runnerSupplier, Supplier<JUnitReporter> reporterSupplier, CucumberPickle pickle, JUnitOptions jUnitOptions) {
             this.featureName = featureName;
             this.runnerSupplier = runnerSupplier;
+            this.reporterSupplier = reporterSupplier;
             this.pickle = pickle;
             this.jUnitOptions = jUnitOptions;
         }
@@ -144,10 +184,14 @@ final class PickleRunners {
         public void run(final RunNotifier notifier) {
             // Possibly invoked by a thread other then the creating thread
             Runner runner = runnerSupplier.get();
-            JUnitReporter jUnitReporter = new JUnitReporter(runner.getBus(), jUnitOptions);
+            // Registered on the bus of the runner for the current thread
+            JUnitReporter jUnitReporter = reporterSupplier.get();
             jUnitReporter.startExecutionUnit(this, notifier);
-            runner.runPickle(pickle);
-            jUnitReporter.finishExecutionUnit();
+            try {
+                runner.runPickle(pickle);
+            } finally {
+                jUnitReporter.finishExecutionUnit();
+            }
         }
     }
 
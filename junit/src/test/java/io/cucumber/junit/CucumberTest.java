@@ -1,11 +1,16 @@
 package io.cucumber.junit;
 
 import io.cucumber.core.exception.CucumberException;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
 import org.junit.experimental.ParallelComputer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.runner.Description;
 import org.junit.runner.Request;
 import org.junit.runner.RunWith;
@@ -21,12 +26,31 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -129,6 +153,129 @@ class CucumberTest {
         }
     }
 
+    @Test
+    void cucumber_can_run_scenarios_of_a_feature_in_parallel() throws Exception {
+        ScenarioThreadsListener listener = new ScenarioThreadsListener("(Feature A)");
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(listener);
+        System.setProperty("cucumber.options", "--threads 2");
+        try {
+            new Cucumber(ValidEmpty.class).run(notifier);
+        } finally {
+            System.clearProperty("cucumber.options");
+        }
+
+        assertThat(listener.concurrent, is(true));
+        assertThat(listener.started.size(), is(9));
+        assertThat(listener.finished.size(), is(9));
+        assertThat(listener.violations, is(emptyList()));
+    }
+
+    /**
+     * Holds the first scenario of a feature until a second scenario of
+     * that feature has started. Also checks each thread finishes a scenario
+     * before it starts the next one.
+     */
+    @RunListener.ThreadSafe
+    private static final class ScenarioThreadsListener extends RunListener {
+
+        private final String feature;
+        private final CountDownLatch featureScenariosStarted = new CountDownLatch(2);
+        private final Map<Thread, Description> running = new ConcurrentHashMap<>();
+        private final List<String> started = synchronizedList(new ArrayList<>());
+        private final List<String> finished = synchronizedList(new ArrayList<>());
+        private final List<String> violations = synchronizedList(new ArrayList<>());
+        private volatile boolean concurrent;
+
+        ScenarioThreadsListener(String feature) {
+            this.feature = feature;
+        }
+
+        @Override
+        public void testStarted(Description description) throws InterruptedException {
+            Description previous = running.put(Thread.currentThread(), description);
+            if (previous != null) {
+                violations.add(description.getDisplayName() + " started before " + previous.getDisplayName() + " finished");
+            }
+            started.add(description.getDisplayName());
+            if (description.getDisplayName().endsWith(feature) && featureScenariosStarted.getCount() > 0) {
+                featureScenariosStarted.countDown();
+                if (featureScenariosStarted.await(10, SECONDS)) {
+                    concurrent = true;
+                }
+            }
+        }
+
+        @Override
+        public void testFinished(Description description) {
+            if (!description.equals(running.remove(Thread.currentThread()))) {
+                violations.add(description.getDisplayName() + " finished on a different thread");
+            }
+            finished.add(description.getDisplayName());
+        }
+    }
+
+    @Test
+    void cucumber_keeps_jars_open_until_the_run_is_finished(@TempDir Path temp) throws Exception {
+        Path jar = temp.resolve("features.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("com/example/jarred.feature"));
+            out.write(("" +
+                "Feature: feature in a jar\n" +
+                "  Scenario: scenario name\n" +
+                "    Given first step\n").getBytes(UTF_8));
+            out.closeEntry();
+        }
+        JarFileSystemListener.jarUri = URI.create("jar:" + jar.toUri());
+        JarFileSystemListener.fileSystems.clear();
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(new URLClassLoader(new URL[]{jar.toUri().toURL()}, contextClassLoader));
+        try {
+            new Cucumber(FeatureInJar.class).run(new RunNotifier());
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        // Scanned for glue before the scenario started
+        List<FileSystem> fileSystems = JarFileSystemListener.fileSystems;
+        assertThat(fileSystems.size(), is(2));
+        assertThat(fileSystems.get(0), is(notNullValue()));
+        assertThat(fileSystems.get(1), is(sameInstance(fileSystems.get(0))));
+        assertThat(fileSystems.get(0).isOpen(), is(false));
+    }
+
+    @CucumberOptions(
+        features = "classpath:com/example/jarred.feature",
+        glue = "com.example",
+        plugin = "io.cucumber.junit.CucumberTest$JarFileSystemListener"
+    )
+    public static class FeatureInJar {
+
+    }
+
+    public static class JarFileSystemListener implements ConcurrentEventListener {
+
+        private static final List<FileSystem> fileSystems = new ArrayList<>();
+        private static URI jarUri;
+
+        @Override
+        public void setEventPublisher(EventPublisher publisher) {
+            publisher.registerHandlerFor(TestCaseStarted.class, event -> fileSystems.add(getFileSystem()));
+            publisher.registerHandlerFor(TestRunFinished.class, event -> fileSystems.add(getFileSystem()));
+        }
+
+        private static FileSystem getFileSystem() {
+            try {
+                return FileSystems.getFileSystem(jarUri);
+            } catch (FileSystemNotFoundException e) {
+                return null;
+            }
+        }
+
+    }
+
     @Test
     void cucumber_returns_description_tree_with_features_and_pickles() throws InitializationError {
         Description description = new Cucumber(ValidEmpty.class).getDescription();
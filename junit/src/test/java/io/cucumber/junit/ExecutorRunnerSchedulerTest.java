@@ -0,0 +1,93 @@
+package io.cucumber.junit;
+
+import io.cucumber.core.exception.CucumberException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExecutorRunnerSchedulerTest {
+
+    private final ExecutorService executor = newFixedThreadPool(2);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runs_children_concurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicInteger finished = new AtomicInteger();
+        Runnable child = () -> {
+            bothStarted.countDown();
+            try {
+                if (bothStarted.await(10, SECONDS)) {
+                    finished.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ExecutorRunnerScheduler scheduler = new ExecutorRunnerScheduler(executor);
+        scheduler.schedule(child);
+        scheduler.schedule(child);
+        scheduler.finished();
+
+        assertThat(finished.get(), is(2));
+    }
+
+    @Test
+    void finished_waits_for_all_children_and_rethrows_the_first_failure() {
+        RuntimeException failure = new RuntimeException("first");
+        AtomicInteger finished = new AtomicInteger();
+
+        ExecutorRunnerScheduler scheduler = new ExecutorRunnerScheduler(executor);
+        scheduler.schedule(() -> {
+            throw failure;
+        });
+        scheduler.schedule(finished::incrementAndGet);
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, scheduler::finished);
+        assertSame(failure, thrown);
+        assertThat(finished.get(), is(1));
+    }
+
+    @Test
+    void finished_cancels_children_and_fails_when_interrupted() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger interrupted = new AtomicInteger();
+
+        ExecutorRunnerScheduler scheduler = new ExecutorRunnerScheduler(executor);
+        scheduler.schedule(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+            }
+        });
+        assertThat(started.await(10, SECONDS), is(true));
+        Thread.currentThread().interrupt();
+
+        CucumberException thrown = assertThrows(CucumberException.class, scheduler::finished);
+        assertThat(thrown.getMessage(), is("Interrupted while waiting for children to finish"));
+        // Clear the interrupt flag so it doesn't leak into other tests
+        assertThat(Thread.interrupted(), is(true));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, SECONDS), is(true));
+        assertThat(interrupted.get(), is(1));
+    }
+
+}
@@ -179,7 +179,8 @@ class FeatureRunnerTest {
         Supplier<ClassLoader> classLoader = FeatureRunnerTest.class::getClassLoader;
         ScanningTypeRegistryConfigurerSupplier typeRegistrySupplier = new ScanningTypeRegistryConfigurerSupplier(classLoader, runtimeOptions);
         ThreadLocalRunnerSupplier runnerSupplier = new ThreadLocalRunnerSupplier(runtimeOptions, bus, backendSupplier, objectFactory, typeRegistrySupplier);
-        return FeatureRunner.create(cucumberFeature, filters, runnerSupplier, junitOption);
+        ThreadLocal<JUnitReporter> reporters = ThreadLocal.withInitial(() -> new JUnitReporter(runnerSupplier.get().getBus(), junitOption));
+        return FeatureRunner.create(cucumberFeature, filters, runnerSupplier, reporters::get, junitOption);
     }
 
     @Test
@@ -358,7 +359,8 @@ class FeatureRunnerTest {
             throw illegalStateException;
         };
 
-        FeatureRunner featureRunner = FeatureRunner.create(feature, filters, runnerSupplier, new JUnitOptions());
+        JUnitOptions options = new JUnitOptions();
+        FeatureRunner featureRunner = FeatureRunner.create(feature, filters, runnerSupplier, () -> new JUnitReporter(runnerSupplier.get().getBus(), options), options);
 
         RunNotifier notifier = mock(RunNotifier.class);
         PickleRunners.PickleRunner pickleRunner = featureRunner.getChildren().get(0);
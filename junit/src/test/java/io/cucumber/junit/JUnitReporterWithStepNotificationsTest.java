@@ -107,6 +107,21 @@ class JUnitReporterWithStepNotificationsTest {
         verify(runNotifier, never()).fireTestStarted(pickleRunner.getDescription());
     }
 
+    @Test
+    void reports_to_the_current_execution_unit_only() {
+        RunNotifier previousRunNotifier = mock(RunNotifier.class);
+        jUnitReporter.startExecutionUnit(pickleRunner, previousRunNotifier);
+        jUnitReporter.finishExecutionUnit();
+
+        jUnitReporter.startExecutionUnit(pickleRunner, runNotifier);
+        bus.send(new TestCaseStarted(now(), testCase));
+        bus.send(new TestStepStarted(now(), testCase, mockTestStep(step)));
+        jUnitReporter.finishExecutionUnit();
+
+        verify(runNotifier).fireTestStarted(pickleRunner.describeChild(step));
+        verify(previousRunNotifier, never()).fireTestStarted(pickleRunner.describeChild(step));
+    }
+
     @Test
     void ignores_steps_when_step_notification_are_disabled() {
         EventBus bus = new TimeServiceEventBus(Clock.systemUTC());
@@ -24,6 +24,7 @@ class PickleRunnerWithNoStepDescriptionsTest {
         PickleRunner runner = PickleRunners.withNoStepDescriptions(
             "feature name",
             mock(RunnerSupplier.class),
+            () -> null,
             pickles.get(0),
             createJunitOptions()
         );
@@ -41,6 +42,7 @@ class PickleRunnerWithNoStepDescriptionsTest {
         PickleRunner runner = PickleRunners.withNoStepDescriptions(
             "feature name",
             mock(RunnerSupplier.class),
+            () -> null,
             pickles.get(0),
             createFileNameCompatibleJUnitOptions()
         );
@@ -59,6 +61,7 @@ class PickleRunnerWithNoStepDescriptionsTest {
         PickleRunner runner = PickleRunners.withNoStepDescriptions(
             "имя функции",
             mock(RunnerSupplier.class),
+            () -> null,
             pickles.get(0),
             createFileNameCompatibleJUnitOptions()
         );
@@ -14,6 +14,7 @@ import java.util.List;
 import static io.cucumber.junit.TestPickleBuilder.picklesFromFeature;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 
 class PickleRunnerWithStepDescriptionsTest {
@@ -34,6 +35,7 @@ class PickleRunnerWithStepDescriptionsTest {
 
         WithStepDescriptions runner = (WithStepDescriptions) PickleRunners.withStepDescriptions(
             mock(RunnerSupplier.class),
+            () -> null,
             pickles.get(0),
             createJunitOptions()
         );
@@ -52,6 +54,28 @@ class PickleRunnerWithStepDescriptionsTest {
         assertNotEquals(stepDescription1, stepDescription2);
     }
 
+    @Test
+    void shouldDescribeChildrenWithTheDescriptionsInTheDescriptionTree() {
+        List<CucumberPickle> pickles = picklesFromFeature("path/test.feature", "" +
+            "Feature: FB\n" +
+            "  Scenario: SB\n" +
+            "    When foo\n" +
+            "    Then foo\n"
+        );
+
+        WithStepDescriptions runner = (WithStepDescriptions) PickleRunners.withStepDescriptions(
+            mock(RunnerSupplier.class),
+            () -> null,
+            pickles.get(0),
+            createJunitOptions()
+        );
+
+        Description runnerDescription = runner.getDescription();
+
+        assertSame(runnerDescription.getChildren().get(0), runner.describeChild(runner.getChildren().get(0)));
+        assertSame(runnerDescription.getChildren().get(1), runner.describeChild(runner.getChildren().get(1)));
+    }
+
     @Test
     void shouldAssignUnequalDescriptionsToDifferentStepsInAScenarioOutline() {
         CucumberFeature features = TestPickleBuilder.parseFeature("path/test.feature", "" +
@@ -66,6 +90,7 @@ class PickleRunnerWithStepDescriptionsTest {
 
         WithStepDescriptions runner = (WithStepDescriptions) PickleRunners.withStepDescriptions(
             mock(RunnerSupplier.class),
+            () -> null,
             features.getPickles().get(0),
             createJunitOptions()
         );
@@ -92,6 +117,7 @@ class PickleRunnerWithStepDescriptionsTest {
 
         PickleRunner runner = PickleRunners.withStepDescriptions(
             mock(RunnerSupplier.class),
+            () -> null,
             features.getPickles().get(0),
             createJunitOptions()
         );
@@ -115,6 +141,7 @@ class PickleRunnerWithStepDescriptionsTest {
 
         PickleRunner runner = PickleRunners.withStepDescriptions(
             mock(RunnerSupplier.class),
+            () -> null,
             pickles.get(0),
             createJunitOptions()
         );
@@ -131,6 +158,7 @@ class PickleRunnerWithStepDescriptionsTest {
 
         PickleRunner runner = PickleRunners.withStepDescriptions(
             mock(RunnerSupplier.class),
+            () -> null,
             pickles.get(0),
             createJunitOptions()
         );
@@ -147,6 +175,7 @@ class PickleRunnerWithStepDescriptionsTest {
 
         PickleRunner runner = PickleRunners.withStepDescriptions(
             mock(RunnerSupplier.class),
+            () -> null,
             pickles.get(0),
             createFileNameCompatibleJunitOptions()
         );
@@ -1,13 +1,14 @@
 package io.cucumber.needle;
 
 import de.akquinet.jbosscc.needle.injection.InjectionProvider;
-import de.akquinet.jbosscc.needle.reflection.ReflectionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -24,6 +25,26 @@ enum CollectInjectionProvidersFromStepsInstance {
      */
     private final Logger logger = LoggerFactory.getLogger(NeedleFactory.class);
 
+    /**
+     * Accessible fields annotated with {@link NeedleInjectionProvider} by
+     * step definition class, including the fields of super classes.
+     */
+    private final ClassValue<Field[]> injectionProviderFields = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+                for (final Field field : clazz.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(NeedleInjectionProvider.class)) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
     /**
      * Collect providers direct in the step definition.
      *
@@ -32,8 +53,7 @@ enum CollectInjectionProvidersFromStepsInstance {
      */
     final <T> InjectionProvider<?>[] apply(final T instance) {
         final Set<InjectionProvider<?>> providers = new LinkedHashSet<>();
-        for (final Field field : ReflectionUtil.getAllFieldsWithAnnotation(instance, NeedleInjectionProvider.class)) {
-            field.setAccessible(true);
+        for (final Field field : injectionProviderFields.get(instance.getClass())) {
             try {
                 final Object value = field.get(instance);
                 if (value instanceof InjectionProvider<?>[]) {
@@ -3,6 +3,8 @@ package io.cucumber.needle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Constructor;
+
 /**
  * Instantiates new java object by default constructor
  */
@@ -14,9 +16,23 @@ enum CreateInstanceByDefaultConstructor {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    /**
+     * Default constructors by type, null if the type has none.
+     */
+    private final ClassValue<Constructor<?>> defaultConstructors = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(final Class<?> type) {
+            try {
+                return type.getConstructor();
+            } catch (final NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
+
     final <T> T apply(final Class<T> type) {
         try {
-            final T newInstance = type.getConstructor().newInstance();
+            final T newInstance = type.cast(getDefaultConstructor(type).newInstance());
             logger.debug("newInstance by DefaultConstructor: {}", newInstance);
             return newInstance;
         } catch (final Exception e) {
@@ -24,4 +40,12 @@ enum CreateInstanceByDefaultConstructor {
         }
     }
 
+    private Constructor<?> getDefaultConstructor(final Class<?> type) throws NoSuchMethodException {
+        final Constructor<?> constructor = defaultConstructors.get(type);
+        if (constructor == null) {
+            throw new NoSuchMethodException(type.getName() + ".<init>()");
+        }
+        return constructor;
+    }
+
 }
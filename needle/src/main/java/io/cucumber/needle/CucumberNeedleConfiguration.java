@@ -2,9 +2,13 @@ package io.cucumber.needle;
 
 import de.akquinet.jbosscc.needle.injection.InjectionProvider;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Reads cucumber-needle.properties to initialize additional {@link InjectionProvider}s.
@@ -15,6 +19,12 @@ class CucumberNeedleConfiguration {
      */
     static final String RESOURCE_CUCUMBER_NEEDLE = "cucumber-needle";
 
+    /**
+     * Custom injection provider classes by resource name. Only the classes are
+     * shared, each configuration creates its own provider instances.
+     */
+    private static final ConcurrentMap<String, List<Class<?>>> injectionProviderClasses = new ConcurrentHashMap<>();
+
     private final Set<InjectionProvider<?>> injectionProviders = new HashSet<>();
 
     /**
@@ -25,12 +35,11 @@ class CucumberNeedleConfiguration {
     }
 
     CucumberNeedleConfiguration(final String resourceName) {
-        final ResourceBundle resourceBundle = LoadResourceBundle.INSTANCE.apply(resourceName);
-        final Set<String> classNames = ReadInjectionProviderClassNames.INSTANCE.apply(resourceBundle);
+        final List<Class<?>> classes = injectionProviderClasses.computeIfAbsent(resourceName,
+            CucumberNeedleConfiguration::loadInjectionProviderClasses);
 
-        for (final String className : classNames) {
+        for (final Class<?> clazz : classes) {
             try {
-                final Class<?> clazz = Class.forName(className);
                 CreateInstanceByDefaultConstructor createInstance = CreateInstanceByDefaultConstructor.INSTANCE;
                 if (isInjectionProvider(clazz)) {
                     injectionProviders.add((InjectionProvider<?>) createInstance.apply(clazz));
@@ -48,6 +57,21 @@ class CucumberNeedleConfiguration {
         }
     }
 
+    private static List<Class<?>> loadInjectionProviderClasses(final String resourceName) {
+        final ResourceBundle resourceBundle = LoadResourceBundle.INSTANCE.apply(resourceName);
+        final Set<String> classNames = ReadInjectionProviderClassNames.INSTANCE.apply(resourceBundle);
+
+        final List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (final String className : classNames) {
+            try {
+                classes.add(Class.forName(className));
+            } catch (final Exception e) {
+                throw new IllegalStateException("failed to initialize custom injection providers", e);
+            }
+        }
+        return classes;
+    }
+
     /**
      * Checks if given class is an {@link InjectionProvider}
      *
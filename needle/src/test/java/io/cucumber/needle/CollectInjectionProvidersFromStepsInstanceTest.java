@@ -37,6 +37,12 @@ public class CollectInjectionProvidersFromStepsInstanceTest {
         assertThat(a.bar, is("bar"));
     }
 
+    @Test
+    void shouldAddInjectionProvidersFromSuperClass() {
+        final InjectionProvider<?>[] injectionProviders = function.apply(new SubSteps());
+        assertThat(injectionProviders.length, is(2));
+    }
+
     private static class MyNeedleTestcase extends NeedleTestcase {
 
         public MyNeedleTestcase(final InjectionProvider<?>... injectionProvider) {
@@ -48,6 +54,18 @@ public class CollectInjectionProvidersFromStepsInstanceTest {
         }
     }
 
+    public static class SuperSteps {
+
+        @NeedleInjectionProvider
+        private final InjectionProvider<?> superProvider = NamedInjectionProvider.forNamedValue("super", "value");
+    }
+
+    public static class SubSteps extends SuperSteps {
+
+        @NeedleInjectionProvider
+        private final InjectionProvider<?> subProvider = NamedInjectionProvider.forNamedValue("sub", "value");
+    }
+
     public static class A {
 
         @Inject
@@ -2,6 +2,7 @@ package io.cucumber.openejb;
 
 import io.cucumber.core.backend.CucumberBackendException;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.options.CucumberProperties;
 import org.apache.openejb.OpenEjbContainer;
 import org.apiguardian.api.API;
 
@@ -15,12 +16,27 @@ import java.util.Properties;
 
 @API(status = API.Status.STABLE)
 public final class OpenEJBObjectFactory implements ObjectFactory {
+    static final String OPENEJB_REUSE_CONTAINER_KEY = "openejb.reuse-container";
+
     private final List<String> classes = new ArrayList<String>();
     private final Map<Class<?>, Object> instances = new HashMap<Class<?>, Object>();
+    private final boolean reuseContainer;
     private EJBContainer container;
 
+    public OpenEJBObjectFactory() {
+        this(CucumberProperties.create());
+    }
+
+    OpenEJBObjectFactory(Map<String, String> properties) {
+        this.reuseContainer = Boolean.parseBoolean(properties.get(OPENEJB_REUSE_CONTAINER_KEY));
+    }
+
     @Override
     public void start() {
+        if (container != null) {
+            // Reused, step definitions are injected again on first use
+            return;
+        }
         final StringBuilder callers = new StringBuilder();
         for (Iterator<String> it = classes.iterator(); it.hasNext(); ) {
             callers.append(it.next());
@@ -32,11 +48,18 @@ public final class OpenEJBObjectFactory implements ObjectFactory {
         Properties properties = new Properties();
         properties.setProperty(OpenEjbContainer.Provider.OPENEJB_ADDITIONNAL_CALLERS_KEY, callers.toString());
         container = EJBContainer.createEJBContainer(properties);
+        if (reuseContainer) {
+            EJBContainer reused = container;
+            Runtime.getRuntime().addShutdownHook(new Thread(reused::close));
+        }
     }
 
     @Override
     public void stop() {
-        container.close();
+        if (!reuseContainer) {
+            container.close();
+            container = null;
+        }
         instances.clear();
     }
 
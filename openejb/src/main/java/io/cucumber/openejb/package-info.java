@@ -3,5 +3,13 @@
  * <p>
  * By including the <code>cucumber-openejb</code> on your <code>CLASSPATH</code> your step definitions will be
  * instantiated by OpenEJB.
+ * <p>
+ * By default a new embedded container is started for each scenario. To start
+ * the container once and reuse it for all scenarios executed by the same
+ * runner set the property <code>openejb.reuse-container=true</code> in
+ * <code>cucumber.properties</code>, as an environment variable or as a system
+ * property. Step definitions are still created and injected for each
+ * scenario, but beans managed by the container will be shared between
+ * scenarios.
  */
 package io.cucumber.openejb;
\ No newline at end of file
@@ -3,6 +3,8 @@ package io.cucumber.openejb;
 import io.cucumber.core.backend.ObjectFactory;
 import org.junit.jupiter.api.Test;
 
+import static io.cucumber.openejb.OpenEJBObjectFactory.OPENEJB_REUSE_CONTAINER_KEY;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -31,4 +33,24 @@ class OpenEJBObjectFactoryTest {
         assertThat(o2, is(not(equalTo(o1))));
     }
 
+    @Test
+    void shouldGiveUsNewInstancesForEachScenarioWhenReusingContainer() {
+        ObjectFactory factory = new OpenEJBObjectFactory(singletonMap(OPENEJB_REUSE_CONTAINER_KEY, "true"));
+        factory.addClass(BellyStepdefs.class);
+
+        // Scenario 1
+        factory.start();
+        BellyStepdefs o1 = factory.getInstance(BellyStepdefs.class);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        BellyStepdefs o2 = factory.getInstance(BellyStepdefs.class);
+        factory.stop();
+
+        assertThat(o1, is(notNullValue()));
+        assertThat(o1, is(not(equalTo(o2))));
+        assertThat(o2, is(not(equalTo(o1))));
+    }
+
 }
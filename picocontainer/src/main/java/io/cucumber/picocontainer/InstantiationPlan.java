@@ -0,0 +1,191 @@
+package io.cucumber.picocontainer;
+
+import io.cucumber.core.backend.CucumberBackendException;
+import org.picocontainer.Disposable;
+import org.picocontainer.Startable;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Describes how to create each component so components can be instantiated
+ * without reflecting over their constructors again.
+ * <p>
+ * For each component the greediest satisfiable public constructor is selected
+ * and its parameters are resolved to other components, the same way
+ * PicoContainer does. Problems are reported when a component is instantiated
+ * so unused components with unsatisfiable constructors are harmless.
+ */
+final class InstantiationPlan {
+
+    private final Map<Class<?>, Component> components = new LinkedHashMap<>();
+    private final Map<Class<?>, Resolution> resolutions = new HashMap<>();
+
+    private InstantiationPlan(Collection<Class<?>> classes) {
+        for (Class<?> clazz : classes) {
+            components.put(clazz, new Component(clazz));
+        }
+        for (Component component : components.values()) {
+            component.selectConstructor();
+        }
+        for (Component component : components.values()) {
+            component.resolveDependencies();
+        }
+    }
+
+    static InstantiationPlan compile(Collection<Class<?>> classes) {
+        return new InstantiationPlan(classes);
+    }
+
+    Collection<Component> getComponents() {
+        return unmodifiableCollection(components.values());
+    }
+
+    /**
+     * Finds the component that provides instances of {@code type}.
+     *
+     * @param type the requested type
+     * @return the providing component or empty if none does
+     * @throws CucumberBackendException when more than one component provides
+     *                                  the type
+     */
+    Optional<Component> resolve(Class<?> type) {
+        Resolution resolution = resolutions.computeIfAbsent(type, this::createResolution);
+        if (resolution.problem != null) {
+            throw new CucumberBackendException(resolution.problem);
+        }
+        return Optional.ofNullable(resolution.component);
+    }
+
+    private Resolution createResolution(Class<?> type) {
+        Component exact = components.get(type);
+        if (exact != null) {
+            return new Resolution(exact, null);
+        }
+        List<Class<?>> candidates = components.keySet().stream()
+            .filter(type::isAssignableFrom)
+            .collect(toList());
+        if (candidates.isEmpty()) {
+            return new Resolution(null, null);
+        }
+        if (candidates.size() > 1) {
+            return new Resolution(null, String.format(
+                "More than one component provides %s: %s", type.getName(), candidates));
+        }
+        return new Resolution(components.get(candidates.get(0)), null);
+    }
+
+    private boolean isSatisfiable(Constructor<?> constructor) {
+        for (Class<?> parameterType : constructor.getParameterTypes()) {
+            if (!components.containsKey(parameterType)
+                && components.keySet().stream().noneMatch(parameterType::isAssignableFrom)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    final class Component {
+
+        private final Class<?> type;
+        private final boolean lifecycle;
+        private Constructor<?> constructor;
+        private List<Component> dependencies;
+        private String problem;
+
+        private Component(Class<?> type) {
+            this.type = type;
+            this.lifecycle = Startable.class.isAssignableFrom(type) || Disposable.class.isAssignableFrom(type);
+        }
+
+        private void selectConstructor() {
+            List<Constructor<?>> constructors = new ArrayList<>();
+            for (Constructor<?> candidate : type.getConstructors()) {
+                constructors.add(candidate);
+            }
+            constructors.sort(comparingInt(Constructor<?>::getParameterCount).reversed());
+
+            for (Constructor<?> candidate : constructors) {
+                if (constructor != null && constructor.getParameterCount() > candidate.getParameterCount()) {
+                    return;
+                }
+                if (!isSatisfiable(candidate)) {
+                    continue;
+                }
+                if (constructor != null) {
+                    problem = String.format("%s has more than one satisfiable constructor: %s and %s",
+                        type.getName(), constructor, candidate);
+                    return;
+                }
+                constructor = candidate;
+            }
+            if (constructor == null) {
+                problem = String.format("%s has no satisfiable public constructor, the known components are %s",
+                    type.getName(), components.keySet());
+            }
+        }
+
+        private void resolveDependencies() {
+            if (problem != null) {
+                return;
+            }
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            List<Component> resolved = new ArrayList<>(parameterTypes.length);
+            for (Class<?> parameterType : parameterTypes) {
+                Resolution resolution = resolutions.computeIfAbsent(parameterType, InstantiationPlan.this::createResolution);
+                if (resolution.problem != null) {
+                    problem = resolution.problem;
+                    return;
+                }
+                resolved.add(resolution.component);
+            }
+            dependencies = resolved;
+        }
+
+        Class<?> getType() {
+            return type;
+        }
+
+        Constructor<?> getConstructor() {
+            checkProblem();
+            return constructor;
+        }
+
+        List<Component> getDependencies() {
+            checkProblem();
+            return dependencies;
+        }
+
+        boolean hasLifecycle() {
+            return lifecycle;
+        }
+
+        private void checkProblem() {
+            if (problem != null) {
+                throw new CucumberBackendException(problem);
+            }
+        }
+    }
+
+    private static final class Resolution {
+
+        private final Component component;
+        private final String problem;
+
+        private Resolution(Component component, String problem) {
+            this.component = component;
+            this.problem = problem;
+        }
+    }
+
+}
@@ -1,19 +1,33 @@
 package io.cucumber.picocontainer;
 
+import io.cucumber.core.backend.CucumberBackendException;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.picocontainer.InstantiationPlan.Component;
 import org.apiguardian.api.API;
-import org.picocontainer.MutablePicoContainer;
-import org.picocontainer.PicoBuilder;
+import org.picocontainer.Disposable;
+import org.picocontainer.Startable;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static java.util.Collections.reverse;
+
 @API(status = API.Status.STABLE)
 public final class PicoFactory implements ObjectFactory {
-    private final Set<Class<?>> classes = new HashSet<>();
-    private MutablePicoContainer pico;
+    private final Set<Class<?>> classes = new LinkedHashSet<>();
+    private final Map<Component, Object> instances = new HashMap<>();
+    private final Set<Component> underConstruction = new HashSet<>();
+    private final List<Object> lifecycleInstances = new ArrayList<>();
+    private InstantiationPlan plan;
+    private boolean started;
 
     private static boolean isInstantiable(Class<?> clazz) {
         boolean isNonStaticInnerClass = !Modifier.isStatic(clazz.getModifiers()) && clazz.getEnclosingClass() != null;
@@ -21,30 +35,106 @@ public final class PicoFactory implements ObjectFactory {
     }
 
     public void start() {
-        pico = new PicoBuilder()
-            .withCaching()
-            .withLifecycle()
-            .build();
-        for (Class<?> clazz : classes) {
-            pico.addComponent(clazz);
+        if (plan == null) {
+            plan = InstantiationPlan.compile(classes);
+        }
+        started = true;
+        for (Component component : plan.getComponents()) {
+            if (component.hasLifecycle()) {
+                getInstance(component);
+            }
         }
-        pico.start();
     }
 
     public void stop() {
-        pico.stop();
-        pico.dispose();
+        List<Object> instances = new ArrayList<>(lifecycleInstances);
+        reverse(instances);
+        started = false;
+        this.instances.clear();
+        this.underConstruction.clear();
+        this.lifecycleInstances.clear();
+
+        RuntimeException exception = null;
+        for (Object instance : instances) {
+            if (instance instanceof Startable) {
+                exception = run(((Startable) instance)::stop, exception);
+            }
+        }
+        for (Object instance : instances) {
+            if (instance instanceof Disposable) {
+                exception = run(((Disposable) instance)::dispose, exception);
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private static RuntimeException run(Runnable callback, RuntimeException exception) {
+        try {
+            callback.run();
+            return exception;
+        } catch (RuntimeException e) {
+            if (exception == null) {
+                return e;
+            }
+            exception.addSuppressed(e);
+            return exception;
+        }
     }
 
     public boolean addClass(Class<?> clazz) {
         if (isInstantiable(clazz) && classes.add(clazz)) {
+            plan = null;
             addConstructorDependencies(clazz);
         }
         return true;
     }
 
     public <T> T getInstance(Class<T> type) {
-        return pico.getComponent(type);
+        return plan.resolve(type)
+            .map(this::getInstance)
+            .map(type::cast)
+            .orElse(null);
+    }
+
+    private Object getInstance(Component component) {
+        Object instance = instances.get(component);
+        if (instance != null) {
+            return instance;
+        }
+        if (!underConstruction.add(component)) {
+            throw new CucumberBackendException("Cyclic dependency on " + component.getType().getName());
+        }
+        try {
+            instance = newInstance(component);
+        } finally {
+            underConstruction.remove(component);
+        }
+        instances.put(component, instance);
+        if (component.hasLifecycle()) {
+            lifecycleInstances.add(instance);
+            if (started && instance instanceof Startable) {
+                ((Startable) instance).start();
+            }
+        }
+        return instance;
+    }
+
+    private Object newInstance(Component component) {
+        Constructor<?> constructor = component.getConstructor();
+        List<Component> dependencies = component.getDependencies();
+        Object[] arguments = new Object[dependencies.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = getInstance(dependencies.get(i));
+        }
+        try {
+            return constructor.newInstance(arguments);
+        } catch (InvocationTargetException e) {
+            throw new CucumberBackendException("Failed to instantiate " + component.getType().getName(), e.getCause());
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new CucumberBackendException("Failed to instantiate " + component.getType().getName(), e);
+        }
     }
 
     private void addConstructorDependencies(Class<?> clazz) {
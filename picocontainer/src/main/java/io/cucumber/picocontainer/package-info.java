@@ -3,6 +3,11 @@
  * <p>
  * By including the <code>cucumber-picocontainer</code> on your <code>CLASSPATH</code> your step definitions will be
  * instantiated by PicoContainer.
+ * <p>
+ * Constructors are resolved once, when the first scenario starts. Each scenario gets new instances, created
+ * using the greediest satisfiable constructor. Components that implement {@link org.picocontainer.Startable}
+ * are started when the scenario starts, and stopped when it ends. Components that implement
+ * {@link org.picocontainer.Disposable} are disposed of after that.
  */
 package io.cucumber.picocontainer;
 
@@ -1,5 +1,6 @@
 package io.cucumber.picocontainer;
 
+import io.cucumber.core.backend.CucumberBackendException;
 import io.cucumber.core.backend.ObjectFactory;
 import org.junit.jupiter.api.Test;
 
@@ -9,8 +10,10 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.IsNull.notNullValue;
 import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PicoFactoryTest {
@@ -66,6 +69,64 @@ class PicoFactoryTest {
         assertThat(factory.getInstance(NonStaticInnerClass.class), nullValue());
     }
 
+    @Test
+    void shouldShareDependenciesWithinScenario() {
+        ObjectFactory factory = new PicoFactory();
+        factory.addClass(Steps.class);
+        factory.start();
+
+        Steps steps = factory.getInstance(Steps.class);
+
+        assertAll("Checking dependencies",
+            () -> assertThat(factory.getInstance(Steps.class), is(sameInstance(steps))),
+            () -> assertThat(factory.getInstance(DisposableCucumberBelly.class), is(sameInstance(steps.getBelly())))
+        );
+    }
+
+    @Test
+    void shouldUseGreediestSatisfiableConstructor() {
+        ObjectFactory factory = new PicoFactory();
+        factory.addClass(GreedySteps.class);
+        factory.addClass(Steps.class);
+        factory.start();
+
+        GreedySteps steps = factory.getInstance(GreedySteps.class);
+
+        assertThat(steps.steps, is(sameInstance(factory.getInstance(Steps.class))));
+    }
+
+    @Test
+    void shouldReportCyclicDependencies() {
+        ObjectFactory factory = new PicoFactory();
+        factory.addClass(CyclicSteps.class);
+        factory.start();
+
+        CucumberBackendException exception = assertThrows(
+            CucumberBackendException.class,
+            () -> factory.getInstance(CyclicSteps.class)
+        );
+        assertThat(exception.getMessage(), is(equalTo("Cyclic dependency on " + CyclicSteps.class.getName())));
+    }
+
+    public static class GreedySteps {
+
+        private final Steps steps;
+
+        public GreedySteps() {
+            this(null);
+        }
+
+        public GreedySteps(Steps steps) {
+            this.steps = steps;
+        }
+    }
+
+    public static class CyclicSteps {
+
+        public CyclicSteps(CyclicSteps steps) {
+        }
+    }
+
     @SuppressWarnings("InnerClassMayBeStatic")
     public class NonStaticInnerClass {
     }
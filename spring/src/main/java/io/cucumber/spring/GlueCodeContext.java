@@ -1,16 +1,28 @@
 package io.cucumber.spring;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import static java.util.Collections.reverse;
+
+/**
+ * Holds the glue scoped beans of the scenario executed by the current thread.
+ * <p>
+ * Each thread has its own context so no state is shared between scenarios
+ * executing in parallel and no synchronization is needed.
+ */
 class GlueCodeContext {
 
     private static final ThreadLocal<GlueCodeContext> localContext =
         ThreadLocal.withInitial(GlueCodeContext::new);
 
     private final Map<String, Object> objects = new HashMap<>();
-    private final Map<String, Runnable> callbacks = new HashMap<>();
+    private final Map<String, Runnable> callbacks = new LinkedHashMap<>();
     private int counter;
+    private String id = createId(counter);
 
     private GlueCodeContext() {
     }
@@ -19,20 +31,40 @@ class GlueCodeContext {
         return localContext.get();
     }
 
+    private static String createId(int counter) {
+        return "cucumber_glue_" + counter;
+    }
+
     public void start() {
         cleanUp();
         counter++;
+        id = createId(counter);
     }
 
     public String getId() {
-        return "cucumber_glue_" + counter;
+        return id;
     }
 
     public void stop() {
-        for (Runnable callback : callbacks.values()) {
-            callback.run();
-        }
+        // Destroy beans in the reverse order of creation, like Spring does
+        List<Runnable> destructionCallbacks = new ArrayList<>(callbacks.values());
+        reverse(destructionCallbacks);
         cleanUp();
+        RuntimeException exception = null;
+        for (Runnable callback : destructionCallbacks) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
     }
 
     public Object get(String name) {
@@ -2,6 +2,8 @@ package io.cucumber.spring;
 
 import io.cucumber.core.backend.CucumberBackendException;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
 import org.apiguardian.api.API;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -29,6 +31,7 @@ import static io.cucumber.spring.CucumberTestContext.SCOPE_CUCUMBER_GLUE;
 import static io.cucumber.spring.FixBootstrapUtils.createBootstrapContext;
 import static io.cucumber.spring.FixBootstrapUtils.resolveTestContextBootstrapper;
 import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * Spring based implementation of ObjectFactory.
@@ -37,7 +40,7 @@ import static java.util.Arrays.asList;
  * (with annotations).
  * <p>
  * SpringFactory uses TestContextManager to manage the spring context. The step definitions are added to the
- * TestContextManagers context and the context is reloaded for each scenario.
+ * TestContextManagers context. The context is cached and reused between scenarios unless it is marked dirty.
  * <p>
  * The spring context can be configured by:
  * <ul>
@@ -65,6 +68,8 @@ import static java.util.Arrays.asList;
 @API(status = API.Status.STABLE)
 public final class SpringFactory implements ObjectFactory {
 
+    private static final Logger log = LoggerFactory.getLogger(SpringFactory.class);
+
     private ConfigurableListableBeanFactory beanFactory;
     private CucumberTestContextManager testContextManager;
 
@@ -129,23 +134,34 @@ public final class SpringFactory implements ObjectFactory {
 
     @Override
     public void start() {
+        long startTime = System.nanoTime();
         if (stepClassWithSpringContext != null) {
-            testContextManager = new CucumberTestContextManager(stepClassWithSpringContext);
+            // Reused between scenarios, the application context is cached
+            if (testContextManager == null) {
+                testContextManager = new CucumberTestContextManager(stepClassWithSpringContext);
+            }
         } else {
             if (beanFactory == null) {
                 beanFactory = createFallbackContext();
+                logContextLoaded(startTime);
             }
         }
         notifyContextManagerAboutTestClassStarted();
         if (beanFactory == null || isNewContextCreated()) {
             beanFactory = testContextManager.getBeanFactory();
-            for (Class<?> stepClass : stepClasses) {
-                registerStepClassBeanDefinition(beanFactory, stepClass);
-            }
+            testContextManager.registerGlueCodeScope();
+            registerStepClassBeanDefinitions(beanFactory);
+            logContextLoaded(startTime);
         }
         GlueCodeContext.getInstance().start();
     }
 
+    private void logContextLoaded(long startTime) {
+        long duration = NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        log.debug(() -> String.format("Prepared spring context for %s in %d ms",
+            stepClassWithSpringContext != null ? stepClassWithSpringContext.getName() : "cucumber.xml", duration));
+    }
+
     @SuppressWarnings("resource")
     private ConfigurableListableBeanFactory createFallbackContext() {
         ConfigurableApplicationContext applicationContext;
@@ -157,9 +173,7 @@ public final class SpringFactory implements ObjectFactory {
         applicationContext.registerShutdownHook();
         ConfigurableListableBeanFactory beanFactory = applicationContext.getBeanFactory();
         beanFactory.registerScope(SCOPE_CUCUMBER_GLUE, new GlueCodeScope());
-        for (Class<?> stepClass : stepClasses) {
-            registerStepClassBeanDefinition(beanFactory, stepClass);
-        }
+        registerStepClassBeanDefinitions(beanFactory);
         return beanFactory;
     }
 
@@ -180,8 +194,18 @@ public final class SpringFactory implements ObjectFactory {
         return !beanFactory.equals(testContextManager.getBeanFactory());
     }
 
+    private void registerStepClassBeanDefinitions(ConfigurableListableBeanFactory beanFactory) {
+        for (Class<?> stepClass : stepClasses) {
+            registerStepClassBeanDefinition(beanFactory, stepClass);
+        }
+    }
+
     private void registerStepClassBeanDefinition(ConfigurableListableBeanFactory beanFactory, Class<?> stepClass) {
         BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
+        if (registry.containsBeanDefinition(stepClass.getName())) {
+            // Context was reused from the context cache
+            return;
+        }
         BeanDefinition beanDefinition = BeanDefinitionBuilder
                 .genericBeanDefinition(stepClass)
                 .setScope(SCOPE_CUCUMBER_GLUE)
@@ -236,7 +260,6 @@ public final class SpringFactory implements ObjectFactory {
             // Does the same as TestContextManager(Class<?>) but creates a
             // DefaultCacheAwareContextLoaderDelegate that uses a thread local contextCache.
             super(resolveTestContextBootstrapper(createBootstrapContext(testClass)));
-            registerGlueCodeScope(getContext());
         }
 
         ConfigurableListableBeanFactory getBeanFactory() {
@@ -247,7 +270,8 @@ public final class SpringFactory implements ObjectFactory {
             return (ConfigurableApplicationContext) getTestContext().getApplicationContext();
         }
 
-        private void registerGlueCodeScope(ConfigurableApplicationContext context) {
+        void registerGlueCodeScope() {
+            ConfigurableApplicationContext context = getContext();
             do {
                 context.getBeanFactory().registerScope(SCOPE_CUCUMBER_GLUE, new GlueCodeScope());
                 context = (ConfigurableApplicationContext) context.getParent();
@@ -0,0 +1,68 @@
+package io.cucumber.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GlueCodeContextTest {
+
+    @Test
+    void shouldDestroyBeansInReverseOrderOfRegistration() {
+        GlueCodeContext context = GlueCodeContext.getInstance();
+        List<String> destroyed = new ArrayList<>();
+
+        context.start();
+        context.put("first", "first");
+        context.registerDestructionCallback("first", () -> destroyed.add("first"));
+        context.put("second", "second");
+        context.registerDestructionCallback("second", () -> destroyed.add("second"));
+        context.stop();
+
+        assertThat(destroyed, is(equalTo(asList("second", "first"))));
+        assertThat(context.get("first"), is(nullValue()));
+    }
+
+    @Test
+    void shouldRunAllDestructionCallbacksWhenOneFails() {
+        GlueCodeContext context = GlueCodeContext.getInstance();
+        List<String> destroyed = new ArrayList<>();
+
+        context.start();
+        context.put("first", "first");
+        context.registerDestructionCallback("first", () -> destroyed.add("first"));
+        context.put("second", "second");
+        context.registerDestructionCallback("second", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, context::stop);
+
+        assertThat(exception.getMessage(), is(equalTo("boom")));
+        assertThat(destroyed, is(equalTo(asList("first"))));
+        assertThat(context.get("first"), is(nullValue()));
+    }
+
+    @Test
+    void shouldUseNewConversationIdForEachScenario() {
+        GlueCodeContext context = GlueCodeContext.getInstance();
+
+        context.start();
+        String first = context.getId();
+        context.stop();
+        context.start();
+        String second = context.getId();
+        context.stop();
+
+        assertThat(second, is(not(equalTo(first))));
+    }
+
+}
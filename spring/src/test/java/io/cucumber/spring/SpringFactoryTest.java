@@ -11,6 +11,10 @@ import io.cucumber.spring.commonglue.OneStepDef;
 import io.cucumber.spring.commonglue.ThirdStepDef;
 import io.cucumber.spring.componentannotation.WithComponentAnnotation;
 import io.cucumber.spring.componentannotation.WithControllerAnnotation;
+import io.cucumber.spring.contextcaching.ContextCachingSteps;
+import io.cucumber.spring.contextcaching.CountingTestExecutionListener;
+import io.cucumber.spring.contextcaching.DirtiesContextCachingSteps;
+import io.cucumber.spring.contextcaching.UserDefinedSteps;
 import io.cucumber.spring.contextconfig.BellyStepdefs;
 import io.cucumber.spring.contextconfig.WithSpringAnnotations;
 import io.cucumber.spring.contexthierarchyconfig.WithContextHierarchyAnnotation;
@@ -19,12 +23,17 @@ import io.cucumber.spring.metaconfig.dirties.DirtiesContextBellyMetaStepDefs;
 import io.cucumber.spring.metaconfig.general.BellyMetaStepdefs;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
 
+import static io.cucumber.spring.CucumberTestContext.SCOPE_CUCUMBER_GLUE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -214,6 +223,93 @@ class SpringFactoryTest {
         );
     }
 
+    @Test
+    void shouldReuseTestContextManagerBetweenScenarios() {
+        final ObjectFactory factory = new SpringFactory();
+        factory.addClass(ContextCachingSteps.class);
+        final int instancesBefore = CountingTestExecutionListener.instances;
+
+        // Scenario 1
+        factory.start();
+        factory.getInstance(ContextCachingSteps.class);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        factory.getInstance(ContextCachingSteps.class);
+        factory.stop();
+
+        assertThat(CountingTestExecutionListener.instances - instancesBefore, is(1));
+    }
+
+    @Test
+    void shouldNotRegisterGlueAgainOnCachedContext() {
+        final ObjectFactory factory = new SpringFactory();
+        factory.addClass(ContextCachingSteps.class);
+
+        // Scenario 1
+        factory.start();
+        final ConfigurableListableBeanFactory beanFactory1 = factory.getInstance(ContextCachingSteps.class).getBeanFactory();
+        final BeanDefinition definition1 = beanFactory1.getBeanDefinition(ContextCachingSteps.class.getName());
+        final Scope scope1 = beanFactory1.getRegisteredScope(SCOPE_CUCUMBER_GLUE);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        final ConfigurableListableBeanFactory beanFactory2 = factory.getInstance(ContextCachingSteps.class).getBeanFactory();
+        final BeanDefinition definition2 = beanFactory2.getBeanDefinition(ContextCachingSteps.class.getName());
+        final Scope scope2 = beanFactory2.getRegisteredScope(SCOPE_CUCUMBER_GLUE);
+        factory.stop();
+
+        assertAll("Checking cached context",
+            () -> assertThat(beanFactory2, is(sameInstance(beanFactory1))),
+            () -> assertThat(definition2, is(sameInstance(definition1))),
+            () -> assertThat(scope2, is(sameInstance(scope1)))
+        );
+    }
+
+    @Test
+    void shouldRegisterGlueAgainAfterDirtiesContext() {
+        final ObjectFactory factory = new SpringFactory();
+        factory.addClass(DirtiesContextCachingSteps.class);
+
+        // Scenario 1
+        factory.start();
+        final ConfigurableListableBeanFactory beanFactory1 = factory.getInstance(DirtiesContextCachingSteps.class).getBeanFactory();
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        final ConfigurableListableBeanFactory beanFactory2 = factory.getInstance(DirtiesContextCachingSteps.class).getBeanFactory();
+        final BeanDefinition definition2 = beanFactory2.getBeanDefinition(DirtiesContextCachingSteps.class.getName());
+        final Scope scope2 = beanFactory2.getRegisteredScope(SCOPE_CUCUMBER_GLUE);
+        factory.stop();
+
+        assertAll("Checking new context",
+            () -> assertThat(beanFactory2, is(not(sameInstance(beanFactory1)))),
+            () -> assertThat(definition2.getScope(), is(SCOPE_CUCUMBER_GLUE)),
+            () -> assertThat(scope2, is(notNullValue()))
+        );
+    }
+
+    @Test
+    void shouldNotReplaceUserDefinedBeanNamedAfterStepClass() {
+        final ObjectFactory factory = new SpringFactory();
+        factory.addClass(UserDefinedSteps.class);
+
+        // Scenario 1
+        factory.start();
+        final UserDefinedSteps o1 = factory.getInstance(UserDefinedSteps.class);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        final UserDefinedSteps o2 = factory.getInstance(UserDefinedSteps.class);
+        factory.stop();
+
+        assertThat(o2, is(sameInstance(o1)));
+    }
+
     @Test
     void shouldRespectCustomPropertyPlaceholderConfigurer() {
         final ObjectFactory factory = new SpringFactory();
@@ -0,0 +1,21 @@
+package io.cucumber.spring.contextcaching;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
+
+@ContextConfiguration("classpath:cucumber.xml")
+@TestExecutionListeners(listeners = CountingTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
+public class ContextCachingSteps {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public ConfigurableListableBeanFactory getBeanFactory() {
+        return beanFactory;
+    }
+
+}
@@ -0,0 +1,14 @@
+package io.cucumber.spring.contextcaching;
+
+import org.springframework.test.context.TestExecutionListener;
+
+public class CountingTestExecutionListener implements TestExecutionListener {
+
+    public static int instances;
+
+    public CountingTestExecutionListener() {
+        // Created once for every test context manager
+        instances++;
+    }
+
+}
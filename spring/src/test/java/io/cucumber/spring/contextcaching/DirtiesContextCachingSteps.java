@@ -0,0 +1,19 @@
+package io.cucumber.spring.contextcaching;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+
+@ContextConfiguration("classpath:cucumber.xml")
+@DirtiesContext
+public class DirtiesContextCachingSteps {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public ConfigurableListableBeanFactory getBeanFactory() {
+        return beanFactory;
+    }
+
+}
@@ -0,0 +1,8 @@
+package io.cucumber.spring.contextcaching;
+
+import org.springframework.test.context.ContextConfiguration;
+
+@ContextConfiguration(classes = UserDefinedStepsConfiguration.class)
+public class UserDefinedSteps {
+
+}
@@ -0,0 +1,14 @@
+package io.cucumber.spring.contextcaching;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserDefinedStepsConfiguration {
+
+    @Bean(name = "io.cucumber.spring.contextcaching.UserDefinedSteps")
+    public UserDefinedSteps userDefinedSteps() {
+        return new UserDefinedSteps();
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.cucumber.testng;
+
+import org.apiguardian.api.API;
+import org.testng.ITestContext;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+
+/**
+ * Abstract TestNG Cucumber Test that runs scenarios in parallel.
+ * <p>
+ * Runs each cucumber scenario found in the features as separated test
+ * using a parallel {@link DataProvider}. The number of threads is set with
+ * {@code --threads}, otherwise the data provider thread count of the suite is
+ * used.
+ *
+ * @see AbstractTestNGCucumberTests
+ * @see Constants#EXECUTION_DURATIONS_FILE_PROPERTY_NAME
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public abstract class AbstractParallelTestNGCucumberTests extends AbstractTestNGCucumberTests {
+
+    /**
+     * Sets the data provider thread count to the number of threads
+     * configured with {@code --threads}, when more than one.
+     * <p>
+     * TestNG only supports a data provider thread count per suite. So this
+     * also applies to the parallel data providers of other classes in the
+     * same suite.
+     *
+     * @param context the TestNG test context
+     */
+    @BeforeClass(alwaysRun = true)
+    public void setDataProviderThreadCount(ITestContext context) {
+        int threads = getThreads();
+        if (threads > 1) {
+            context.getSuite().getXmlSuite().setDataProviderThreadCount(threads);
+        }
+    }
+
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
+}
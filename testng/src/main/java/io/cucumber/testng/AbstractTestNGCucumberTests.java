@@ -43,6 +43,13 @@ public abstract class AbstractTestNGCucumberTests {
         return testNGCucumberRunner.provideScenarios();
     }
 
+    /**
+     * @return the number of threads configured with {@code --threads}
+     */
+    int getThreads() {
+        return testNGCucumberRunner.getThreads();
+    }
+
     @AfterClass(alwaysRun = true)
     public void tearDownClass() {
         if (testNGCucumberRunner == null) {
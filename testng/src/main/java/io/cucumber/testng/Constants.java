@@ -0,0 +1,33 @@
+package io.cucumber.testng;
+
+import org.apiguardian.api.API;
+
+/**
+ * Properties specific to Cucumber TestNG.
+ * <p>
+ * Like the properties in {@link io.cucumber.core.options.Constants} these
+ * can be provided as system properties, environment variables or in the
+ * {@value io.cucumber.core.options.Constants#CUCUMBER_PROPERTIES_FILE_NAME}
+ * file.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class Constants {
+
+    /**
+     * Property name used to set the file with the durations of scenarios
+     * from previous runs: {@value}
+     * <p>
+     * When set, scenarios are provided longest first, so that the threads of
+     * a parallel data provider finish at roughly the same time. Scenarios
+     * that have not been executed before are provided first. After all
+     * scenarios have been executed the durations in the file are updated.
+     * <p>
+     * By default scenarios are provided in the order of their features.
+     */
+    public static final String EXECUTION_DURATIONS_FILE_PROPERTY_NAME = "cucumber.execution.durations-file";
+
+    private Constants() {
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package io.cucumber.testng;
+
+import io.cucumber.core.exception.CucumberException;
+import io.cucumber.core.feature.CucumberPickle;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.cucumber.testng.Constants.EXECUTION_DURATIONS_FILE_PROPERTY_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Durations of scenarios, in milliseconds, keyed by the uri and line of the
+ * scenario.
+ * <p>
+ * The file contains one scenario per line: the duration followed by a space
+ * and the key e.g. {@code 1250 classpath:com/example/app.feature:12}.
+ */
+final class ScenarioDurations {
+
+    private static final long UNKNOWN = Long.MAX_VALUE;
+
+    private final Path file;
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    private ScenarioDurations(Path file) {
+        this.file = file;
+    }
+
+    static ScenarioDurations fromProperties(Map<String, String> properties) {
+        String file = properties.get(EXECUTION_DURATIONS_FILE_PROPERTY_NAME);
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+        return load(Paths.get(file));
+    }
+
+    static ScenarioDurations load(Path file) {
+        ScenarioDurations scenarioDurations = new ScenarioDurations(file);
+        if (!Files.exists(file)) {
+            return scenarioDurations;
+        }
+        try {
+            for (String line : Files.readAllLines(file, UTF_8)) {
+                int separator = line.indexOf(' ');
+                if (separator < 0) {
+                    continue;
+                }
+                try {
+                    long duration = Long.parseLong(line.substring(0, separator));
+                    scenarioDurations.durations.put(line.substring(separator + 1), duration);
+                } catch (NumberFormatException ignored) {
+                    // Skip lines that were not written by us
+                }
+            }
+        } catch (IOException e) {
+            throw new CucumberException("Failed to read scenario durations from " + file, e);
+        }
+        return scenarioDurations;
+    }
+
+    /**
+     * Orders scenarios longest first. Scenarios with an unknown duration
+     * come before all others.
+     */
+    Comparator<CucumberPickle> longestFirst() {
+        return comparingLong(this::getDuration).reversed();
+    }
+
+    private long getDuration(CucumberPickle pickle) {
+        return durations.getOrDefault(key(pickle.getUri(), pickle.getLocation().getLine()), UNKNOWN);
+    }
+
+    void record(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        durations.put(key(testCase.getUri(), testCase.getLine()), event.getResult().getDuration().toMillis());
+    }
+
+    void save() {
+        List<String> lines = new TreeMap<>(durations).entrySet().stream()
+            .map(entry -> entry.getValue() + " " + entry.getKey())
+            .collect(toList());
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(file, lines, UTF_8);
+        } catch (IOException e) {
+            throw new CucumberException("Failed to write scenario durations to " + file, e);
+        }
+    }
+
+    private static String key(URI uri, int line) {
+        return uri + ":" + line;
+    }
+
+}
@@ -13,6 +13,7 @@ import io.cucumber.core.options.RuntimeOptions;
 import io.cucumber.core.plugin.PluginFactory;
 import io.cucumber.core.plugin.Plugins;
 import io.cucumber.core.resource.ClassLoaders;
+import io.cucumber.core.resource.JarFileSystemScope;
 import io.cucumber.core.runner.Runner;
 import io.cucumber.core.runtime.BackendServiceLoader;
 import io.cucumber.core.runtime.FeaturePathFeatureSupplier;
@@ -23,16 +24,23 @@ import io.cucumber.core.runtime.ThreadLocalObjectFactorySupplier;
 import io.cucumber.core.runtime.ThreadLocalRunnerSupplier;
 import io.cucumber.core.runtime.TimeServiceEventBus;
 import io.cucumber.core.runtime.TypeRegistryConfigurerSupplier;
+import io.cucumber.plugin.event.TestCaseFinished;
 import io.cucumber.plugin.event.TestRunFinished;
 import io.cucumber.plugin.event.TestRunStarted;
 import io.cucumber.plugin.event.TestSourceRead;
 import org.apiguardian.api.API;
 
 import java.time.Clock;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -56,6 +64,8 @@ public final class TestNGCucumberRunner {
     private final RuntimeOptions runtimeOptions;
     private final Plugins plugins;
     private final FeaturePathFeatureSupplier featureSupplier;
+    private final ScenarioDurations durations;
+    private final JarFileSystemScope jarFileSystemScope;
 
     /**
      * Bootstrap the cucumber runtime
@@ -94,6 +104,13 @@ public final class TestNGCucumberRunner {
         this.filters = new Filters(runtimeOptions);
         TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier = new ScanningTypeRegistryConfigurerSupplier(classLoader, runtimeOptions);
         this.runnerSupplier = new ThreadLocalRunnerSupplier(runtimeOptions, bus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier);
+        this.durations = ScenarioDurations.fromProperties(CucumberProperties.create());
+        if (durations != null) {
+            bus.registerHandlerFor(TestCaseFinished.class, durations::record);
+        }
+        // Features, glue and type registry configurers are scanned until the
+        // run is finished. Keep the jars they are scanned in open until then.
+        this.jarFileSystemScope = JarFileSystemScope.open();
     }
 
     public void runScenario(Pickle pickle) throws Throwable {
@@ -112,21 +129,32 @@ public final class TestNGCucumberRunner {
     }
 
     public void finish() {
-        bus.send(new TestRunFinished(bus.getInstant()));
+        try {
+            bus.send(new TestRunFinished(bus.getInstant()));
+            if (durations != null) {
+                durations.save();
+            }
+        } finally {
+            jarFileSystemScope.close();
+        }
+    }
+
+    /**
+     * @return the number of threads configured with {@code --threads}
+     */
+    int getThreads() {
+        return runtimeOptions.getThreads();
     }
 
     /**
      * @return returns the cucumber scenarios as a two dimensional array of {@link PickleWrapper}
-     * scenarios combined with their {@link FeatureWrapper} feature.
+     * scenarios combined with their {@link FeatureWrapper} feature. When
+     * {@value io.cucumber.testng.Constants#EXECUTION_DURATIONS_FILE_PROPERTY_NAME}
+     * is set the scenarios are ordered longest first.
      */
     public Object[][] provideScenarios() {
         try {
-            return getFeatures().stream()
-                .flatMap(feature -> feature.getPickles().stream()
-                    .filter(filters)
-                    .map(cucumberPickle -> new Object[]{
-                        new PickleWrapperImpl(new Pickle(cucumberPickle)),
-                        new FeatureWrapperImpl(feature)}))
+            return scenarios(getFeatures())
                 .collect(toList())
                 .toArray(new Object[0][0]);
         } catch (CucumberException e) {
@@ -134,6 +162,54 @@ public final class TestNGCucumberRunner {
         }
     }
 
+    /**
+     * Lazily provides the same scenarios as {@link #provideScenarios()}.
+     * <p>
+     * The features are parsed when this method is invoked but the wrappers
+     * for each scenario are only created when the iterator reaches them. Can
+     * be returned from a {@link org.testng.annotations.DataProvider} so TestNG
+     * can start the first scenario before all scenarios have been provided.
+     * <p>
+     * When the scenarios are ordered by duration all wrappers are created
+     * before the first scenario is provided.
+     *
+     * @return an iterator over pairs of {@link PickleWrapper} and {@link FeatureWrapper}
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public Iterator<Object[]> provideScenariosLazily() {
+        try {
+            List<CucumberFeature> features = getFeatures();
+            if (durations != null) {
+                return scenarios(features).iterator();
+            }
+            // Stream.flatMap().iterator() consumes the stream of a
+            // feature eagerly on Java 8, so iterate explicitly instead
+            return new ScenarioIterator(features.iterator(), filters);
+        } catch (CucumberException e) {
+            return singletonList(new Object[]{new CucumberExceptionWrapper(e), null}).iterator();
+        }
+    }
+
+    private Stream<Object[]> scenarios(List<CucumberFeature> features) {
+        Stream<Object[]> scenarios = features.stream()
+            .flatMap(feature -> {
+                FeatureWrapper featureWrapper = new FeatureWrapperImpl(feature);
+                return feature.getPickles().stream()
+                    .filter(filters)
+                    .map(cucumberPickle -> new Object[]{
+                        new PickleWrapperImpl(new Pickle(cucumberPickle)),
+                        featureWrapper});
+            });
+        if (durations == null) {
+            return scenarios;
+        }
+        return scenarios.sorted(comparing(TestNGCucumberRunner::getCucumberPickle, durations.longestFirst()));
+    }
+
+    private static CucumberPickle getCucumberPickle(Object[] scenario) {
+        return ((PickleWrapper) scenario[0]).getPickle().getCucumberPickle();
+    }
+
     private List<CucumberFeature> getFeatures() {
         plugins.setSerialEventBusOnEventListenerPlugins(bus);
 
@@ -144,4 +220,47 @@ public final class TestNGCucumberRunner {
         }
         return features;
     }
+
+    private static final class ScenarioIterator implements Iterator<Object[]> {
+
+        private final Iterator<CucumberFeature> features;
+        private final Predicate<CucumberPickle> filters;
+        private Iterator<CucumberPickle> pickles = emptyIterator();
+        private FeatureWrapper featureWrapper;
+        private CucumberPickle next;
+
+        ScenarioIterator(Iterator<CucumberFeature> features, Predicate<CucumberPickle> filters) {
+            this.features = features;
+            this.filters = filters;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (pickles.hasNext()) {
+                    CucumberPickle pickle = pickles.next();
+                    if (filters.test(pickle)) {
+                        next = pickle;
+                    }
+                } else if (features.hasNext()) {
+                    CucumberFeature feature = features.next();
+                    featureWrapper = new FeatureWrapperImpl(feature);
+                    pickles = feature.getPickles().iterator();
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] scenario = new Object[]{new PickleWrapperImpl(new Pickle(next)), featureWrapper};
+            next = null;
+            return scenario;
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package io.cucumber.testng;
+
+import org.testng.Assert;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+@Test
+public final class AbstractParallelTestNGCucumberTestsTest {
+
+    @Test
+    public void runsScenariosInParallelWithThreadsAsDataProviderThreadCount() {
+        ThreadsListener listener = runWithThreeThreads(RunFeatureWithThreeScenariosInParallelTest.class);
+
+        Assert.assertEquals(listener.dataProviderThreadCount, 3);
+        Assert.assertEquals(listener.invocations, 3, "runScenario() must be invoked three times");
+        Assert.assertTrue(listener.threads.size() > 1, "runScenario() must be invoked by more than one thread");
+    }
+
+    @Test
+    public void sequentialTestsDoNotChangeTheDataProviderThreadCount() {
+        ThreadsListener listener = runWithThreeThreads(RunFeatureWithThreeScenariosTest.class);
+
+        Assert.assertEquals(listener.dataProviderThreadCount, 10);
+        Assert.assertEquals(listener.invocations, 3, "runScenario() must be invoked three times");
+        Assert.assertEquals(listener.threads.size(), 1);
+    }
+
+    private static ThreadsListener runWithThreeThreads(Class<?> testClass) {
+        ThreadsListener listener = new ThreadsListener();
+        TestNG testNG = new TestNG();
+        testNG.addListener((ITestNGListener) listener);
+        testNG.setGroups("cucumber");
+        testNG.setTestClasses(new Class[]{testClass});
+        System.setProperty("cucumber.options", "--threads 3");
+        try {
+            testNG.run();
+        } finally {
+            System.clearProperty("cucumber.options");
+        }
+        return listener;
+    }
+
+    private static final class ThreadsListener implements IInvokedMethodListener, ISuiteListener {
+
+        private final Set<String> threads = Collections.synchronizedSet(new HashSet<>());
+        private volatile int invocations;
+        private int dataProviderThreadCount;
+
+        @Override
+        public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+            if (method.isTestMethod()) {
+                threads.add(Thread.currentThread().getName());
+            }
+        }
+
+        @Override
+        public synchronized void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+            if (method.isTestMethod()) {
+                invocations++;
+            }
+        }
+
+        @Override
+        public void onStart(ISuite suite) {
+        }
+
+        @Override
+        public void onFinish(ISuite suite) {
+            dataProviderThreadCount = suite.getXmlSuite().getDataProviderThreadCount();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.cucumber.testng;
+
+
+@CucumberOptions(
+    features = "classpath:io/cucumber/testng/three_scenarios.feature"
+)
+public class RunFeatureWithThreeScenariosInParallelTest extends AbstractParallelTestNGCucumberTests {
+}
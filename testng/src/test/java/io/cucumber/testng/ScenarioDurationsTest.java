@@ -0,0 +1,103 @@
+package io.cucumber.testng;
+
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.feature.CucumberPickle;
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.resource.Resource;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class ScenarioDurationsTest {
+
+    private static final String SOURCE = "" +
+        "Feature: A feature\n" +
+        "\n" +
+        "  Scenario: short\n" +
+        "    Given foo\n" +
+        "\n" +
+        "  Scenario: long\n" +
+        "    Given foo\n" +
+        "\n" +
+        "  Scenario: new\n" +
+        "    Given foo\n";
+
+    private List<CucumberPickle> pickles;
+    private Path file;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        CucumberFeature feature = FeatureParser.parseResource(new Resource() {
+            @Override
+            public URI getUri() {
+                return URI.create("classpath:com/example.feature");
+            }
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(SOURCE.getBytes(UTF_8));
+            }
+        });
+        pickles = feature.getPickles();
+        file = Files.createTempDirectory("cucumber").resolve("durations.txt");
+    }
+
+    @Test
+    public void orders_scenarios_longest_first_and_unknown_scenarios_first() throws IOException {
+        Files.write(file, asList(
+            "10 classpath:com/example.feature:3",
+            "30 classpath:com/example.feature:6"
+        ), UTF_8);
+
+        ScenarioDurations durations = ScenarioDurations.load(file);
+
+        assertEquals(names(durations), asList("new", "long", "short"));
+    }
+
+    @Test
+    public void keeps_order_of_scenarios_without_durations() {
+        ScenarioDurations durations = ScenarioDurations.load(file);
+
+        assertEquals(names(durations), asList("short", "long", "new"));
+    }
+
+    @Test
+    public void saves_durations() throws IOException {
+        List<String> lines = asList(
+            "10 classpath:com/example.feature:3",
+            "30 classpath:com/example.feature:6"
+        );
+        Files.write(file, lines, UTF_8);
+
+        ScenarioDurations.load(file).save();
+
+        assertEquals(Files.readAllLines(file, UTF_8), lines);
+    }
+
+    @Test
+    public void is_not_used_without_durations_file() {
+        assertNull(ScenarioDurations.fromProperties(singletonMap("cucumber.glue", "com.example")));
+    }
+
+    private List<String> names(ScenarioDurations durations) {
+        return pickles.stream()
+            .sorted(durations.longestFirst())
+            .map(CucumberPickle::getName)
+            .collect(toList());
+    }
+
+}
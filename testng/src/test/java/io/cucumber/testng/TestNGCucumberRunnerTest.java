@@ -5,6 +5,11 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
 import static org.testng.Assert.assertThrows;
 
 public class TestNGCucumberRunnerTest {
@@ -25,6 +30,47 @@ public class TestNGCucumberRunnerTest {
         }
     }
 
+    @Test
+    public void provideScenariosLazily() {
+        testNGCucumberRunner = new TestNGCucumberRunner(RunCucumberTest.class);
+        Object[][] scenarios = testNGCucumberRunner.provideScenarios();
+
+        testNGCucumberRunner = new TestNGCucumberRunner(RunCucumberTest.class);
+        Iterator<Object[]> lazyScenarios = testNGCucumberRunner.provideScenariosLazily();
+
+        for (Object[] scenario : scenarios) {
+            Assert.assertTrue(lazyScenarios.hasNext());
+            Object[] lazyScenario = lazyScenarios.next();
+            Assert.assertEquals(lazyScenario[0].toString(), scenario[0].toString());
+            Assert.assertEquals(lazyScenario[1].toString(), scenario[1].toString());
+        }
+        Assert.assertFalse(lazyScenarios.hasNext());
+    }
+
+    @Test
+    public void provideScenariosLazilySharesFeatureWrappers() {
+        testNGCucumberRunner = new TestNGCucumberRunner(RunCucumberTest.class);
+        Iterator<Object[]> lazyScenarios = testNGCucumberRunner.provideScenariosLazily();
+
+        Map<String, Object> featureWrappers = new HashMap<>();
+        while (lazyScenarios.hasNext()) {
+            Object featureWrapper = lazyScenarios.next()[1];
+            Object previous = featureWrappers.putIfAbsent(featureWrapper.toString(), featureWrapper);
+            if (previous != null) {
+                Assert.assertSame(featureWrapper, previous);
+            }
+        }
+        assertThrows(NoSuchElementException.class, lazyScenarios::next);
+    }
+
+    @Test
+    public void parse_error_propagated_to_testng_test_execution_lazily() {
+        testNGCucumberRunner = new TestNGCucumberRunner(ParseError.class);
+        Iterator<Object[]> scenarios = testNGCucumberRunner.provideScenariosLazily(); // a CucumberException is caught
+        PickleWrapper pickleWrapper = (PickleWrapper) scenarios.next()[0];
+        assertThrows(CucumberException.class, pickleWrapper::getPickle);
+    }
+
     @Test
     public void runScenarioWithUndefinedStepsStrict() {
         testNGCucumberRunner = new TestNGCucumberRunner(RunScenarioWithUndefinedStepsStrict.class);
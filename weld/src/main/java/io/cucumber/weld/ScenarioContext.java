@@ -0,0 +1,98 @@
+package io.cucumber.weld;
+
+import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.spi.AlterableContext;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Context for {@link ScenarioScoped} beans. Active between the start and
+ * stop of a scenario.
+ * <p>
+ * Intentionally duplicated in the cdi2 module. The modules do not depend
+ * on each other and each provides its own scope annotation.
+ */
+final class ScenarioContext implements AlterableContext {
+
+    private final Map<Contextual<?>, ScenarioInstance<?>> instances = new HashMap<>();
+    private boolean active;
+
+    @Override
+    public Class<? extends Annotation> getScope() {
+        return ScenarioScoped.class;
+    }
+
+    @Override
+    public synchronized <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        requireActive();
+        @SuppressWarnings("unchecked")
+        ScenarioInstance<T> instance = (ScenarioInstance<T>) instances.get(contextual);
+        if (instance == null) {
+            instance = new ScenarioInstance<>(contextual, creationalContext);
+            instances.put(contextual, instance);
+        }
+        return instance.instance;
+    }
+
+    @Override
+    public synchronized <T> T get(Contextual<T> contextual) {
+        requireActive();
+        @SuppressWarnings("unchecked")
+        ScenarioInstance<T> instance = (ScenarioInstance<T>) instances.get(contextual);
+        return instance == null ? null : instance.instance;
+    }
+
+    @Override
+    public synchronized void destroy(Contextual<?> contextual) {
+        requireActive();
+        ScenarioInstance<?> instance = instances.remove(contextual);
+        if (instance != null) {
+            instance.destroy();
+        }
+    }
+
+    @Override
+    public synchronized boolean isActive() {
+        return active;
+    }
+
+    synchronized void activate() {
+        active = true;
+    }
+
+    synchronized void deactivate() {
+        List<ScenarioInstance<?>> destroyed = new ArrayList<>(instances.values());
+        instances.clear();
+        active = false;
+        destroyed.forEach(ScenarioInstance::destroy);
+    }
+
+    private void requireActive() {
+        if (!active) {
+            throw new ContextNotActiveException("The scenario context is only active while a scenario is executed");
+        }
+    }
+
+    private static final class ScenarioInstance<T> {
+
+        private final Contextual<T> contextual;
+        private final CreationalContext<T> creationalContext;
+        private final T instance;
+
+        private ScenarioInstance(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+            this.contextual = contextual;
+            this.creationalContext = creationalContext;
+            this.instance = contextual.create(creationalContext);
+        }
+
+        private void destroy() {
+            contextual.destroy(instance, creationalContext);
+        }
+    }
+
+}
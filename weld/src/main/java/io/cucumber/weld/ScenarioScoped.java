@@ -0,0 +1,30 @@
+package io.cucumber.weld;
+
+import org.apiguardian.api.API;
+
+import javax.enterprise.context.NormalScope;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Specifies that a bean is scenario scoped.
+ * <p>
+ * A new instance of the bean is created for each scenario. Unlike beans in
+ * the application scope, scenario scoped beans are not shared between
+ * scenarios when the container is reused.
+ */
+@Target({TYPE, METHOD, FIELD})
+@Retention(RUNTIME)
+@Documented
+@Inherited
+@NormalScope
+@API(status = API.Status.EXPERIMENTAL)
+public @interface ScenarioScoped {
+}
@@ -4,10 +4,20 @@ import io.cucumber.core.backend.CucumberBackendException;
 import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.logging.Logger;
 import io.cucumber.core.logging.LoggerFactory;
+import io.cucumber.core.options.CucumberProperties;
 import org.apiguardian.api.API;
 import org.jboss.weld.environment.se.Weld;
 import org.jboss.weld.environment.se.WeldContainer;
 
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 @API(status = API.Status.STABLE)
 public final class WeldFactory implements ObjectFactory {
 
@@ -29,12 +39,37 @@ public final class WeldFactory implements ObjectFactory {
         "this message, it means your weld container didn't shut down properly. It's a Weld bug\n" +
         "and we can't do much to fix it in Cucumber-JVM.\n";
 
+    static final String WELD_REUSE_CONTAINER_KEY = "weld.reuse-container";
+
+    private final boolean reuseContainer;
+    private final ScenarioScopeExtension scenarioScope = new ScenarioScopeExtension();
+    private final List<Runnable> dependentInstances = new ArrayList<>();
     private WeldContainer containerInstance;
 
+    public WeldFactory() {
+        this(CucumberProperties.create());
+    }
+
+    WeldFactory(Map<String, String> properties) {
+        this.reuseContainer = Boolean.parseBoolean(properties.get(WELD_REUSE_CONTAINER_KEY));
+    }
+
     @Override
     public void start() {
+        if (!reuseContainer) {
+            containerInstance = initialize(new Weld());
+        } else if (containerInstance == null) {
+            // Containers are reused by a single runner, runners must not share an id
+            containerInstance = initialize(new Weld("cucumber-" + UUID.randomUUID()));
+            WeldContainer container = containerInstance;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> close(container)));
+        }
+        scenarioScope.getContext().activate();
+    }
+
+    private WeldContainer initialize(Weld weld) {
         try {
-            containerInstance = new Weld().initialize();
+            return weld.addExtension(scenarioScope).initialize();
         } catch (IllegalArgumentException e) {
             throw new CucumberBackendException(START_EXCEPTION_MESSAGE, e);
         }
@@ -42,6 +77,18 @@ public final class WeldFactory implements ObjectFactory {
 
     @Override
     public void stop() {
+        // A reused container outlives the scenario, its dependent instances don't
+        for (Runnable destroy : dependentInstances) {
+            destroy.run();
+        }
+        dependentInstances.clear();
+        scenarioScope.getContext().deactivate();
+        if (!reuseContainer) {
+            close(containerInstance);
+        }
+    }
+
+    private static void close(WeldContainer containerInstance) {
         try {
             if (containerInstance.isRunning()) {
                 containerInstance.close();
@@ -58,7 +105,18 @@ public final class WeldFactory implements ObjectFactory {
 
     @Override
     public <T> T getInstance(Class<T> type) {
-        return containerInstance.select(type).get();
+        Instance<T> selected = containerInstance.select(type);
+        T instance = selected.get();
+        if (reuseContainer && isDependent(type)) {
+            dependentInstances.add(() -> selected.destroy(instance));
+        }
+        return instance;
+    }
+
+    private boolean isDependent(Class<?> type) {
+        BeanManager beanManager = containerInstance.getBeanManager();
+        Bean<?> bean = beanManager.resolve(beanManager.getBeans(type));
+        return bean != null && Dependent.class.equals(bean.getScope());
     }
 
 }
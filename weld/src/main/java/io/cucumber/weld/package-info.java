@@ -3,5 +3,13 @@
  * <p>
  * By including the <code>cucumber-weld</code> on your <code>CLASSPATH</code> your step definitions will be
  * instantiated by Weld.
+ * <p>
+ * By default a new Weld container is started for each scenario. To start the
+ * container once and reuse it for all scenarios executed by the same runner
+ * set the property <code>weld.reuse-container=true</code> in
+ * <code>cucumber.properties</code>, as an environment variable or as a system
+ * property. Beans in the application scope will then be shared between
+ * scenarios. Beans that should be created for each scenario can be annotated
+ * with {@link io.cucumber.weld.ScenarioScoped}.
  */
 package io.cucumber.weld;
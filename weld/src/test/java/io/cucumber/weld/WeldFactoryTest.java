@@ -7,12 +7,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static io.cucumber.weld.WeldFactory.WELD_REUSE_CONTAINER_KEY;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 class WeldFactoryTest {
@@ -53,6 +56,55 @@ class WeldFactoryTest {
         );
     }
 
+    @Test
+    void shouldReuseContainerAndGiveUsNewScenarioScopedInstancesForEachScenario() {
+
+        final ObjectFactory factory = new WeldFactory(singletonMap(WELD_REUSE_CONTAINER_KEY, "true"));
+        factory.addClass(BellyStepdefs.class);
+
+        // Scenario 1
+        factory.start();
+        final BellyStepdefs o1 = factory.getInstance(BellyStepdefs.class);
+        factory.getInstance(ScenarioScopedBelly.class).setCukes(12);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        final BellyStepdefs o2 = factory.getInstance(BellyStepdefs.class);
+        final int cukes = factory.getInstance(ScenarioScopedBelly.class).getCukes();
+        factory.stop();
+
+        assertAll("Checking reused container",
+            () -> assertThat(o1, is(sameInstance(o2))),
+            () -> assertThat(cukes, is(0))
+        );
+    }
+
+    @Test
+    void shouldDestroyDependentInstancesForEachScenarioWhenReusingContainer() {
+
+        final ObjectFactory factory = new WeldFactory(singletonMap(WELD_REUSE_CONTAINER_KEY, "true"));
+        factory.addClass(DependentBelly.class);
+        DependentBelly.destroyed = 0;
+
+        // Scenario 1
+        factory.start();
+        factory.getInstance(DependentBelly.class);
+        factory.stop();
+        final int destroyedAfterScenario1 = DependentBelly.destroyed;
+
+        // Scenario 2
+        factory.start();
+        factory.getInstance(DependentBelly.class);
+        factory.stop();
+        final int destroyedAfterScenario2 = DependentBelly.destroyed;
+
+        assertAll("Checking destroyed dependent instances",
+            () -> assertThat(destroyedAfterScenario1, is(1)),
+            () -> assertThat(destroyedAfterScenario2, is(2))
+        );
+    }
+
     @Test
     void stopCalledWithoutStart() {
         ObjectFactory factory = new WeldFactory();